@@ -0,0 +1,111 @@
+package com.devsync.config;
+
+import com.devsync.datasource.ReadYourWritesGuard;
+import com.devsync.datasource.ReplicaLagMonitor;
+import com.devsync.datasource.ReplicaProperties;
+import com.devsync.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-replica routing, enabled with {@code datasource.routing.enabled=true}.
+ * The primary pool is still configured through {@code spring.datasource};
+ * replicas are listed under {@code datasource.routing.replicas}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(ReplicaProperties properties, HikariDataSource primaryDataSource,
+                                     MeterRegistry meterRegistry) {
+        List<ReplicaProperties.Replica> replicas = properties.getReplicas();
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaProperties.Replica replica = replicas.get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            // Replicas inherit the primary's pool tuning so Hibernate sees the same connection state
+            pool.setAutoCommit(primaryDataSource.isAutoCommit());
+            pool.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            pool.setMaxLifetime(primaryDataSource.getMaxLifetime());
+            pool.setKeepaliveTime(primaryDataSource.getKeepaliveTime());
+            pool.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            pool.setMetricRegistry(meterRegistry);
+            // Do not fail startup if a replica is down; the lag monitor keeps it out of rotation
+            pool.setInitializationFailTimeout(-1);
+            pools.put(pool.getPoolName(), pool);
+        }
+        return new ReplicaPools(pools);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaPools replicaPools, ReplicaProperties properties,
+                                               MeterRegistry meterRegistry) {
+        // Until the first check completes no replica is eligible and reads stay on the primary
+        return new ReplicaLagMonitor(new LinkedHashMap<>(replicaPools.pools), properties.getMaxLagMs(), meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(ReplicaProperties properties, ReplicaLagMonitor lagMonitor) {
+        return new ReadYourWritesGuard(properties.getReadYourWritesMs(), lagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPools replicaPools,
+                                 ReplicaLagMonitor lagMonitor, ReadYourWritesGuard readYourWritesGuard,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagMonitor, readYourWritesGuard, meterRegistry);
+        Map<Object, Object> targets = new HashMap<>(replicaPools.pools);
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Holder for the replica pools so they are closed with the context.
+     */
+    public static class ReplicaPools implements AutoCloseable {
+        private final Map<String, HikariDataSource> pools;
+
+        ReplicaPools(Map<String, HikariDataSource> pools) {
+            this.pools = pools;
+        }
+
+        @Override
+        public void close() {
+            pools.values().forEach(HikariDataSource::close);
+        }
+    }
+}
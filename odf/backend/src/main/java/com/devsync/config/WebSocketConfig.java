@@ -1,6 +1,15 @@
 package com.devsync.config;
 
+import com.devsync.metrics.StompMetricsInterceptor;
+import com.devsync.ratelimit.ClientAddressHandshakeInterceptor;
+import com.devsync.ratelimit.RateLimiter;
+import com.devsync.ratelimit.StompRateLimitInterceptor;
+import com.devsync.security.StompAuthenticationInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -10,6 +19,17 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Bean
+    public StompAuthenticationInterceptor stompAuthenticationInterceptor() {
+        return new StompAuthenticationInterceptor();
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");
@@ -20,7 +40,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
+                .addInterceptors(new ClientAddressHandshakeInterceptor())
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Rate limiting first, so dropped frames cost nothing further
+        registration.interceptors(new StompRateLimitInterceptor(rateLimiter),
+                stompAuthenticationInterceptor(),
+                new StompMetricsInterceptor(meterRegistry, "inbound"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new StompMetricsInterceptor(meterRegistry, "outbound"));
+    }
+}
@@ -8,6 +8,9 @@ import com.devsync.model.User;
 import com.devsync.repository.UserRepository;
 import com.devsync.security.JwtUtils;
 import com.devsync.security.UserPrincipal;
+import com.devsync.service.SessionRegistry;
+import com.devsync.service.UserDirectory;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -34,17 +37,26 @@ public class AuthController {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    UserDirectory userDirectory;
+
+    @Autowired
+    SessionRegistry sessionRegistry;
+
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                              HttpServletRequest request) {
 
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = jwtUtils.generateJwtToken(authentication);
-
         UserPrincipal userDetails = (UserPrincipal) authentication.getPrincipal();
 
+        String sessionId = sessionRegistry.createSession(userDetails.getId(),
+                request.getHeader("User-Agent"), request.getRemoteAddr());
+        String jwt = jwtUtils.generateJwtToken(authentication, sessionId);
+
         return ResponseEntity.ok(new JwtResponse(jwt,
                 userDetails.getId(),
                 userDetails.getName(),
@@ -65,6 +77,7 @@ public class AuthController {
                 encoder.encode(signUpRequest.getPassword()));
 
         userRepository.save(user);
+        userDirectory.register(user.getId(), user.getName(), user.getEmail());
 
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
@@ -0,0 +1,26 @@
+package com.devsync.controller;
+
+import com.devsync.dto.BootstrapSnapshot;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.BootstrapService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/bootstrap")
+public class BootstrapController {
+    @Autowired
+    BootstrapService bootstrapService;
+
+    /**
+     * Launch snapshot. Pass the {@code version} from the previous response as
+     * {@code since} to receive only what changed.
+     */
+    @GetMapping
+    public BootstrapSnapshot bootstrap(@AuthenticationPrincipal UserPrincipal principal,
+                                       @RequestParam(required = false) String since) {
+        return bootstrapService.bootstrap(principal.getId(), since);
+    }
+}
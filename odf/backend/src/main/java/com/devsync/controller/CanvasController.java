@@ -0,0 +1,56 @@
+package com.devsync.controller;
+
+import com.devsync.dto.CanvasDocument;
+import com.devsync.dto.CanvasOpAck;
+import com.devsync.dto.CanvasOpFeed;
+import com.devsync.dto.CanvasOpRequest;
+import com.devsync.dto.CanvasSummary;
+import com.devsync.dto.CreateCanvasRequest;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.CanvasService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/canvases")
+public class CanvasController {
+    @Autowired
+    CanvasService canvasService;
+
+    @PostMapping
+    public CanvasSummary create(@AuthenticationPrincipal UserPrincipal principal,
+                                @Valid @RequestBody CreateCanvasRequest request) {
+        return canvasService.create(principal, request);
+    }
+
+    @GetMapping
+    public List<CanvasSummary> list(@AuthenticationPrincipal UserPrincipal principal,
+                                    @RequestParam(required = false) Long workspaceId) {
+        return canvasService.list(principal.getId(), workspaceId);
+    }
+
+    @GetMapping("/{canvasId}")
+    public CanvasDocument load(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long canvasId) {
+        return canvasService.load(principal.getId(), canvasId);
+    }
+
+    @GetMapping("/{canvasId}/ops")
+    public CanvasOpFeed ops(@AuthenticationPrincipal UserPrincipal principal,
+                            @PathVariable Long canvasId,
+                            @RequestParam long since,
+                            @RequestParam(defaultValue = "500") int limit) {
+        return canvasService.getOps(principal.getId(), canvasId, since, limit);
+    }
+
+    @PostMapping("/{canvasId}/ops")
+    public List<CanvasOpAck> apply(@AuthenticationPrincipal UserPrincipal principal,
+                                   @PathVariable Long canvasId,
+                                   @RequestBody List<CanvasOpRequest> ops) {
+        return canvasService.apply(principal, canvasId, ops);
+    }
+}
@@ -0,0 +1,51 @@
+package com.devsync.controller;
+
+import com.devsync.dto.CanvasOpAck;
+import com.devsync.dto.CanvasOpRequest;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.CanvasService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Canvas edits over STOMP. Editors send operation batches to
+ * /app/canvases/{id}/ops, receive acks on /user/queue/canvas-acks and
+ * everyone's applied operations on /topic/canvases/{id}.
+ */
+@Controller
+public class CanvasSocketController {
+    @Autowired
+    CanvasService canvasService;
+
+    @MessageMapping("/canvases/{canvasId}/ops")
+    @SendToUser(destinations = "/queue/canvas-acks", broadcast = false)
+    public List<CanvasOpAck> apply(@DestinationVariable Long canvasId,
+                                   @Payload List<CanvasOpRequest> ops,
+                                   Principal principal) {
+        return canvasService.apply(currentUser(principal), canvasId, ops);
+    }
+
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public String handleException(Exception e) {
+        return e.getMessage();
+    }
+
+    private static UserPrincipal currentUser(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal user) {
+            return user;
+        }
+        throw new AccessDeniedException("STOMP session is not authenticated");
+    }
+}
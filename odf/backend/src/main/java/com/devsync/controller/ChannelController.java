@@ -0,0 +1,117 @@
+package com.devsync.controller;
+
+import com.devsync.dto.BulkMembershipRequest;
+import com.devsync.dto.BulkMembershipResult;
+import com.devsync.dto.ChannelMetadata;
+import com.devsync.dto.ChannelSummary;
+import com.devsync.dto.RetentionRequest;
+import com.devsync.dto.TopicRequest;
+import com.devsync.dto.UserListItem;
+import com.devsync.dto.MessageResponse;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.ChannelService;
+import com.devsync.service.MembershipService;
+import com.devsync.service.RetentionService;
+import com.devsync.web.ConditionalResponseCache;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/channels")
+public class ChannelController {
+    @Autowired
+    ChannelService channelService;
+
+    @Autowired
+    MembershipService membershipService;
+
+    @Autowired
+    RetentionService retentionService;
+
+    @Autowired
+    ConditionalResponseCache responseCache;
+
+    @GetMapping("/{channelId}")
+    public ResponseEntity<byte[]> get(@AuthenticationPrincipal UserPrincipal principal,
+                                      @PathVariable Long channelId,
+                                      WebRequest request) {
+        return responseCache.respond(request, "channel:" + channelId,
+                channelService.channelVersion(principal.getId(), channelId),
+                () -> channelService.getChannel(channelId));
+    }
+
+    @GetMapping("/{channelId}/metadata")
+    public ChannelMetadata metadata(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long channelId) {
+        return channelService.getMetadata(principal.getId(), channelId);
+    }
+
+    @PutMapping("/{channelId}/topic")
+    public ChannelSummary setTopic(@AuthenticationPrincipal UserPrincipal principal,
+                                   @PathVariable Long channelId,
+                                   @Valid @RequestBody TopicRequest request) {
+        return channelService.setTopic(principal, channelId, request.getTopic());
+    }
+
+    @PutMapping("/{channelId}/retention")
+    public ResponseEntity<?> setRetention(@AuthenticationPrincipal UserPrincipal principal,
+                                          @PathVariable Long channelId,
+                                          @Valid @RequestBody RetentionRequest request) {
+        retentionService.setChannelRetention(principal, channelId, request.getDays());
+        return ResponseEntity.ok(new MessageResponse("Retention updated"));
+    }
+
+    @PutMapping("/{channelId}/archive")
+    public ChannelSummary archive(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long channelId) {
+        return channelService.setArchived(principal, channelId, true);
+    }
+
+    @DeleteMapping("/{channelId}/archive")
+    public ChannelSummary unarchive(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long channelId) {
+        return channelService.setArchived(principal, channelId, false);
+    }
+
+    @GetMapping("/{channelId}/members")
+    public List<UserListItem> members(@AuthenticationPrincipal UserPrincipal principal,
+                                      @PathVariable Long channelId,
+                                      @RequestParam(required = false) Long after,
+                                      @RequestParam(defaultValue = "100") int limit) {
+        return channelService.listMembers(principal.getId(), channelId, after, limit);
+    }
+
+    @PutMapping("/{channelId}/members/{userId}")
+    public ResponseEntity<?> addMember(@AuthenticationPrincipal UserPrincipal principal,
+                                       @PathVariable Long channelId, @PathVariable Long userId) {
+        boolean added = channelService.addMember(principal, channelId, userId);
+        return ResponseEntity.ok(new MessageResponse(added ? "Member added" : "Already a member"));
+    }
+
+    @DeleteMapping("/{channelId}/members/{userId}")
+    public ResponseEntity<?> removeMember(@AuthenticationPrincipal UserPrincipal principal,
+                                          @PathVariable Long channelId, @PathVariable Long userId) {
+        if (!channelService.removeMember(principal, channelId, userId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new MessageResponse("Member removed"));
+    }
+
+    @PostMapping("/{channelId}/members/bulk-add")
+    public BulkMembershipResult addMembers(@AuthenticationPrincipal UserPrincipal principal,
+                                           @PathVariable Long channelId,
+                                           @Valid @RequestBody BulkMembershipRequest request) {
+        return membershipService.addChannelMembers(principal, channelId, request.getUserIds());
+    }
+
+    @PostMapping("/{channelId}/members/bulk-remove")
+    public BulkMembershipResult removeMembers(@AuthenticationPrincipal UserPrincipal principal,
+                                              @PathVariable Long channelId,
+                                              @Valid @RequestBody BulkMembershipRequest request) {
+        return membershipService.removeChannelMembers(principal, channelId, request.getUserIds());
+    }
+}
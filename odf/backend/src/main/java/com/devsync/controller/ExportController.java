@@ -0,0 +1,47 @@
+package com.devsync.controller;
+
+import com.devsync.dto.WorkspaceExportView;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.WorkspaceExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api")
+public class ExportController {
+    @Autowired
+    WorkspaceExportService exportService;
+
+    @PostMapping("/workspaces/{workspaceId}/exports")
+    public ResponseEntity<WorkspaceExportView> requestExport(@AuthenticationPrincipal UserPrincipal principal,
+                                                             @PathVariable Long workspaceId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportService.requestExport(principal, workspaceId));
+    }
+
+    @GetMapping("/exports/{exportId}")
+    public WorkspaceExportView status(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long exportId) {
+        return exportService.getExport(principal, exportId);
+    }
+
+    @GetMapping("/exports/{exportId}/download")
+    public ResponseEntity<Resource> download(@AuthenticationPrincipal UserPrincipal principal,
+                                             @PathVariable Long exportId) {
+        Path archive = exportService.getArchive(principal, exportId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(archive.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(archive));
+    }
+}
@@ -0,0 +1,95 @@
+package com.devsync.controller;
+
+import com.devsync.dto.BulkItemUpdateRequest;
+import com.devsync.dto.CreateListRequest;
+import com.devsync.dto.ItemIdsRequest;
+import com.devsync.dto.ListBoard;
+import com.devsync.dto.ListItemPage;
+import com.devsync.dto.ListItemRequest;
+import com.devsync.dto.ListItemView;
+import com.devsync.dto.ListSummary;
+import com.devsync.dto.MessageResponse;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.ListService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/lists")
+public class ListController {
+    @Autowired
+    ListService listService;
+
+    @PostMapping
+    public ListSummary create(@AuthenticationPrincipal UserPrincipal principal,
+                              @Valid @RequestBody CreateListRequest request) {
+        return listService.create(principal, request);
+    }
+
+    @GetMapping
+    public List<ListSummary> list(@AuthenticationPrincipal UserPrincipal principal,
+                                  @RequestParam(required = false) Long workspaceId) {
+        return listService.list(principal.getId(), workspaceId);
+    }
+
+    @GetMapping("/{listId}/board")
+    public ListBoard board(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long listId) {
+        return listService.board(principal.getId(), listId);
+    }
+
+    @GetMapping("/{listId}/items")
+    public ListItemPage items(@AuthenticationPrincipal UserPrincipal principal,
+                              @PathVariable Long listId,
+                              @RequestParam(required = false) String status,
+                              @RequestParam(required = false) String assignee,
+                              @RequestParam(defaultValue = "created") String sort,
+                              @RequestParam(required = false) String after,
+                              @RequestParam(defaultValue = "50") int limit) {
+        return listService.items(principal.getId(), listId, status, assignee, sort, after, limit);
+    }
+
+    @PostMapping("/{listId}/items")
+    public ListItemView addItem(@AuthenticationPrincipal UserPrincipal principal,
+                                @PathVariable Long listId,
+                                @Valid @RequestBody ListItemRequest request) {
+        return listService.addItem(principal, listId, request);
+    }
+
+    @PutMapping("/{listId}/items/{itemId}")
+    public ListItemView updateItem(@AuthenticationPrincipal UserPrincipal principal,
+                                   @PathVariable Long listId,
+                                   @PathVariable Long itemId,
+                                   @Valid @RequestBody ListItemRequest request) {
+        return listService.updateItem(principal, listId, itemId, request);
+    }
+
+    @DeleteMapping("/{listId}/items/{itemId}")
+    public ResponseEntity<?> deleteItem(@AuthenticationPrincipal UserPrincipal principal,
+                                        @PathVariable Long listId,
+                                        @PathVariable Long itemId) {
+        if (!listService.deleteItem(principal, listId, itemId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new MessageResponse("Item deleted"));
+    }
+
+    @PostMapping("/{listId}/items/bulk")
+    public ListBoard bulkUpdate(@AuthenticationPrincipal UserPrincipal principal,
+                                @PathVariable Long listId,
+                                @Valid @RequestBody BulkItemUpdateRequest request) {
+        return listService.bulkUpdate(principal, listId, request);
+    }
+
+    @PostMapping("/{listId}/items/bulk-delete")
+    public ListBoard bulkDelete(@AuthenticationPrincipal UserPrincipal principal,
+                                @PathVariable Long listId,
+                                @Valid @RequestBody ItemIdsRequest request) {
+        return listService.bulkDelete(principal, listId, request.getIds());
+    }
+}
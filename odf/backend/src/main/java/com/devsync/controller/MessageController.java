@@ -0,0 +1,129 @@
+package com.devsync.controller;
+
+import com.devsync.dto.ChatMessage;
+import com.devsync.dto.EditMessageRequest;
+import com.devsync.dto.MessagePage;
+import com.devsync.dto.MessageResponse;
+import com.devsync.dto.ReactionPayload;
+import com.devsync.dto.ReactionRequest;
+import com.devsync.dto.SendMessageRequest;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.MessageService;
+import com.devsync.web.ConditionalResponseCache;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api")
+public class MessageController {
+    @Autowired
+    MessageService messageService;
+
+    @Autowired
+    ConditionalResponseCache responseCache;
+
+    @PostMapping("/channels/{channelId}/messages")
+    public ChatMessage sendMessage(@AuthenticationPrincipal UserPrincipal principal,
+                                   @PathVariable Long channelId,
+                                   @Valid @RequestBody SendMessageRequest request) {
+        return messageService.sendMessage(principal, channelId, request.getContent(), request.getParentMessageId());
+    }
+
+    @GetMapping("/channels/{channelId}/messages")
+    public List<ChatMessage> history(@AuthenticationPrincipal UserPrincipal principal,
+                                     @PathVariable Long channelId,
+                                     @RequestParam(required = false) Long before,
+                                     @RequestParam(defaultValue = "50") int limit) {
+        return messageService.getHistory(principal.getId(), channelId, before, limit);
+    }
+
+    /**
+     * History in the compact format: senders in a side table, epoch-millisecond
+     * timestamps and no default fields.
+     */
+    @GetMapping(value = "/channels/{channelId}/messages", params = "format=compact")
+    public MessagePage compactHistory(@AuthenticationPrincipal UserPrincipal principal,
+                                      @PathVariable Long channelId,
+                                      @RequestParam(required = false) Long before,
+                                      @RequestParam(defaultValue = "50") int limit) {
+        return MessagePage.of(channelId, messageService.getHistory(principal.getId(), channelId, before, limit));
+    }
+
+    @GetMapping("/channels/{channelId}/messages/search")
+    public List<ChatMessage> search(@AuthenticationPrincipal UserPrincipal principal,
+                                    @PathVariable Long channelId,
+                                    @RequestParam("q") String query,
+                                    @RequestParam(defaultValue = "false") boolean archive,
+                                    @RequestParam(defaultValue = "30") int limit) {
+        return messageService.search(principal.getId(), channelId, query, archive, limit);
+    }
+
+    @GetMapping(value = "/channels/{channelId}/messages/search", params = "format=compact")
+    public MessagePage compactSearch(@AuthenticationPrincipal UserPrincipal principal,
+                                     @PathVariable Long channelId,
+                                     @RequestParam("q") String query,
+                                     @RequestParam(defaultValue = "false") boolean archive,
+                                     @RequestParam(defaultValue = "30") int limit) {
+        return MessagePage.of(channelId, messageService.search(principal.getId(), channelId, query, archive, limit));
+    }
+
+    @PutMapping("/messages/{messageId}")
+    public ChatMessage editMessage(@AuthenticationPrincipal UserPrincipal principal,
+                                   @PathVariable Long messageId,
+                                   @Valid @RequestBody EditMessageRequest request) {
+        return messageService.editMessage(principal, messageId, request.getContent());
+    }
+
+    @DeleteMapping("/messages/{messageId}")
+    public ResponseEntity<?> deleteMessage(@AuthenticationPrincipal UserPrincipal principal,
+                                           @PathVariable Long messageId) {
+        messageService.deleteMessage(principal, messageId);
+        return ResponseEntity.ok(new MessageResponse("Message deleted"));
+    }
+
+    @GetMapping("/channels/{channelId}/pins")
+    public ResponseEntity<byte[]> pinned(@AuthenticationPrincipal UserPrincipal principal,
+                                         @PathVariable Long channelId,
+                                         WebRequest request) {
+        return responseCache.respond(request, "pins:" + channelId,
+                messageService.pinnedVersion(principal.getId(), channelId),
+                () -> messageService.getPinned(channelId));
+    }
+
+    @PutMapping("/messages/{messageId}/pin")
+    public ChatMessage pin(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long messageId) {
+        return messageService.setPinned(principal, messageId, true);
+    }
+
+    @DeleteMapping("/messages/{messageId}/pin")
+    public ChatMessage unpin(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long messageId) {
+        return messageService.setPinned(principal, messageId, false);
+    }
+
+    @PostMapping("/channels/{channelId}/read")
+    public ResponseEntity<?> markRead(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long channelId) {
+        messageService.markChannelRead(principal.getId(), channelId);
+        return ResponseEntity.ok(new MessageResponse("Channel marked as read"));
+    }
+
+    @PostMapping("/messages/{messageId}/reactions")
+    public ReactionPayload addReaction(@AuthenticationPrincipal UserPrincipal principal,
+                                       @PathVariable Long messageId,
+                                       @Valid @RequestBody ReactionRequest request) {
+        return messageService.addReaction(principal, messageId, request.getEmoji());
+    }
+
+    @GetMapping("/mentions")
+    public List<ChatMessage> mentions(@AuthenticationPrincipal UserPrincipal principal,
+                                      @RequestParam(required = false) Long before,
+                                      @RequestParam(defaultValue = "30") int limit) {
+        return messageService.findMentions(principal.getId(), before, limit);
+    }
+}
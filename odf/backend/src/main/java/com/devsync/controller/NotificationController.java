@@ -0,0 +1,46 @@
+package com.devsync.controller;
+
+import com.devsync.dto.MessageResponse;
+import com.devsync.model.Notification;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.NotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+    @Autowired
+    NotificationService notificationService;
+
+    @GetMapping
+    public List<Notification> list(@AuthenticationPrincipal UserPrincipal principal,
+                                   @RequestParam(required = false) Long before,
+                                   @RequestParam(defaultValue = "30") int limit) {
+        return notificationService.list(principal.getId(), before, limit);
+    }
+
+    @GetMapping("/unread-count")
+    public Map<String, Long> unreadCount(@AuthenticationPrincipal UserPrincipal principal) {
+        return Map.of("unread", notificationService.getUnreadCount(principal.getId()));
+    }
+
+    @PostMapping("/{id}/read")
+    public ResponseEntity<?> markRead(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long id) {
+        if (!notificationService.markRead(principal.getId(), id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new MessageResponse("Notification marked as read"));
+    }
+
+    @PostMapping("/read-all")
+    public Map<String, Integer> markAllRead(@AuthenticationPrincipal UserPrincipal principal) {
+        return Map.of("updated", notificationService.markAllRead(principal.getId()));
+    }
+}
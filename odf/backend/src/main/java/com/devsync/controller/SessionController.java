@@ -0,0 +1,50 @@
+package com.devsync.controller;
+
+import com.devsync.dto.MessageResponse;
+import com.devsync.dto.SessionInfo;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.SessionRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/sessions")
+public class SessionController {
+    @Autowired
+    SessionRegistry sessionRegistry;
+
+    @GetMapping
+    public List<SessionInfo> listSessions(@AuthenticationPrincipal UserPrincipal principal,
+                                          @RequestAttribute(name = SessionRegistry.SESSION_ATTRIBUTE, required = false) String sessionId) {
+        return sessionRegistry.listSessions(principal.getId()).stream()
+                .map(s -> new SessionInfo(s, s.getSessionToken().equals(sessionId)))
+                .toList();
+    }
+
+    @DeleteMapping("/current")
+    public ResponseEntity<?> signOut(@RequestAttribute(name = SessionRegistry.SESSION_ATTRIBUTE, required = false) String sessionId) {
+        if (sessionId != null) {
+            sessionRegistry.revokeBySessionId(sessionId);
+        }
+        return ResponseEntity.ok(new MessageResponse("Signed out"));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> revoke(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long id) {
+        if (!sessionRegistry.revoke(principal.getId(), id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new MessageResponse("Session revoked"));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> revokeAll(@AuthenticationPrincipal UserPrincipal principal) {
+        int revoked = sessionRegistry.revokeAll(principal.getId());
+        return ResponseEntity.ok(new MessageResponse("Signed out of " + revoked + " sessions"));
+    }
+}
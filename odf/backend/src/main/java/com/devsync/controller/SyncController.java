@@ -0,0 +1,28 @@
+package com.devsync.controller;
+
+import com.devsync.dto.ChangeFeed;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.ChangeLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+    @Autowired
+    ChangeLogService changeLogService;
+
+    /**
+     * Changes visible to the caller after {@code since}, oldest first. Start from
+     * the {@code changeVersion} of a bootstrap snapshot and keep passing back the
+     * returned {@code version} until {@code hasMore} is false.
+     */
+    @GetMapping("/changes")
+    public ChangeFeed changes(@AuthenticationPrincipal UserPrincipal principal,
+                              @RequestParam long since,
+                              @RequestParam(defaultValue = "500") int limit) {
+        return changeLogService.getChanges(principal.getId(), since, limit);
+    }
+}
@@ -0,0 +1,57 @@
+package com.devsync.controller;
+
+import com.devsync.dto.UserListItem;
+import com.devsync.repository.UserRepository;
+import com.devsync.security.UserPrincipal;
+import com.devsync.web.ConditionalResponseCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Locale;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+    private static final int MAX_PAGE_SIZE = 50;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ConditionalResponseCache responseCache;
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<byte[]> profile(@PathVariable Long userId, WebRequest request) {
+        String version = userRepository.findUpdatedAtById(userId).map(String::valueOf)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        return responseCache.respond(request, "user:" + userId, version,
+                () -> userRepository.findProfileById(userId).orElseThrow(
+                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")));
+    }
+
+    /**
+     * Prefix search over the names of people who share a workspace with the
+     * caller. Emails are not matched, so the endpoint cannot be used to probe
+     * which addresses have accounts.
+     */
+    @GetMapping("/search")
+    public List<UserListItem> search(@AuthenticationPrincipal UserPrincipal principal,
+                                     @RequestParam("q") String query,
+                                     @RequestParam(defaultValue = "20") int limit) {
+        String prefix = query.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.searchListItems(prefix + "%", principal.getId(),
+                Pageable.ofSize(Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
+    }
+}
@@ -0,0 +1,86 @@
+package com.devsync.controller;
+
+import com.devsync.dto.BulkMembershipRequest;
+import com.devsync.dto.BulkMembershipResult;
+import com.devsync.dto.MessageResponse;
+import com.devsync.dto.RetentionRequest;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import com.devsync.service.ChannelService;
+import com.devsync.service.MembershipService;
+import com.devsync.service.RetentionService;
+import com.devsync.web.ConditionalResponseCache;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/workspaces")
+public class WorkspaceController {
+    @Autowired
+    ChannelService channelService;
+
+    @Autowired
+    MembershipService membershipService;
+
+    @Autowired
+    RetentionService retentionService;
+
+    @Autowired
+    WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    ConditionalResponseCache responseCache;
+
+    @GetMapping("/{workspaceId}")
+    public ResponseEntity<byte[]> get(@AuthenticationPrincipal UserPrincipal principal,
+                                      @PathVariable Long workspaceId,
+                                      WebRequest request) {
+        if (!workspaceRepository.isMember(workspaceId, principal.getId())) {
+            throw new AccessDeniedException("Not a member of workspace " + workspaceId);
+        }
+        String version = workspaceRepository.findUpdatedAtById(workspaceId).map(String::valueOf)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
+        return responseCache.respond(request, "workspace:" + workspaceId, version,
+                () -> workspaceRepository.findSummaryById(workspaceId).orElseThrow(
+                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found")));
+    }
+
+    @GetMapping("/{workspaceId}/channels")
+    public ResponseEntity<byte[]> channels(@AuthenticationPrincipal UserPrincipal principal,
+                                           @PathVariable Long workspaceId,
+                                           WebRequest request) {
+        return responseCache.respond(request, "workspace-channels:" + workspaceId + ":" + principal.getId(),
+                channelService.workspaceChannelsVersion(principal.getId(), workspaceId),
+                () -> channelService.listWorkspaceChannels(principal.getId(), workspaceId));
+    }
+
+    @PutMapping("/{workspaceId}/retention")
+    public ResponseEntity<?> setRetention(@AuthenticationPrincipal UserPrincipal principal,
+                                          @PathVariable Long workspaceId,
+                                          @Valid @RequestBody RetentionRequest request) {
+        retentionService.setWorkspaceRetention(principal, workspaceId, request.getDays());
+        return ResponseEntity.ok(new MessageResponse("Retention updated"));
+    }
+
+    @PostMapping("/{workspaceId}/members/bulk-add")
+    public BulkMembershipResult addMembers(@AuthenticationPrincipal UserPrincipal principal,
+                                           @PathVariable Long workspaceId,
+                                           @Valid @RequestBody BulkMembershipRequest request) {
+        return membershipService.addWorkspaceMembers(principal, workspaceId, request.getUserIds());
+    }
+
+    @PostMapping("/{workspaceId}/members/bulk-remove")
+    public BulkMembershipResult removeMembers(@AuthenticationPrincipal UserPrincipal principal,
+                                              @PathVariable Long workspaceId,
+                                              @Valid @RequestBody BulkMembershipRequest request) {
+        return membershipService.removeWorkspaceMembers(principal, workspaceId, request.getUserIds());
+    }
+}
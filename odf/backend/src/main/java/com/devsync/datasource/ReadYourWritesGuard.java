@@ -0,0 +1,58 @@
+package com.devsync.datasource;
+
+import com.devsync.event.MessagePostedEvent;
+import com.devsync.event.ReactionAddedEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a user's reads on the primary for a short window after they write,
+ * so a replica that has not replayed the write yet cannot hide it from them.
+ * The window is the configured minimum or the current replica lag, whichever
+ * is larger.
+ */
+public class ReadYourWritesGuard {
+    private final ConcurrentHashMap<Long, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final long minWindowMs;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadYourWritesGuard(long minWindowMs, ReplicaLagMonitor lagMonitor) {
+        this.minWindowMs = minWindowMs;
+        this.lagMonitor = lagMonitor;
+    }
+
+    @TransactionalEventListener
+    public void onMessagePosted(MessagePostedEvent event) {
+        recordWrite(event.getMessage().getSenderId());
+    }
+
+    @TransactionalEventListener
+    public void onReactionAdded(ReactionAddedEvent event) {
+        recordWrite(event.getReaction().getUserId());
+    }
+
+    public void recordWrite(Long userId) {
+        long window = Math.max(minWindowMs, lagMonitor.getMaxHealthyLagMs() * 2);
+        primaryUntil.put(userId, System.currentTimeMillis() + window);
+    }
+
+    public boolean mustReadPrimary(Long userId) {
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        primaryUntil.remove(userId, until);
+        return false;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        primaryUntil.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,101 @@
+package com.devsync.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls each replica for its replay lag and keeps the list of replicas that
+ * are reachable and within {@code datasource.routing.max-lag-ms}. Reads fall
+ * back to the primary while that list is empty.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Zero on a primary or a caught-up standby; otherwise time since the last replayed commit
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final Map<String, JdbcTemplate> replicas = new ConcurrentHashMap<>();
+    private final Map<String, Long> lagMs = new ConcurrentHashMap<>();
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicaDataSources, long maxLagMs, MeterRegistry meterRegistry) {
+        this.maxLagMs = maxLagMs;
+        replicaDataSources.forEach((key, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(2);
+            replicas.put(key, jdbcTemplate);
+            lagMs.put(key, UNREACHABLE);
+            Gauge.builder("datasource.replica.lag", lagMs, lags -> {
+                        long lag = lags.getOrDefault(key, UNREACHABLE);
+                        return lag == UNREACHABLE ? Double.NaN : lag;
+                    })
+                    .tag("replica", key)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        });
+        Gauge.builder("datasource.replica.healthy", this, monitor -> monitor.healthy.size()).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void check() {
+        List<String> inRange = new ArrayList<>(replicas.size());
+        replicas.forEach((key, jdbcTemplate) -> {
+            long lag;
+            try {
+                Number value = jdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+                lag = value != null ? value.longValue() : UNREACHABLE;
+            } catch (RuntimeException e) {
+                if (lagMs.get(key) != UNREACHABLE) {
+                    logger.warn("Replica {} unreachable, routing its reads to the primary: {}", key, e.getMessage());
+                }
+                lag = UNREACHABLE;
+            }
+            lagMs.put(key, lag);
+            if (lag <= maxLagMs) {
+                inRange.add(key);
+            }
+        });
+        healthy = List.copyOf(inRange);
+    }
+
+    /**
+     * Round-robin over replicas within the lag limit, or {@code null} if none are.
+     */
+    public String pickReplica() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Largest lag among replicas currently eligible for reads.
+     */
+    public long getMaxHealthyLagMs() {
+        long max = 0;
+        for (String key : healthy) {
+            max = Math.max(max, lagMs.getOrDefault(key, 0L));
+        }
+        return max;
+    }
+}
@@ -0,0 +1,45 @@
+package com.devsync.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaProperties {
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    private long maxLagMs = 5000;
+    private long readYourWritesMs = 3000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public List<Replica> getReplicas() { return replicas; }
+    public void setReplicas(List<Replica> replicas) { this.replicas = replicas; }
+
+    public long getMaxLagMs() { return maxLagMs; }
+    public void setMaxLagMs(long maxLagMs) { this.maxLagMs = maxLagMs; }
+
+    public long getReadYourWritesMs() { return readYourWritesMs; }
+    public void setReadYourWritesMs(long readYourWritesMs) { this.readYourWritesMs = readYourWritesMs; }
+
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+
+        public int getMaximumPoolSize() { return maximumPoolSize; }
+        public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+    }
+}
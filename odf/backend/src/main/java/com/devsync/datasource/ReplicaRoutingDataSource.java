@@ -0,0 +1,63 @@
+package com.devsync.datasource;
+
+import com.devsync.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the
+ * primary. Must sit behind a {@code LazyConnectionDataSourceProxy}: the
+ * read-only flag of a transaction is only visible once it has begun, so the
+ * physical connection has to be chosen at the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesGuard readYourWritesGuard,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.replicaReads = Counter.builder("datasource.routing.reads").tag("target", "replica").register(meterRegistry);
+        this.pinnedReads = Counter.builder("datasource.routing.reads").tag("target", "primary-pinned").register(meterRegistry);
+        this.fallbackReads = Counter.builder("datasource.routing.reads").tag("target", "primary-fallback").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        Long userId = currentUserId();
+        if (userId != null && readYourWritesGuard.mustReadPrimary(userId)) {
+            pinnedReads.increment();
+            return PRIMARY;
+        }
+
+        String replica = lagMonitor.pickReplica();
+        if (replica == null) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
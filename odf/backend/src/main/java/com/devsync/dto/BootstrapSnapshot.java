@@ -0,0 +1,93 @@
+package com.devsync.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the client needs on launch. In a delta ({@code full == false})
+ * the entity lists only hold rows changed since the client's version, while
+ * the id lists are always complete so the client can drop anything missing.
+ * {@code changeVersion} is where the client picks up the change feed.
+ */
+public class BootstrapSnapshot {
+    private final String version;
+    private final boolean full;
+    private final long changeVersion;
+    private final List<WorkspaceSummary> workspaces;
+    private final List<Long> workspaceIds;
+    private final List<ChannelSummary> channels;
+    private final List<Long> channelIds;
+    private final Map<Long, Long> unreadCounts;
+    private final List<PinnedItem> pinned;
+    private final List<Long> pinnedIds;
+    private final List<MemberPresence> presence;
+    private final long unreadNotifications;
+
+    public BootstrapSnapshot(String version, boolean full, long changeVersion,
+                             List<WorkspaceSummary> workspaces, List<Long> workspaceIds,
+                             List<ChannelSummary> channels, List<Long> channelIds,
+                             Map<Long, Long> unreadCounts,
+                             List<PinnedItem> pinned, List<Long> pinnedIds,
+                             List<MemberPresence> presence, long unreadNotifications) {
+        this.version = version;
+        this.full = full;
+        this.changeVersion = changeVersion;
+        this.workspaces = workspaces;
+        this.workspaceIds = workspaceIds;
+        this.channels = channels;
+        this.channelIds = channelIds;
+        this.unreadCounts = unreadCounts;
+        this.pinned = pinned;
+        this.pinnedIds = pinnedIds;
+        this.presence = presence;
+        this.unreadNotifications = unreadNotifications;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public List<WorkspaceSummary> getWorkspaces() {
+        return workspaces;
+    }
+
+    public List<Long> getWorkspaceIds() {
+        return workspaceIds;
+    }
+
+    public List<ChannelSummary> getChannels() {
+        return channels;
+    }
+
+    public List<Long> getChannelIds() {
+        return channelIds;
+    }
+
+    public Map<Long, Long> getUnreadCounts() {
+        return unreadCounts;
+    }
+
+    public List<PinnedItem> getPinned() {
+        return pinned;
+    }
+
+    public List<Long> getPinnedIds() {
+        return pinnedIds;
+    }
+
+    public List<MemberPresence> getPresence() {
+        return presence;
+    }
+
+    public long getUnreadNotifications() {
+        return unreadNotifications;
+    }
+}
@@ -0,0 +1,100 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One change applied to many selected items, e.g. dragging a multi-selection
+ * to another board column. Null fields are left as they are; the clear flags
+ * unset the assignee or due date.
+ */
+public class BulkItemUpdateRequest {
+    @NotEmpty
+    @Size(max = 500)
+    private List<Long> ids;
+
+    @Size(min = 1, max = 50)
+    private String status;
+
+    @Size(max = 100)
+    private String assignee;
+
+    private boolean clearAssignee;
+
+    private LocalDate dueDate;
+
+    private boolean clearDueDate;
+
+    @Pattern(regexp = "low|medium|high")
+    private String priority;
+
+    private Boolean completed;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+    }
+
+    public boolean isClearAssignee() {
+        return clearAssignee;
+    }
+
+    public void setClearAssignee(boolean clearAssignee) {
+        this.clearAssignee = clearAssignee;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public boolean isClearDueDate() {
+        return clearDueDate;
+    }
+
+    public void setClearDueDate(boolean clearDueDate) {
+        this.clearDueDate = clearDueDate;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,20 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkMembershipRequest {
+    @NotEmpty
+    @Size(max = 50000)
+    private List<Long> userIds;
+
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+}
@@ -0,0 +1,9 @@
+package com.devsync.dto;
+
+/**
+ * Outcome of a bulk membership change: distinct ids requested and rows
+ * actually inserted or deleted. The difference were already members (or
+ * already gone), or are not members of the channel's workspace.
+ */
+public record BulkMembershipResult(int requested, int changed) {
+}
@@ -0,0 +1,4 @@
+package com.devsync.dto;
+
+public record CanvasAccess(Long canvasId, Long createdBy, Long workspaceId) {
+}
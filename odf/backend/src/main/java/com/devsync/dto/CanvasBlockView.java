@@ -0,0 +1,13 @@
+package com.devsync.dto;
+
+import com.devsync.model.CanvasBlock;
+
+/**
+ * Block as sent to clients, which order blocks by {@code position}.
+ */
+public record CanvasBlockView(Long id, String type, String content, long position, long version) {
+    public static CanvasBlockView from(CanvasBlock block) {
+        return new CanvasBlockView(block.getId(), block.getType(), block.getContent(), block.getPosition(),
+                block.getVersion());
+    }
+}
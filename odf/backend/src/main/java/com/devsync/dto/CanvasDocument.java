@@ -0,0 +1,10 @@
+package com.devsync.dto;
+
+import java.util.List;
+
+/**
+ * Full canvas state at {@code version}; the client applies operations newer
+ * than that version on top.
+ */
+public record CanvasDocument(CanvasSummary canvas, long version, List<CanvasBlockView> blocks) {
+}
@@ -0,0 +1,21 @@
+package com.devsync.dto;
+
+/**
+ * Outcome of one submitted operation. {@code version} is the canvas version
+ * it was applied at, or for a duplicate the version of the original.
+ */
+public record CanvasOpAck(String clientOpId, Status status, Long version, Long blockId, String reason) {
+    public enum Status {
+        APPLIED,
+        DUPLICATE,
+        REJECTED
+    }
+
+    public static CanvasOpAck applied(String clientOpId, long version, Long blockId) {
+        return new CanvasOpAck(clientOpId, Status.APPLIED, version, blockId, null);
+    }
+
+    public static CanvasOpAck rejected(String clientOpId, Long blockId, String reason) {
+        return new CanvasOpAck(clientOpId, Status.REJECTED, null, blockId, reason);
+    }
+}
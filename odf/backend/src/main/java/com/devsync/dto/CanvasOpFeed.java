@@ -0,0 +1,10 @@
+package com.devsync.dto;
+
+import java.util.List;
+
+/**
+ * Operations after the requested version. When {@code resetRequired} is set
+ * those operations have been compacted away and the client reloads the canvas.
+ */
+public record CanvasOpFeed(long version, List<CanvasOpView> ops, boolean hasMore, boolean resetRequired) {
+}
@@ -0,0 +1,87 @@
+package com.devsync.dto;
+
+import com.devsync.model.CanvasOpType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * A block operation sent by an editor. {@code afterBlockId} places inserted
+ * and moved blocks; null means the top of the canvas. {@code clientId} and
+ * {@code clientOpId} make retries idempotent.
+ */
+public class CanvasOpRequest {
+    @NotNull
+    private CanvasOpType type;
+
+    private Long blockId;
+
+    private Long afterBlockId;
+
+    @Size(max = 50)
+    private String blockType;
+
+    @Size(max = 100000)
+    private String content;
+
+    @Size(max = 64)
+    private String clientId;
+
+    @Size(max = 64)
+    private String clientOpId;
+
+    public CanvasOpType getType() {
+        return type;
+    }
+
+    public void setType(CanvasOpType type) {
+        this.type = type;
+    }
+
+    public Long getBlockId() {
+        return blockId;
+    }
+
+    public void setBlockId(Long blockId) {
+        this.blockId = blockId;
+    }
+
+    public Long getAfterBlockId() {
+        return afterBlockId;
+    }
+
+    public void setAfterBlockId(Long afterBlockId) {
+        this.afterBlockId = afterBlockId;
+    }
+
+    public String getBlockType() {
+        return blockType;
+    }
+
+    public void setBlockType(String blockType) {
+        this.blockType = blockType;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    public String getClientOpId() {
+        return clientOpId;
+    }
+
+    public void setClientOpId(String clientOpId) {
+        this.clientOpId = clientOpId;
+    }
+}
@@ -0,0 +1,9 @@
+package com.devsync.dto;
+
+import com.devsync.model.CanvasOpType;
+
+import java.util.Map;
+
+public record CanvasOpView(long version, CanvasOpType type, Long blockId, Long userId, String clientOpId,
+                           Map<String, Object> payload) {
+}
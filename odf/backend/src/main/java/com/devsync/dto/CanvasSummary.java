@@ -0,0 +1,7 @@
+package com.devsync.dto;
+
+import java.time.LocalDateTime;
+
+public record CanvasSummary(Long id, String title, Long workspaceId, Long createdBy, String template,
+                            boolean starred, long version, LocalDateTime updatedAt) {
+}
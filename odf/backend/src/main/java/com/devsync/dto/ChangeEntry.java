@@ -0,0 +1,56 @@
+package com.devsync.dto;
+
+import com.devsync.model.ChangeEntityType;
+import com.devsync.model.ChangeOperation;
+import com.devsync.model.ChangeScope;
+
+import java.util.Map;
+
+public class ChangeEntry {
+    private final Long version;
+    private final ChangeScope scopeType;
+    private final Long scopeId;
+    private final ChangeEntityType entityType;
+    private final Long entityId;
+    private final ChangeOperation operation;
+    private final Map<String, Object> payload;
+
+    public ChangeEntry(Long version, ChangeScope scopeType, Long scopeId, ChangeEntityType entityType,
+                       Long entityId, ChangeOperation operation, Map<String, Object> payload) {
+        this.version = version;
+        this.scopeType = scopeType;
+        this.scopeId = scopeId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.payload = payload;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public ChangeScope getScopeType() {
+        return scopeType;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public ChangeEntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public ChangeOperation getOperation() {
+        return operation;
+    }
+
+    public Map<String, Object> getPayload() {
+        return payload;
+    }
+}
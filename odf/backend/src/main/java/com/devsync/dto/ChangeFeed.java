@@ -0,0 +1,38 @@
+package com.devsync.dto;
+
+import java.util.List;
+
+/**
+ * A page of the change feed. {@code version} is the cursor for the next
+ * request. When {@code resetRequired} is set the requested version has been
+ * compacted away and the client has to reload through the bootstrap endpoint.
+ */
+public class ChangeFeed {
+    private final long version;
+    private final List<ChangeEntry> changes;
+    private final boolean hasMore;
+    private final boolean resetRequired;
+
+    public ChangeFeed(long version, List<ChangeEntry> changes, boolean hasMore, boolean resetRequired) {
+        this.version = version;
+        this.changes = changes;
+        this.hasMore = hasMore;
+        this.resetRequired = resetRequired;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<ChangeEntry> getChanges() {
+        return changes;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public boolean isResetRequired() {
+        return resetRequired;
+    }
+}
@@ -0,0 +1,11 @@
+package com.devsync.dto;
+
+/**
+ * The fields permission checks on a channel need: its creator and the owner
+ * of its workspace, either of which may be null.
+ */
+public record ChannelAccess(Long channelId, Long createdById, Long workspaceOwnerId, boolean archived) {
+    public boolean isManagedBy(Long userId) {
+        return userId.equals(createdById) || userId.equals(workspaceOwnerId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.devsync.dto;
+
+import com.devsync.model.ChannelType;
+
+/**
+ * Row of a workspace's channel list, read by constructor expression instead
+ * of loading {@code Channel} entities and their member sets.
+ */
+public record ChannelListItem(Long id, String name, String topic, ChannelType type, int memberCount) {
+}
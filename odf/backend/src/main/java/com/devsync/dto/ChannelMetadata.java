@@ -0,0 +1,18 @@
+package com.devsync.dto;
+
+import java.util.List;
+
+/**
+ * What a channel header shows: topic, description, member count and the ids
+ * of pinned messages, newest pin target first.
+ */
+public record ChannelMetadata(Long channelId, String topic, String description, int memberCount,
+                              List<Long> pinnedMessageIds) {
+    public ChannelMetadata(Long channelId, String topic, String description, int memberCount) {
+        this(channelId, topic, description, memberCount, List.of());
+    }
+
+    public ChannelMetadata withPinned(List<Long> pinnedMessageIds) {
+        return new ChannelMetadata(channelId, topic, description, memberCount, List.copyOf(pinnedMessageIds));
+    }
+}
@@ -0,0 +1,8 @@
+package com.devsync.dto;
+
+/**
+ * Effective message retention of a channel: its own setting, else its
+ * workspace's, else the configured default.
+ */
+public record ChannelRetention(Long channelId, int days) {
+}
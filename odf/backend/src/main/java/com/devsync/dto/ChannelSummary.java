@@ -0,0 +1,48 @@
+package com.devsync.dto;
+
+import com.devsync.model.ChannelType;
+
+import java.time.LocalDateTime;
+
+public class ChannelSummary {
+    private final Long id;
+    private final Long workspaceId;
+    private final String name;
+    private final String topic;
+    private final ChannelType type;
+    private final LocalDateTime updatedAt;
+
+    public ChannelSummary(Long id, Long workspaceId, String name, String topic, ChannelType type,
+                          LocalDateTime updatedAt) {
+        this.id = id;
+        this.workspaceId = workspaceId;
+        this.name = name;
+        this.topic = topic;
+        this.type = type;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public ChannelType getType() {
+        return type;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,90 @@
+package com.devsync.dto;
+
+import com.devsync.model.ArchivedMessage;
+import com.devsync.model.Message;
+import com.devsync.model.MessageType;
+
+import java.time.LocalDateTime;
+
+public class ChatMessage {
+    private Long id;
+    private Long channelId;
+    private Long senderId;
+    private String senderName;
+    private String content;
+    private MessageType type;
+    private Long parentMessageId;
+    private boolean edited;
+    private boolean pinned;
+    private LocalDateTime createdAt;
+
+    public ChatMessage(Message message, String senderName) {
+        this.id = message.getId();
+        this.channelId = message.getChannel().getId();
+        this.senderId = message.getSender().getId();
+        this.senderName = senderName;
+        this.content = message.getContent();
+        this.type = message.getType();
+        this.parentMessageId = message.getParentMessage() != null ? message.getParentMessage().getId() : null;
+        this.edited = message.isEdited();
+        this.pinned = message.isPinned();
+        this.createdAt = message.getCreatedAt();
+    }
+
+    public ChatMessage(ArchivedMessage message, String senderName) {
+        this.id = message.getId();
+        this.channelId = message.getChannelId();
+        this.senderId = message.getSenderId();
+        this.senderName = senderName;
+        this.content = message.getContent();
+        this.type = message.getType();
+        this.parentMessageId = message.getParentMessageId();
+        this.edited = message.isEdited();
+        this.pinned = message.isPinned();
+        this.createdAt = message.getCreatedAt();
+    }
+
+    public static ChatMessage from(Message message) {
+        return new ChatMessage(message, message.getSender().getName());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getChannelId() {
+        return channelId;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public MessageType getType() {
+        return type;
+    }
+
+    public Long getParentMessageId() {
+        return parentMessageId;
+    }
+
+    public boolean isEdited() {
+        return edited;
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
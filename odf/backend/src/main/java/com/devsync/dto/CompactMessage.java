@@ -0,0 +1,28 @@
+package com.devsync.dto;
+
+import com.devsync.model.MessageType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.ZoneId;
+
+/**
+ * A message in the compact page format. The sender is an id into the page's
+ * user table, the timestamp is epoch milliseconds, and null or default
+ * fields ({@code TEXT} type, not edited, not pinned, no parent) are left out.
+ */
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public record CompactMessage(long id,
+                             long senderId,
+                             String content,
+                             MessageType type,
+                             Long parentMessageId,
+                             boolean edited,
+                             boolean pinned,
+                             long createdAt) {
+    public static CompactMessage from(ChatMessage message) {
+        return new CompactMessage(message.getId(), message.getSenderId(), message.getContent(),
+                message.getType() == MessageType.TEXT ? null : message.getType(),
+                message.getParentMessageId(), message.isEdited(), message.isPinned(),
+                message.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
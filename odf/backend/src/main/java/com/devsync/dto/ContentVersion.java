@@ -0,0 +1,13 @@
+package com.devsync.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and latest update of a collection; changes whenever a row is
+ * added, removed or updated.
+ */
+public record ContentVersion(Long count, LocalDateTime updatedAt) {
+    public String tag() {
+        return count + ":" + updatedAt;
+    }
+}
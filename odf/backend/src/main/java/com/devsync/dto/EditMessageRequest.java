@@ -0,0 +1,18 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class EditMessageRequest {
+    @NotBlank
+    @Size(max = 10000)
+    private String content;
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
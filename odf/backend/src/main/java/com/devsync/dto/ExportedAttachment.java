@@ -0,0 +1,18 @@
+package com.devsync.dto;
+
+/**
+ * One line of a channel's attachments.ndjson in a workspace export;
+ * {@code file} is the entry holding the content, or null when the file is
+ * not stored under the upload directory.
+ */
+public record ExportedAttachment(Long id, Long messageId, String fileName, String fileUrl, String fileType,
+                                 Long fileSize, String file) {
+    public ExportedAttachment(Long id, Long messageId, String fileName, String fileUrl, String fileType,
+                              Long fileSize) {
+        this(id, messageId, fileName, fileUrl, fileType, fileSize, null);
+    }
+
+    public ExportedAttachment withFile(String file) {
+        return new ExportedAttachment(id, messageId, fileName, fileUrl, fileType, fileSize, file);
+    }
+}
@@ -0,0 +1,13 @@
+package com.devsync.dto;
+
+import com.devsync.model.MessageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of a channel's messages.ndjson in a workspace export.
+ */
+public record ExportedMessage(Long id, Long senderId, String senderName, String content, MessageType type,
+                              Long parentMessageId, boolean edited, boolean pinned, LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+}
@@ -0,0 +1,4 @@
+package com.devsync.dto;
+
+public record ListAccess(Long listId, Long createdBy, Long workspaceId) {
+}
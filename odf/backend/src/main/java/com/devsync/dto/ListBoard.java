@@ -0,0 +1,10 @@
+package com.devsync.dto;
+
+import java.util.Map;
+
+/**
+ * Board header: the list and how many items each column holds. Column items
+ * are paged separately through the list items endpoint.
+ */
+public record ListBoard(ListSummary list, Map<String, Long> statusCounts) {
+}
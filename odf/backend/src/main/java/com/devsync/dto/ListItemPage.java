@@ -0,0 +1,10 @@
+package com.devsync.dto;
+
+import java.util.List;
+
+/**
+ * One page of a list view. Pass {@code nextCursor} back as {@code after} for
+ * the next page; it is null on the last page.
+ */
+public record ListItemPage(List<ListItemView> items, String nextCursor) {
+}
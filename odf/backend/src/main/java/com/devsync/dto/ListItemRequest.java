@@ -0,0 +1,86 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+/**
+ * Fields of a new item, or the fields to change on an existing one; null
+ * fields are left as they are.
+ */
+public class ListItemRequest {
+    @Size(min = 1, max = 255)
+    private String title;
+
+    private String description;
+
+    @Size(max = 100)
+    private String assignee;
+
+    private LocalDate dueDate;
+
+    @Pattern(regexp = "low|medium|high")
+    private String priority;
+
+    @Size(min = 1, max = 50)
+    private String status;
+
+    private Boolean completed;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,16 @@
+package com.devsync.dto;
+
+import com.devsync.model.ListItem;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record ListItemView(Long id, Long listId, String title, String description, String assignee,
+                           LocalDate dueDate, String priority, String status, boolean completed,
+                           LocalDateTime updatedAt) {
+    public static ListItemView from(ListItem item) {
+        return new ListItemView(item.getId(), item.getListId(), item.getTitle(), item.getDescription(),
+                item.getAssignee(), item.getDueDate(), item.getPriority(), item.getStatus(), item.isCompleted(),
+                item.getUpdatedAt());
+    }
+}
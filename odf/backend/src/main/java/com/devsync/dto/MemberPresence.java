@@ -0,0 +1,33 @@
+package com.devsync.dto;
+
+import com.devsync.model.UserStatus;
+
+public class MemberPresence {
+    private final Long id;
+    private final String name;
+    private final String profilePhoto;
+    private final UserStatus status;
+
+    public MemberPresence(Long id, String name, String profilePhoto, UserStatus status) {
+        this.id = id;
+        this.name = name;
+        this.profilePhoto = profilePhoto;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getProfilePhoto() {
+        return profilePhoto;
+    }
+
+    public UserStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,22 @@
+package com.devsync.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A history page in the compact format: each sender's name appears once in
+ * {@code users}, keyed by id, instead of on every message.
+ */
+public record MessagePage(long channelId, Map<Long, String> users, List<CompactMessage> messages) {
+    public static MessagePage of(Long channelId, List<ChatMessage> page) {
+        Map<Long, String> users = new LinkedHashMap<>();
+        List<CompactMessage> messages = new ArrayList<>(page.size());
+        for (ChatMessage message : page) {
+            users.putIfAbsent(message.getSenderId(), message.getSenderName());
+            messages.add(CompactMessage.from(message));
+        }
+        return new MessagePage(channelId, users, messages);
+    }
+}
@@ -0,0 +1,49 @@
+package com.devsync.dto;
+
+import java.time.LocalDateTime;
+
+public class PinnedItem {
+    private static final int PREVIEW_LENGTH = 200;
+
+    private final Long id;
+    private final Long channelId;
+    private final Long senderId;
+    private final String preview;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public PinnedItem(Long id, Long channelId, Long senderId, String content, LocalDateTime createdAt,
+                      LocalDateTime updatedAt) {
+        this.id = id;
+        this.channelId = channelId;
+        this.senderId = senderId;
+        this.preview = content != null && content.length() > PREVIEW_LENGTH
+                ? content.substring(0, PREVIEW_LENGTH) : content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getChannelId() {
+        return channelId;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public String getPreview() {
+        return preview;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
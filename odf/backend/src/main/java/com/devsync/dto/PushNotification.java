@@ -0,0 +1,46 @@
+package com.devsync.dto;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+public class PushNotification {
+    private final String title;
+    private final String body;
+    private final Map<String, String> data;
+
+    public PushNotification(String title, String body, Map<String, String> data) {
+        this.title = title;
+        this.body = body;
+        this.data = data != null ? Collections.unmodifiableMap(data) : Collections.emptyMap();
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public Map<String, String> getData() {
+        return data;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        PushNotification that = (PushNotification) o;
+        return Objects.equals(title, that.title)
+                && Objects.equals(body, that.body)
+                && Objects.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(title, body, data);
+    }
+}
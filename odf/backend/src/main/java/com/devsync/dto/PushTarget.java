@@ -0,0 +1,19 @@
+package com.devsync.dto;
+
+public class PushTarget {
+    private final Long userId;
+    private final String fcmToken;
+
+    public PushTarget(Long userId, String fcmToken) {
+        this.userId = userId;
+        this.fcmToken = fcmToken;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getFcmToken() {
+        return fcmToken;
+    }
+}
@@ -0,0 +1,31 @@
+package com.devsync.dto;
+
+public class ReactionPayload {
+    private final Long messageId;
+    private final Long channelId;
+    private final Long userId;
+    private final String emoji;
+
+    public ReactionPayload(Long messageId, Long channelId, Long userId, String emoji) {
+        this.messageId = messageId;
+        this.channelId = channelId;
+        this.userId = userId;
+        this.emoji = emoji;
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public Long getChannelId() {
+        return channelId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmoji() {
+        return emoji;
+    }
+}
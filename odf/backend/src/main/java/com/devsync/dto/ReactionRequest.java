@@ -0,0 +1,18 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class ReactionRequest {
+    @NotBlank
+    @Size(max = 10)
+    private String emoji;
+
+    public String getEmoji() {
+        return emoji;
+    }
+
+    public void setEmoji(String emoji) {
+        this.emoji = emoji;
+    }
+}
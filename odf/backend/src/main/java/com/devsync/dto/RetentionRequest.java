@@ -0,0 +1,19 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public class RetentionRequest {
+    // Null clears the setting
+    @Min(1)
+    @Max(36500)
+    private Integer days;
+
+    public Integer getDays() {
+        return days;
+    }
+
+    public void setDays(Integer days) {
+        this.days = days;
+    }
+}
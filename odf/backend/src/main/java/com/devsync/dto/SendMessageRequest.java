@@ -0,0 +1,28 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class SendMessageRequest {
+    @NotBlank
+    @Size(max = 10000)
+    private String content;
+
+    private Long parentMessageId;
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Long getParentMessageId() {
+        return parentMessageId;
+    }
+
+    public void setParentMessageId(Long parentMessageId) {
+        this.parentMessageId = parentMessageId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.devsync.dto;
+
+import com.devsync.model.UserSession;
+
+import java.time.LocalDateTime;
+
+public class SessionInfo {
+    private final Long id;
+    private final String deviceInfo;
+    private final String ipAddress;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime expiresAt;
+    private final boolean current;
+
+    public SessionInfo(UserSession session, boolean current) {
+        this.id = session.getId();
+        this.deviceInfo = session.getDeviceInfo();
+        this.ipAddress = session.getIpAddress();
+        this.createdAt = session.getCreatedAt();
+        this.expiresAt = session.getExpiresAt();
+        this.current = current;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getDeviceInfo() {
+        return deviceInfo;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isCurrent() {
+        return current;
+    }
+}
@@ -0,0 +1,16 @@
+package com.devsync.dto;
+
+import jakarta.validation.constraints.Size;
+
+public class TopicRequest {
+    @Size(max = 200)
+    private String topic;
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+}
@@ -0,0 +1,12 @@
+package com.devsync.dto;
+
+import com.devsync.model.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of a user or member list, read by constructor expression instead of
+ * loading {@code User} entities.
+ */
+public record UserListItem(Long id, String name, String profilePhoto, UserStatus status, LocalDateTime lastSeen) {
+}
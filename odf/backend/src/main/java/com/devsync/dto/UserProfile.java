@@ -0,0 +1,9 @@
+package com.devsync.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * What any signed-in user may see of another user; contact details stay out.
+ */
+public record UserProfile(Long id, String name, String profilePhoto, LocalDateTime updatedAt) {
+}
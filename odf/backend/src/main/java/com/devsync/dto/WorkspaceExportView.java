@@ -0,0 +1,18 @@
+package com.devsync.dto;
+
+import com.devsync.model.ExportStatus;
+import com.devsync.model.WorkspaceExport;
+
+import java.time.LocalDateTime;
+
+public record WorkspaceExportView(Long id, Long workspaceId, ExportStatus status, int channelsTotal,
+                                  int channelsDone, long messagesExported, long attachmentsExported,
+                                  long bytesWritten, String error, LocalDateTime createdAt,
+                                  LocalDateTime completedAt) {
+    public static WorkspaceExportView from(WorkspaceExport export) {
+        return new WorkspaceExportView(export.getId(), export.getWorkspaceId(), export.getStatus(),
+                export.getChannelsTotal(), export.getChannelsDone(), export.getMessagesExported(),
+                export.getAttachmentsExported(), export.getBytesWritten(), export.getError(),
+                export.getCreatedAt(), export.getCompletedAt());
+    }
+}
@@ -0,0 +1,46 @@
+package com.devsync.dto;
+
+import java.time.LocalDateTime;
+
+public class WorkspaceSummary {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String logo;
+    private final Long ownerId;
+    private final LocalDateTime updatedAt;
+
+    public WorkspaceSummary(Long id, String name, String description, String logo, Long ownerId,
+                            LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.logo = logo;
+        this.ownerId = ownerId;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getLogo() {
+        return logo;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.devsync.event;
+
+import java.util.Set;
+
+public class MentionEvent {
+    private final Long messageId;
+    private final Long channelId;
+    private final Long senderId;
+    private final String senderName;
+    private final String content;
+    private final Set<Long> mentionedUserIds;
+    private final boolean channelWide;
+
+    public MentionEvent(Long messageId, Long channelId, Long senderId, String senderName, String content,
+                        Set<Long> mentionedUserIds, boolean channelWide) {
+        this.messageId = messageId;
+        this.channelId = channelId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.content = content;
+        this.mentionedUserIds = mentionedUserIds;
+        this.channelWide = channelWide;
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public Long getChannelId() {
+        return channelId;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public Set<Long> getMentionedUserIds() {
+        return mentionedUserIds;
+    }
+
+    public boolean isChannelWide() {
+        return channelWide;
+    }
+}
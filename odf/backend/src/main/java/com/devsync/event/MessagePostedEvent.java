@@ -0,0 +1,15 @@
+package com.devsync.event;
+
+import com.devsync.dto.ChatMessage;
+
+public class MessagePostedEvent {
+    private final ChatMessage message;
+
+    public MessagePostedEvent(ChatMessage message) {
+        this.message = message;
+    }
+
+    public ChatMessage getMessage() {
+        return message;
+    }
+}
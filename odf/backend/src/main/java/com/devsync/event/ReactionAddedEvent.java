@@ -0,0 +1,15 @@
+package com.devsync.event;
+
+import com.devsync.dto.ReactionPayload;
+
+public class ReactionAddedEvent {
+    private final ReactionPayload reaction;
+
+    public ReactionAddedEvent(ReactionPayload reaction) {
+        this.reaction = reaction;
+    }
+
+    public ReactionPayload getReaction() {
+        return reaction;
+    }
+}
@@ -0,0 +1,97 @@
+package com.devsync.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Times STOMP message handling per destination. Registered on both client
+ * channels: inbound covers /app handlers and the broker, outbound covers the
+ * per-session writes that make up broadcast fan-out.
+ *
+ * <p>Destinations are clients' input, so only the known ones below become
+ * tag values; anything else is counted as {@code other}.
+ */
+public class StompMetricsInterceptor implements ExecutorChannelInterceptor {
+    private static final List<Destination> DESTINATIONS = List.of(
+            new Destination("/topic/channels/\\d+", "/topic/channels/{id}"),
+            new Destination("/topic/channels/\\d+/updates", "/topic/channels/{id}/updates"),
+            new Destination("/topic/channels/\\d+/reactions", "/topic/channels/{id}/reactions"),
+            new Destination("/topic/canvases/\\d+", "/topic/canvases/{id}"),
+            new Destination("/app/canvases/\\d+/ops", "/app/canvases/{id}/ops"),
+            // Outbound user messages carry the session-specific broker destination
+            new Destination("(/user)?/queue/canvas-acks(-user.+)?", "/user/queue/canvas-acks"),
+            new Destination("(/user)?/queue/errors(-user.+)?", "/user/queue/errors"));
+
+    private final MeterRegistry meterRegistry;
+    private final String direction;
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public StompMetricsInterceptor(MeterRegistry meterRegistry, String direction) {
+        this.meterRegistry = meterRegistry;
+        this.direction = direction;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        startNanos.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long start = startNanos.get();
+        if (start == null) {
+            return;
+        }
+        startNanos.remove();
+
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        TimerKey key = new TimerKey(type != null ? type.name() : "UNKNOWN",
+                normalize(SimpMessageHeaderAccessor.getDestination(message.getHeaders())),
+                handler.getClass().getSimpleName(), ex == null ? "success" : "error");
+        timers.computeIfAbsent(key, this::timer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("stomp.messages")
+                .tag("direction", direction)
+                .tag("type", key.type())
+                .tag("destination", key.destination())
+                .tag("handler", key.handler())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+    }
+
+    static String normalize(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        for (Destination known : DESTINATIONS) {
+            if (known.pattern().matcher(destination).matches()) {
+                return known.tag();
+            }
+        }
+        return "other";
+    }
+
+    private record Destination(Pattern pattern, String tag) {
+        Destination(String regex, String tag) {
+            this(Pattern.compile(regex), tag);
+        }
+    }
+
+    private record TimerKey(String type, String destination, String handler, String outcome) {}
+}
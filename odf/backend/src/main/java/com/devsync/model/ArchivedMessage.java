@@ -0,0 +1,63 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a message whose monthly partition has been moved to the
+ * archive tier by {@link com.devsync.service.MessagePartitionManager}.
+ */
+@Entity
+@Immutable
+@Table(name = "messages_archive")
+public class ArchivedMessage {
+    @Id
+    private Long id;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    private MessageType type;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    @Column(name = "channel_id")
+    private Long channelId;
+
+    @Column(name = "parent_message_id")
+    private Long parentMessageId;
+
+    private boolean edited;
+    private boolean pinned;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime archivedAt;
+
+    protected ArchivedMessage() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getContent() { return content; }
+
+    public MessageType getType() { return type; }
+
+    public Long getSenderId() { return senderId; }
+
+    public Long getChannelId() { return channelId; }
+
+    public Long getParentMessageId() { return parentMessageId; }
+
+    public boolean isEdited() { return edited; }
+
+    public boolean isPinned() { return pinned; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,39 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cache_invalidations")
+public class CacheInvalidation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String cache;
+
+    @Column(name = "key_id", nullable = false)
+    private Long keyId;
+
+    @Column(nullable = false)
+    private String origin;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public CacheInvalidation() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getCache() { return cache; }
+
+    public Long getKeyId() { return keyId; }
+
+    public String getOrigin() { return origin; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,78 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "canvases")
+public class Canvas {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 255)
+    private String title;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "workspace_id")
+    private Long workspaceId;
+
+    private boolean starred = false;
+
+    @Size(max = 100)
+    private String template;
+
+    // Maintained by CanvasRepository.lockVersion/updateVersion, never through the entity
+    @Column(insertable = false, updatable = false)
+    private Long version;
+
+    @Column(name = "log_horizon", insertable = false, updatable = false)
+    private Long logHorizon;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public Canvas() {}
+
+    public Canvas(String title, Long createdBy, Long workspaceId, String template) {
+        this.title = title;
+        this.createdBy = createdBy;
+        this.workspaceId = workspaceId;
+        this.template = template;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public Long getCreatedBy() { return createdBy; }
+
+    public Long getWorkspaceId() { return workspaceId; }
+
+    public boolean isStarred() { return starred; }
+    public void setStarred(boolean starred) { this.starred = starred; }
+
+    public String getTemplate() { return template; }
+
+    public Long getVersion() { return version; }
+
+    public Long getLogHorizon() { return logHorizon; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,81 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Current state of one block. Together the blocks of a canvas are its
+ * snapshot: every operation is applied here as it is logged, so loading a
+ * canvas never replays the log.
+ */
+@Entity
+@Table(name = "canvas_blocks")
+public class CanvasBlock {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "canvas_id", nullable = false)
+    private Long canvasId;
+
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "position_order", nullable = false)
+    private long position;
+
+    // Canvas version of the last operation that touched this block
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_by")
+    private Long updatedBy;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CanvasBlock() {}
+
+    public CanvasBlock(Long canvasId, String type, String content, long position, long version, Long updatedBy) {
+        this.canvasId = canvasId;
+        this.type = type;
+        this.content = content;
+        this.position = position;
+        this.version = version;
+        this.updatedBy = updatedBy;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+
+    public Long getCanvasId() { return canvasId; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+
+    public long getPosition() { return position; }
+    public void setPosition(long position) { this.position = position; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public Long getUpdatedBy() { return updatedBy; }
+    public void setUpdatedBy(Long updatedBy) { this.updatedBy = updatedBy; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,87 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One applied block operation. The payload carries the resulting block state
+ * (or the new positions for a reindex), so replaying the log from any
+ * version yields the current canvas.
+ */
+@Entity
+@Table(name = "canvas_ops")
+public class CanvasOp {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "canvas_id", nullable = false)
+    private Long canvasId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "op_type", nullable = false)
+    private CanvasOpType opType;
+
+    @Column(name = "block_id")
+    private Long blockId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "client_id")
+    private String clientId;
+
+    @Column(name = "client_op_id")
+    private String clientOpId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Object> payload;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public CanvasOp() {}
+
+    public CanvasOp(Long canvasId, Long version, CanvasOpType opType, Long blockId, Long userId,
+                    String clientId, String clientOpId, Map<String, Object> payload) {
+        this.canvasId = canvasId;
+        this.version = version;
+        this.opType = opType;
+        this.blockId = blockId;
+        this.userId = userId;
+        this.clientId = clientId;
+        this.clientOpId = clientOpId;
+        this.payload = payload;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getCanvasId() { return canvasId; }
+
+    public Long getVersion() { return version; }
+
+    public CanvasOpType getOpType() { return opType; }
+
+    public Long getBlockId() { return blockId; }
+
+    public Long getUserId() { return userId; }
+
+    public String getClientId() { return clientId; }
+
+    public String getClientOpId() { return clientOpId; }
+
+    public Map<String, Object> getPayload() { return payload; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
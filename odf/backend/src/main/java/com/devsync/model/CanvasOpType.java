@@ -0,0 +1,10 @@
+package com.devsync.model;
+
+public enum CanvasOpType {
+    INSERT,
+    UPDATE,
+    MOVE,
+    DELETE,
+    // Positions of neighbouring blocks respaced to make room for an insert or move
+    REINDEX
+}
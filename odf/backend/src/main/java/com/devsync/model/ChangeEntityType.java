@@ -0,0 +1,10 @@
+package com.devsync.model;
+
+public enum ChangeEntityType {
+    MESSAGE,
+    REACTION,
+    CHANNEL,
+    CHANNEL_MEMBER,
+    WORKSPACE_MEMBER,
+    WORKSPACE
+}
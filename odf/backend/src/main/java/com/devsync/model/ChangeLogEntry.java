@@ -0,0 +1,89 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One entity mutation in the delta-sync feed. The payload is the full state
+ * of the entity after the change (or just its id for deletes), so a client
+ * only ever needs the newest entry per entity key.
+ */
+@Entity
+@Table(name = "change_log")
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Assigned after commit by ChangeLogService.sequence()
+    @Column(insertable = false, updatable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", nullable = false)
+    private ChangeScope scopeType;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "entity_key", nullable = false)
+    private String entityKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeOperation operation;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Object> payload;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ChangeLogEntry() {}
+
+    public ChangeLogEntry(ChangeScope scopeType, Long scopeId, ChangeEntityType entityType, Long entityId,
+                          String entityKey, ChangeOperation operation, Map<String, Object> payload) {
+        this.scopeType = scopeType;
+        this.scopeId = scopeId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.entityKey = entityKey;
+        this.operation = operation;
+        this.payload = payload;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getVersion() { return version; }
+
+    public ChangeScope getScopeType() { return scopeType; }
+
+    public Long getScopeId() { return scopeId; }
+
+    public ChangeEntityType getEntityType() { return entityType; }
+
+    public Long getEntityId() { return entityId; }
+
+    public String getEntityKey() { return entityKey; }
+
+    public ChangeOperation getOperation() { return operation; }
+
+    public Map<String, Object> getPayload() { return payload; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
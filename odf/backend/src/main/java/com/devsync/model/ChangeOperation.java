@@ -0,0 +1,13 @@
+package com.devsync.model;
+
+public enum ChangeOperation {
+    CREATE,
+    UPDATE,
+    DELETE,
+    PIN,
+    UNPIN,
+    ARCHIVE,
+    UNARCHIVE,
+    MEMBER_ADD,
+    MEMBER_REMOVE
+}
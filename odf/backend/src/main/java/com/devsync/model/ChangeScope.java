@@ -0,0 +1,7 @@
+package com.devsync.model;
+
+public enum ChangeScope {
+    USER,
+    CHANNEL,
+    WORKSPACE
+}
@@ -51,6 +51,8 @@ public class Channel {
     @OneToMany(mappedBy = "channel", cascade = CascadeType.ALL)
     private Set<Message> messages = new HashSet<>();
 
+    private Integer messageRetentionDays;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -99,6 +101,9 @@ public class Channel {
     public Set<Message> getMessages() { return messages; }
     public void setMessages(Set<Message> messages) { this.messages = messages; }
 
+    public Integer getMessageRetentionDays() { return messageRetentionDays; }
+    public void setMessageRetentionDays(Integer messageRetentionDays) { this.messageRetentionDays = messageRetentionDays; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
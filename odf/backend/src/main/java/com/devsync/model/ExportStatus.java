@@ -0,0 +1,8 @@
+package com.devsync.model;
+
+public enum ExportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,88 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "list_items")
+public class ListItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "list_id", nullable = false)
+    private Long listId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(length = 100)
+    private String assignee;
+
+    private LocalDate dueDate;
+
+    // Generated by the database; only used as a sort key in queries
+    @Column(name = "due_sort", insertable = false, updatable = false)
+    private LocalDate dueSort;
+
+    // One of low, medium, high
+    @Column(length = 20)
+    private String priority = "medium";
+
+    @Column(nullable = false, length = 50)
+    private String status;
+
+    private boolean completed = false;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ListItem() {}
+
+    public ListItem(Long listId, String title, String status) {
+        this.listId = listId;
+        this.title = title;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+
+    public Long getListId() { return listId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getAssignee() { return assignee; }
+    public void setAssignee(String assignee) { this.assignee = assignee; }
+
+    public LocalDate getDueDate() { return dueDate; }
+    public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public boolean isCompleted() { return completed; }
+    public void setCompleted(boolean completed) { this.completed = completed; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
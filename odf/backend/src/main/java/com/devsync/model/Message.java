@@ -35,7 +35,8 @@ public class Message {
     @JoinColumn(name = "parent_message_id")
     private Message parentMessage;
 
-    @OneToMany(mappedBy = "parentMessage", cascade = CascadeType.ALL)
+    // Not cascaded: MessageService deletes a thread's replies itself and logs each one
+    @OneToMany(mappedBy = "parentMessage")
     private Set<Message> replies = new HashSet<>();
 
     @OneToMany(mappedBy = "message", cascade = CascadeType.ALL)
@@ -0,0 +1,52 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "message_mentions",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"message_id", "user_id"}))
+public class MessageMention {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "channel_id", nullable = false)
+    private Long channelId;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public MessageMention() {}
+
+    public MessageMention(Long messageId, Long userId, Long channelId) {
+        this.messageId = messageId;
+        this.userId = userId;
+        this.channelId = channelId;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getMessageId() { return messageId; }
+    public void setMessageId(Long messageId) { this.messageId = messageId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getChannelId() { return channelId; }
+    public void setChannelId(Long channelId) { this.channelId = channelId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,59 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "message_outbox")
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Both null for events outside a channel
+    @Column(name = "channel_id")
+    private Long channelId;
+
+    @Column(name = "channel_seq")
+    private Long channelSeq;
+
+    @Column(nullable = false)
+    private String destination;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public OutboxEvent() {}
+
+    public OutboxEvent(Long channelId, Long channelSeq, String destination, String eventType, String payload) {
+        this.channelId = channelId;
+        this.channelSeq = channelSeq;
+        this.destination = destination;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getChannelId() { return channelId; }
+
+    public Long getChannelSeq() { return channelSeq; }
+
+    public String getDestination() { return destination; }
+
+    public String getEventType() { return eventType; }
+
+    public String getPayload() { return payload; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,65 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A list / task board. Named to stay clear of {@link java.util.List}.
+ */
+@Entity
+@Table(name = "lists")
+public class TaskList {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 255)
+    private String title;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "workspace_id")
+    private Long workspaceId;
+
+    @Size(max = 100)
+    private String template;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public TaskList() {}
+
+    public TaskList(String title, Long createdBy, Long workspaceId, String template) {
+        this.title = title;
+        this.createdBy = createdBy;
+        this.workspaceId = workspaceId;
+        this.template = template;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public Long getCreatedBy() { return createdBy; }
+
+    public Long getWorkspaceId() { return workspaceId; }
+
+    public String getTemplate() { return template; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
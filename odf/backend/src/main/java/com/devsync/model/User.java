@@ -41,6 +41,9 @@ public class User {
 
     private LocalDateTime lastSeen;
 
+    @JsonIgnore
+    private String fcmToken;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -86,6 +89,9 @@ public class User {
     public LocalDateTime getLastSeen() { return lastSeen; }
     public void setLastSeen(LocalDateTime lastSeen) { this.lastSeen = lastSeen; }
 
+    public String getFcmToken() { return fcmToken; }
+    public void setFcmToken(String fcmToken) { this.fcmToken = fcmToken; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -41,6 +41,8 @@ public class Workspace {
     @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL)
     private Set<Channel> channels = new HashSet<>();
 
+    private Integer messageRetentionDays;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -78,6 +80,9 @@ public class Workspace {
     public Set<Channel> getChannels() { return channels; }
     public void setChannels(Set<Channel> channels) { this.channels = channels; }
 
+    public Integer getMessageRetentionDays() { return messageRetentionDays; }
+    public void setMessageRetentionDays(Integer messageRetentionDays) { this.messageRetentionDays = messageRetentionDays; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
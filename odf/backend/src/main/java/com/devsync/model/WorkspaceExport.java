@@ -0,0 +1,85 @@
+package com.devsync.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "workspace_exports")
+public class WorkspaceExport {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Column(name = "requested_by")
+    private Long requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExportStatus status = ExportStatus.PENDING;
+
+    private String filePath;
+
+    private int channelsTotal;
+    private int channelsDone;
+    private long messagesExported;
+    private long attachmentsExported;
+    private long bytesWritten;
+    private Long lastChannelId;
+    private long checkpointMessages;
+    private long checkpointAttachments;
+    private String error;
+    private LocalDateTime heartbeatAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public WorkspaceExport() {}
+
+    public WorkspaceExport(Long workspaceId, Long requestedBy) {
+        this.workspaceId = workspaceId;
+        this.requestedBy = requestedBy;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getWorkspaceId() { return workspaceId; }
+
+    public Long getRequestedBy() { return requestedBy; }
+
+    public ExportStatus getStatus() { return status; }
+
+    public String getFilePath() { return filePath; }
+
+    public int getChannelsTotal() { return channelsTotal; }
+
+    public int getChannelsDone() { return channelsDone; }
+
+    public long getMessagesExported() { return messagesExported; }
+
+    public long getAttachmentsExported() { return attachmentsExported; }
+
+    public long getBytesWritten() { return bytesWritten; }
+
+    public Long getLastChannelId() { return lastChannelId; }
+
+    public long getCheckpointMessages() { return checkpointMessages; }
+
+    public long getCheckpointAttachments() { return checkpointAttachments; }
+
+    public String getError() { return error; }
+
+    public LocalDateTime getHeartbeatAt() { return heartbeatAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+}
@@ -0,0 +1,32 @@
+package com.devsync.ratelimit;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * Records the client address in the WebSocket session attributes so STOMP
+ * frames can be rate limited by address.
+ */
+public class ClientAddressHandshakeInterceptor implements HandshakeInterceptor {
+    public static final String ADDRESS_ATTRIBUTE = "devsync.clientAddress";
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+                                   Map<String, Object> attributes) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote != null && remote.getAddress() != null) {
+            attributes.put(ADDRESS_ATTRIBUTE, remote.getAddress().getHostAddress());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+                               Exception exception) {
+    }
+}
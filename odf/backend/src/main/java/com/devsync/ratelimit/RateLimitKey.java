@@ -0,0 +1,13 @@
+package com.devsync.ratelimit;
+
+/**
+ * What a rate limit rule counts against.
+ */
+public enum RateLimitKey {
+    /** The authenticated user; anonymous callers fall back to their address. */
+    USER,
+    /** The client address. */
+    ADDRESS,
+    /** The first numeric path or destination segment, e.g. the channel a message is posted to. */
+    CHANNEL
+}
@@ -0,0 +1,118 @@
+package com.devsync.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One configured rule: the paths or destinations it covers, what it is keyed
+ * by and its bucket. Each pattern's literal prefix is checked before the
+ * full match, so requests outside the rule are turned away with a
+ * {@code startsWith}.
+ */
+class RateLimitPolicy {
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private final String name;
+    private final String[] patterns;
+    private final String[] prefixes;
+    private final Set<String> methods;
+    private final RateLimitKey key;
+    private final TokenBucketLimiter limiter;
+    private final Counter allowed;
+    private final Counter rejected;
+    private volatile int bucketCount;
+
+    RateLimitPolicy(String transport, RateLimitProperties.Rule rule, int stripes, MeterRegistry meterRegistry) {
+        this.name = rule.getName();
+        this.patterns = rule.getPatterns().toArray(String[]::new);
+        this.prefixes = new String[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            prefixes[i] = literalPrefix(patterns[i]);
+        }
+        this.methods = rule.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.key = rule.getKey();
+        this.limiter = new TokenBucketLimiter(rule.getCapacity(), rule.getRefillPerSecond(), stripes);
+
+        this.allowed = Counter.builder("ratelimit.requests")
+                .tag("transport", transport).tag("policy", name).tag("outcome", "allowed")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ratelimit.requests")
+                .tag("transport", transport).tag("policy", name).tag("outcome", "rejected")
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.buckets", this, policy -> policy.bucketCount)
+                .tag("transport", transport).tag("policy", name)
+                .register(meterRegistry);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    RateLimitKey getKey() {
+        return key;
+    }
+
+    boolean matches(String method, String path) {
+        if (method != null && !methods.isEmpty() && !methods.contains(method)) {
+            return false;
+        }
+        for (int i = 0; i < patterns.length; i++) {
+            if (path.startsWith(prefixes[i])
+                    && (prefixes[i].length() == patterns[i].length() ? path.equals(patterns[i])
+                                                                      : MATCHER.match(patterns[i], path))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes a token without counting the outcome; the request is counted
+     * once every matching rule has been asked.
+     */
+    long tryAcquire(Object subject, long nowNanos) {
+        return limiter.tryAcquire(subject, nowNanos);
+    }
+
+    void refund(Object subject) {
+        limiter.refund(subject);
+    }
+
+    void countAllowed() {
+        allowed.increment();
+    }
+
+    void countRejected() {
+        rejected.increment();
+    }
+
+    void evictFull(long nowNanos) {
+        bucketCount = limiter.evictFull(nowNanos);
+    }
+
+    private static String literalPrefix(String pattern) {
+        int end = pattern.length();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                end = i;
+                break;
+            }
+        }
+        return pattern.substring(0, end);
+    }
+
+    static List<RateLimitPolicy> of(String transport, List<RateLimitProperties.Rule> rules, int stripes,
+                                    MeterRegistry meterRegistry) {
+        return rules.stream().map(rule -> new RateLimitPolicy(transport, rule, stripes, meterRegistry)).toList();
+    }
+}
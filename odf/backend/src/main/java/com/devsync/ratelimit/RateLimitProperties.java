@@ -0,0 +1,57 @@
+package com.devsync.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "ratelimit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int stripes = 64;
+    private List<String> exemptAddresses = new ArrayList<>();
+    private List<Rule> http = new ArrayList<>();
+    private List<Rule> stomp = new ArrayList<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getStripes() { return stripes; }
+    public void setStripes(int stripes) { this.stripes = stripes; }
+
+    public List<String> getExemptAddresses() { return exemptAddresses; }
+    public void setExemptAddresses(List<String> exemptAddresses) { this.exemptAddresses = exemptAddresses; }
+
+    public List<Rule> getHttp() { return http; }
+    public void setHttp(List<Rule> http) { this.http = http; }
+
+    public List<Rule> getStomp() { return stomp; }
+    public void setStomp(List<Rule> stomp) { this.stomp = stomp; }
+
+    public static class Rule {
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();
+        private RateLimitKey key = RateLimitKey.USER;
+        private int capacity;
+        private double refillPerSecond;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public List<String> getPatterns() { return patterns; }
+        public void setPatterns(List<String> patterns) { this.patterns = patterns; }
+
+        public List<String> getMethods() { return methods; }
+        public void setMethods(List<String> methods) { this.methods = methods; }
+
+        public RateLimitKey getKey() { return key; }
+        public void setKey(RateLimitKey key) { this.key = key; }
+
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+
+        public double getRefillPerSecond() { return refillPerSecond; }
+        public void setRefillPerSecond(double refillPerSecond) { this.refillPerSecond = refillPerSecond; }
+    }
+}
@@ -0,0 +1,140 @@
+package com.devsync.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Admission control for REST requests and inbound STOMP frames. Every rule
+ * matching a request takes a token from its bucket; the request is admitted
+ * only if all of them had one. When a rule rejects it, the tokens the earlier
+ * rules took are put back and the later rules are not asked, so a rejected
+ * request costs no bucket anything.
+ *
+ * <p>Requests from an exempt address (a NAT gateway, a load generator) skip
+ * the address-keyed rules but still count against per-user and per-channel
+ * ones.
+ */
+public class RateLimiter {
+    private final boolean enabled;
+    private final Set<String> exemptAddresses;
+    private final List<RateLimitPolicy> httpPolicies;
+    private final List<RateLimitPolicy> stompPolicies;
+
+    // The rules that granted a token are tracked as bits of a long
+    private static final int MAX_RULES = Long.SIZE;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getHttp().size() > MAX_RULES || properties.getStomp().size() > MAX_RULES) {
+            throw new IllegalArgumentException("At most " + MAX_RULES + " rate limit rules per transport");
+        }
+        this.enabled = properties.isEnabled();
+        this.exemptAddresses = Set.copyOf(properties.getExemptAddresses());
+        this.httpPolicies = RateLimitPolicy.of("http", properties.getHttp(), properties.getStripes(), meterRegistry);
+        this.stompPolicies = RateLimitPolicy.of("stomp", properties.getStomp(), properties.getStripes(), meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns 0 when the request is admitted, otherwise the nanoseconds until
+     * the rejecting bucket has a token again.
+     */
+    public long admitHttp(String method, String path, Object user, String address) {
+        return admit(httpPolicies, method, path, user, address);
+    }
+
+    public long admitStomp(String destination, Object user, String address) {
+        return admit(stompPolicies, null, destination, user, address);
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        httpPolicies.forEach(policy -> policy.evictFull(now));
+        stompPolicies.forEach(policy -> policy.evictFull(now));
+    }
+
+    private long admit(List<RateLimitPolicy> policies, String method, String path, Object user, String address) {
+        if (!enabled || path == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long granted = 0;
+        for (int i = 0; i < policies.size(); i++) {
+            RateLimitPolicy policy = policies.get(i);
+            Object subject = subject(policy, method, path, user, address);
+            if (subject == null) {
+                continue;
+            }
+            long wait = policy.tryAcquire(subject, now);
+            if (wait > 0) {
+                policy.countRejected();
+                for (int j = 0; j < i; j++) {
+                    if ((granted & (1L << j)) != 0) {
+                        RateLimitPolicy earlier = policies.get(j);
+                        earlier.refund(subject(earlier, method, path, user, address));
+                    }
+                }
+                return wait;
+            }
+            granted |= 1L << i;
+        }
+        for (int i = 0; i < policies.size(); i++) {
+            if ((granted & (1L << i)) != 0) {
+                policies.get(i).countAllowed();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * What the rule counts this request against, or null when the rule does
+     * not apply to it.
+     */
+    private Object subject(RateLimitPolicy policy, String method, String path, Object user, String address) {
+        return policy.matches(method, path) ? subject(policy.getKey(), path, user, address) : null;
+    }
+
+    private Object subject(RateLimitKey key, String path, Object user, String address) {
+        return switch (key) {
+            case USER -> user != null ? user : exempt(address) ? null : address;
+            case ADDRESS -> exempt(address) ? null : address;
+            case CHANNEL -> firstNumericSegment(path);
+        };
+    }
+
+    private boolean exempt(String address) {
+        return address == null || exemptAddresses.contains(address);
+    }
+
+    static Long firstNumericSegment(String path) {
+        int length = path.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && path.charAt(i) == '/') {
+                i++;
+            }
+            int start = i;
+            long value = 0;
+            boolean numeric = i < length;
+            while (i < length && path.charAt(i) != '/') {
+                char c = path.charAt(i);
+                if (numeric && c >= '0' && c <= '9' && i - start < 18) {
+                    value = value * 10 + (c - '0');
+                } else {
+                    numeric = false;
+                }
+                i++;
+            }
+            if (numeric) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.devsync.ratelimit;
+
+import com.devsync.security.UserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.core.Authentication;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * Applies the STOMP rate limit rules to SEND and SUBSCRIBE frames by
+ * destination. It runs on the inbound channel before any executor hand-off.
+ * A rejected frame is dropped rather than answered with an ERROR frame,
+ * which would close the whole connection.
+ */
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(StompRateLimitInterceptor.class);
+
+    private final RateLimiter rateLimiter;
+
+    public StompRateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (type != SimpMessageType.MESSAGE && type != SimpMessageType.SUBSCRIBE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !rateLimiter.isEnabled()) {
+            return message;
+        }
+
+        long wait = rateLimiter.admitStomp(destination, subject(SimpMessageHeaderAccessor.getUser(headers)),
+                address(headers));
+        if (wait > 0) {
+            logger.debug("Dropped {} to {} from session {}", type, destination,
+                    SimpMessageHeaderAccessor.getSessionId(headers));
+            return null;
+        }
+        return message;
+    }
+
+    private static Object subject(Principal user) {
+        if (user == null) {
+            return null;
+        }
+        if (user instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return user.getName();
+    }
+
+    private static String address(MessageHeaders headers) {
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(headers);
+        Object address = attributes != null ? attributes.get(ClientAddressHandshakeInterceptor.ADDRESS_ATTRIBUTE) : null;
+        return address != null ? address.toString() : SimpMessageHeaderAccessor.getSessionId(headers);
+    }
+}
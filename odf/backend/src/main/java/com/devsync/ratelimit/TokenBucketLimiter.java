@@ -0,0 +1,106 @@
+package com.devsync.ratelimit;
+
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * Token buckets keyed by an arbitrary subject (user id, client address,
+ * channel id). A bucket is stored as the single instant at which it will be
+ * full again: it holds {@code capacity - (fullAt - now) / interval} tokens,
+ * so taking one is a comparison and an addition. Keys are spread over
+ * striped maps, each guarded by its own monitor, so requests for unrelated
+ * subjects rarely meet on a lock.
+ */
+public class TokenBucketLimiter {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public TokenBucketLimiter(int capacity, double refillPerSecond, int stripeCount) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Takes one token from the subject's bucket. Returns 0 when granted,
+     * otherwise the nanoseconds until a token will be available.
+     */
+    public long tryAcquire(Object key, long nowNanos) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(nowNanos);
+                stripe.buckets.put(key, bucket);
+            }
+            long fullAt = Math.max(bucket.fullAt, nowNanos) + intervalNanos;
+            long excess = fullAt - nowNanos - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            bucket.fullAt = fullAt;
+            return 0;
+        }
+    }
+
+    /**
+     * Puts back a token granted by {@link #tryAcquire} for a request that
+     * another rule rejected.
+     */
+    public void refund(Object key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) {
+                bucket.fullAt -= intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled completely; a full bucket behaves
+     * exactly like a missing one. Returns the number of buckets left.
+     */
+    public int evictFull(long nowNanos) {
+        int remaining = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Bucket> it = stripe.buckets.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().fullAt - nowNanos <= 0) {
+                        it.remove();
+                    }
+                }
+                remaining += stripe.buckets.size();
+            }
+        }
+        return remaining;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+        private final HashMap<Object, Bucket> buckets = new HashMap<>();
+    }
+
+    private static final class Bucket {
+        private long fullAt;
+
+        Bucket(long fullAt) {
+            this.fullAt = fullAt;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.devsync.repository;
+
+import com.devsync.dto.ChatMessage;
+import com.devsync.dto.ExportedMessage;
+import com.devsync.model.ArchivedMessage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+@Transactional(readOnly = true)
+public interface ArchivedMessageRepository extends JpaRepository<ArchivedMessage, Long> {
+    @Query("SELECT new com.devsync.dto.ChatMessage(a, u.name) FROM ArchivedMessage a, User u " +
+           "WHERE u.id = a.senderId AND a.channelId = ?1 " +
+           "AND (a.createdAt < ?2 OR (a.createdAt = ?2 AND a.id < ?3)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ChatMessage> findChannelHistoryBefore(Long channelId, LocalDateTime beforeTime, Long beforeId, Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.ChatMessage(a, u.name) FROM ArchivedMessage a, User u " +
+           "WHERE u.id = a.senderId AND a.channelId = ?1 AND a.content LIKE %?2% " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ChatMessage> searchInChannel(Long channelId, String query, Pageable pageable);
+
+    /**
+     * Same as {@link MessageRepository#streamForExport} for the cold tier,
+     * which keeps no update time.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.devsync.dto.ExportedMessage(a.id, a.senderId, u.name, a.content, a.type, " +
+           "a.parentMessageId, a.edited, a.pinned, a.createdAt, a.createdAt) " +
+           "FROM ArchivedMessage a LEFT JOIN User u ON u.id = a.senderId " +
+           "WHERE a.channelId = ?1 ORDER BY a.createdAt, a.id")
+    Stream<ExportedMessage> streamForExport(Long channelId);
+
+    /**
+     * Same as {@link MessageRepository#deleteExpired} for the cold tier.
+     */
+    @Transactional
+    @Query(value = "WITH doomed AS (SELECT id FROM messages_archive " +
+                   "WHERE channel_id = ?1 AND created_at < ?2 LIMIT ?3), " +
+                   "reactions AS (DELETE FROM message_reactions WHERE message_id IN (SELECT id FROM doomed)), " +
+                   "mentions AS (DELETE FROM message_mentions WHERE message_id IN (SELECT id FROM doomed)), " +
+                   "files AS (DELETE FROM attachments WHERE message_id IN (SELECT id FROM doomed)) " +
+                   "DELETE FROM messages_archive WHERE id IN (SELECT id FROM doomed) RETURNING id", nativeQuery = true)
+    List<Long> deleteExpired(Long channelId, LocalDateTime cutoff, int limit);
+
+    @Query("SELECT a.createdAt FROM ArchivedMessage a WHERE a.id = ?1")
+    Optional<LocalDateTime> findCreatedAtById(Long id);
+}
@@ -0,0 +1,38 @@
+package com.devsync.repository;
+
+import com.devsync.dto.ExportedAttachment;
+import com.devsync.model.Attachment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+    /**
+     * file_url values whose decoded last path segment is one of the names;
+     * matches the expression index from V13.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT DISTINCT file_url FROM attachments WHERE attachment_file_name(file_url) IN ?1",
+           nativeQuery = true)
+    List<String> findUrlsByFileNames(Collection<String> fileNames);
+
+    /**
+     * Attachments of a channel's messages in both tiers; the message
+     * reference is a plain column since messages were partitioned.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.devsync.dto.ExportedAttachment(a.id, a.message.id, a.fileName, a.fileUrl, a.fileType, " +
+           "a.fileSize) FROM Attachment a " +
+           "WHERE a.message.id IN (SELECT m.id FROM Message m WHERE m.channel.id = ?1) " +
+           "OR a.message.id IN (SELECT am.id FROM ArchivedMessage am WHERE am.channelId = ?1) ORDER BY a.id")
+    Stream<ExportedAttachment> streamForExport(Long channelId);
+}
@@ -0,0 +1,29 @@
+package com.devsync.repository;
+
+import com.devsync.model.CacheInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+    @Modifying
+    @Query(value = "INSERT INTO cache_invalidations (cache, key_id, origin) " +
+                   "SELECT ?1, k, ?3 FROM unnest(cast(?2 AS bigint[])) k",
+           nativeQuery = true)
+    int insert(String cache, Long[] keyIds, String origin);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT i FROM CacheInvalidation i WHERE i.createdAt > ?1 AND i.origin <> ?2 ORDER BY i.id")
+    List<CacheInvalidation> findSince(LocalDateTime since, String origin);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation i WHERE i.createdAt < ?1")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,39 @@
+package com.devsync.repository;
+
+import com.devsync.dto.CanvasBlockView;
+import com.devsync.model.CanvasBlock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CanvasBlockRepository extends JpaRepository<CanvasBlock, Long> {
+    @Query("SELECT new com.devsync.dto.CanvasBlockView(b.id, b.type, b.content, b.position, b.version) " +
+           "FROM CanvasBlock b WHERE b.canvasId = ?1 ORDER BY b.position, b.id")
+    List<CanvasBlockView> findViewsByCanvas(Long canvasId);
+
+    Optional<CanvasBlock> findByIdAndCanvasId(Long id, Long canvasId);
+
+    @Query("SELECT b.position FROM CanvasBlock b WHERE b.canvasId = ?1 AND b.id = ?2")
+    Optional<Long> findPosition(Long canvasId, Long blockId);
+
+    @Query("SELECT MIN(b.position) FROM CanvasBlock b WHERE b.canvasId = ?1 AND b.id <> ?2")
+    Long findFirstPosition(Long canvasId, Long excludedBlockId);
+
+    @Query("SELECT MIN(b.position) FROM CanvasBlock b WHERE b.canvasId = ?1 AND b.position > ?2 AND b.id <> ?3")
+    Long findNextPosition(Long canvasId, long position, Long excludedBlockId);
+
+    @Query("SELECT b FROM CanvasBlock b WHERE b.canvasId = ?1 AND b.position <= ?2 AND b.id <> ?3 " +
+           "ORDER BY b.position DESC, b.id DESC")
+    List<CanvasBlock> findAtOrBefore(Long canvasId, long position, Long excludedBlockId, Pageable pageable);
+
+    @Query("SELECT b FROM CanvasBlock b WHERE b.canvasId = ?1 AND b.position > ?2 AND b.id <> ?3 " +
+           "ORDER BY b.position, b.id")
+    List<CanvasBlock> findAfter(Long canvasId, long position, Long excludedBlockId, Pageable pageable);
+
+    List<CanvasBlock> findByCanvasIdOrderByPositionAscIdAsc(Long canvasId);
+}
@@ -0,0 +1,28 @@
+package com.devsync.repository;
+
+import com.devsync.dto.CanvasOpView;
+import com.devsync.model.CanvasOp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CanvasOpRepository extends JpaRepository<CanvasOp, Long> {
+    @Query("SELECT new com.devsync.dto.CanvasOpView(o.version, o.opType, o.blockId, o.userId, o.clientOpId, " +
+           "o.payload) FROM CanvasOp o WHERE o.canvasId = ?1 AND o.version > ?2 ORDER BY o.version")
+    List<CanvasOpView> findSince(Long canvasId, long sinceVersion, Pageable pageable);
+
+    @Query("SELECT o.version FROM CanvasOp o WHERE o.canvasId = ?1 AND o.clientId = ?2 AND o.clientOpId = ?3")
+    Optional<Long> findVersionByClientOp(Long canvasId, String clientId, String clientOpId);
+
+    @Modifying
+    @Query(value = "DELETE FROM canvas_ops WHERE id IN (" +
+                   "SELECT id FROM canvas_ops WHERE created_at < ?1 ORDER BY id LIMIT ?2)", nativeQuery = true)
+    int deleteOlderThan(LocalDateTime cutoff, int limit);
+}
@@ -0,0 +1,64 @@
+package com.devsync.repository;
+
+import com.devsync.dto.CanvasAccess;
+import com.devsync.dto.CanvasSummary;
+import com.devsync.model.Canvas;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CanvasRepository extends JpaRepository<Canvas, Long> {
+    @Query("SELECT new com.devsync.dto.CanvasAccess(c.id, c.createdBy, c.workspaceId) FROM Canvas c WHERE c.id = ?1")
+    Optional<CanvasAccess> findAccessById(Long canvasId);
+
+    @Query("SELECT new com.devsync.dto.CanvasSummary(c.id, c.title, c.workspaceId, c.createdBy, c.template, " +
+           "c.starred, c.version, c.updatedAt) FROM Canvas c WHERE c.id = ?1")
+    Optional<CanvasSummary> findSummaryById(Long canvasId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.CanvasSummary(c.id, c.title, c.workspaceId, c.createdBy, c.template, " +
+           "c.starred, c.version, c.updatedAt) FROM Canvas c WHERE c.workspaceId = ?1 ORDER BY c.updatedAt DESC")
+    List<CanvasSummary> findSummariesByWorkspace(Long workspaceId);
+
+    /**
+     * Canvases the user created plus those in any of their workspaces.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.CanvasSummary(c.id, c.title, c.workspaceId, c.createdBy, c.template, " +
+           "c.starred, c.version, c.updatedAt) FROM Canvas c WHERE c.createdBy = ?1 OR c.workspaceId IN " +
+           "(SELECT w.id FROM Workspace w JOIN w.members m WHERE m.id = ?1) ORDER BY c.updatedAt DESC")
+    List<CanvasSummary> findSummariesVisibleTo(Long userId);
+
+    /**
+     * Locks the canvas row until commit, serializing operations on one canvas,
+     * and returns its current version.
+     */
+    @Query(value = "SELECT version FROM canvases WHERE id = ?1 FOR UPDATE", nativeQuery = true)
+    Long lockVersion(Long canvasId);
+
+    @Modifying
+    @Query(value = "UPDATE canvases SET version = ?2, updated_at = CURRENT_TIMESTAMP WHERE id = ?1",
+           nativeQuery = true)
+    int updateVersion(Long canvasId, long version);
+
+    @Query("SELECT c.logHorizon FROM Canvas c WHERE c.id = ?1")
+    long findLogHorizon(Long canvasId);
+
+    /**
+     * Raises each canvas's horizon to the newest operation in the next chunk
+     * CanvasOpRepository.deleteOlderThan will remove. Run both in one transaction.
+     */
+    @Modifying
+    @Query(value = "UPDATE canvases c SET log_horizon = GREATEST(c.log_horizon, d.version) FROM (" +
+                   "SELECT canvas_id, MAX(version) AS version FROM (" +
+                   "SELECT canvas_id, version FROM canvas_ops WHERE created_at < ?1 ORDER BY id LIMIT ?2) chunk " +
+                   "GROUP BY canvas_id) d WHERE c.id = d.canvas_id", nativeQuery = true)
+    int raiseLogHorizons(LocalDateTime cutoff, int limit);
+}
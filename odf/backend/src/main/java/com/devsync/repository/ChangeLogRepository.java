@@ -0,0 +1,93 @@
+package com.devsync.repository;
+
+import com.devsync.dto.ChangeEntry;
+import com.devsync.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.ChangeEntry(c.version, c.scopeType, c.scopeId, c.entityType, c.entityId, " +
+           "c.operation, c.payload) FROM ChangeLogEntry c WHERE c.version > ?1 AND (" +
+           "(c.scopeType = com.devsync.model.ChangeScope.USER AND c.scopeId = ?2) OR " +
+           "(c.scopeType = com.devsync.model.ChangeScope.CHANNEL AND c.scopeId IN ?3) OR " +
+           "(c.scopeType = com.devsync.model.ChangeScope.WORKSPACE AND c.scopeId IN ?4)) " +
+           "ORDER BY c.version")
+    List<ChangeEntry> findForUser(long sinceVersion, Long userId, Collection<Long> channelIds,
+                                  Collection<Long> workspaceIds, Pageable pageable);
+
+    /**
+     * Appends one entry per user in that user's scope: the key is the prefix
+     * followed by the user id, and the payload gets a {@code userId} field.
+     * Rows are inserted in the order of the ids.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO change_log (scope_type, scope_id, entity_type, entity_id, entity_key, operation, " +
+                   "payload) SELECT 'USER', u.id, ?1, ?2, ?3 || u.id, ?4, " +
+                   "cast(?5 AS jsonb) || jsonb_build_object('userId', u.id) " +
+                   "FROM unnest(cast(?6 AS bigint[])) WITH ORDINALITY AS u(id, n) ORDER BY u.n", nativeQuery = true)
+    int insertForUsers(String entityType, Long entityId, String entityKeyPrefix, String operation, String payload,
+                       Long[] userIds);
+
+    @Query(value = "SELECT COALESCE(MAX(version), 0) FROM change_log", nativeQuery = true)
+    long findLatestVersion();
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(?1)", nativeQuery = true)
+    boolean tryLock(long key);
+
+    /**
+     * Waits for the transaction-scoped advisory lock that {@link #tryLock} takes.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(?1)", nativeQuery = true)
+    int lock(long key);
+
+    /**
+     * Stamps the next versions on committed, unversioned rows in id order.
+     * Must run under the sequencer lock.
+     */
+    @Modifying
+    @Query(value = "UPDATE change_log c SET version = n.version FROM (" +
+                   "SELECT id, nextval('change_log_version_seq') AS version FROM (" +
+                   "SELECT id FROM change_log WHERE version IS NULL ORDER BY id LIMIT ?1) pending) n " +
+                   "WHERE c.id = n.id", nativeQuery = true)
+    int assignVersions(int limit);
+
+    /**
+     * Deletes entries older than the cutoff that a newer entry for the same
+     * entity and scope supersedes.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM change_log WHERE id IN (" +
+                   "SELECT c.id FROM change_log c WHERE c.version IS NOT NULL AND c.created_at < ?1 " +
+                   "AND EXISTS (SELECT 1 FROM change_log n WHERE n.entity_key = c.entity_key " +
+                   "AND n.scope_type = c.scope_type AND n.scope_id = c.scope_id AND n.version > c.version) " +
+                   "LIMIT ?2)", nativeQuery = true)
+    int deleteSuperseded(LocalDateTime cutoff, int limit);
+
+    @Query(value = "SELECT MAX(version) FROM change_log WHERE created_at < ?1", nativeQuery = true)
+    Long findMaxVersionBefore(LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM change_log WHERE id IN (" +
+                   "SELECT id FROM change_log WHERE version <= ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteUpTo(long version, int limit);
+
+    @Query(value = "SELECT version FROM change_log_horizon WHERE id = 1", nativeQuery = true)
+    long findHorizon();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE change_log_horizon SET version = GREATEST(version, ?1) WHERE id = 1", nativeQuery = true)
+    int raiseHorizon(long version);
+}
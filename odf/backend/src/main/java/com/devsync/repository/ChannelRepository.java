@@ -1,25 +1,183 @@
 package com.devsync.repository;
 
+import com.devsync.dto.ChannelAccess;
+import com.devsync.dto.ChannelListItem;
+import com.devsync.dto.ChannelMetadata;
+import com.devsync.dto.ChannelRetention;
+import com.devsync.dto.ChannelSummary;
+import com.devsync.dto.ContentVersion;
+import com.devsync.dto.UserListItem;
 import com.devsync.model.Channel;
 import com.devsync.model.Workspace;
 import com.devsync.model.User;
 import com.devsync.model.ChannelType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ChannelRepository extends JpaRepository<Channel, Long> {
+    @Transactional(readOnly = true)
     List<Channel> findByWorkspaceAndArchivedFalse(Workspace workspace);
     
+    @Transactional(readOnly = true)
     @Query("SELECT c FROM Channel c JOIN c.members m WHERE m = ?1 AND c.archived = false")
     List<Channel> findByMemberAndArchivedFalse(User user);
     
+    @Transactional(readOnly = true)
     @Query("SELECT c FROM Channel c WHERE c.workspace = ?1 AND c.type = ?2 AND c.archived = false")
     List<Channel> findByWorkspaceAndType(Workspace workspace, ChannelType type);
     
+    @Transactional(readOnly = true)
     @Query("SELECT c FROM Channel c WHERE c.name LIKE %?1% AND c.workspace = ?2")
     List<Channel> searchByNameInWorkspace(String name, Workspace workspace);
+
+    @Query("SELECT COUNT(c) > 0 FROM Channel c JOIN c.members m WHERE c.id = ?1 AND m.id = ?2")
+    boolean isMember(Long channelId, Long userId);
+
+    @Query("SELECT m.id FROM Channel c JOIN c.members m WHERE c.id = ?1 AND m.id IN ?2")
+    List<Long> findMemberIdsIn(Long channelId, Collection<Long> userIds);
+
+    @Query("SELECT c.id FROM Channel c JOIN c.members m WHERE m.id = ?1")
+    List<Long> findIdsByMember(Long userId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.ChannelSummary(c.id, c.workspace.id, c.name, c.topic, c.type, c.updatedAt) " +
+           "FROM Channel c JOIN c.members m WHERE m.id = ?1 AND c.archived = false ORDER BY c.id")
+    List<ChannelSummary> findSummariesByMember(Long userId);
+
+    /**
+     * Unread message counts for all of a user's channels in one pass. Returns
+     * [channel_id, count] rows for channels with unread messages only. The floor
+     * bounds the scan to the hot message partitions.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT cm.channel_id, COUNT(m.id) FROM channel_members cm " +
+                   "JOIN channels c ON c.id = cm.channel_id AND NOT c.archived " +
+                   "JOIN messages m ON m.channel_id = cm.channel_id " +
+                   "AND m.created_at > COALESCE(cm.last_read_at, cm.joined_at, ?2) AND m.created_at >= ?2 " +
+                   "AND m.sender_id <> cm.user_id " +
+                   "WHERE cm.user_id = ?1 GROUP BY cm.channel_id", nativeQuery = true)
+    List<Object[]> countUnreadByChannel(Long userId, LocalDateTime floor);
+
+    @Query("SELECT new com.devsync.dto.ChannelSummary(c.id, c.workspace.id, c.name, c.topic, c.type, c.updatedAt) " +
+           "FROM Channel c WHERE c.id = ?1")
+    Optional<ChannelSummary> findSummaryById(Long channelId);
+
+    @Query("SELECT new com.devsync.dto.ChannelMetadata(c.id, c.topic, c.description, SIZE(c.members)) " +
+           "FROM Channel c WHERE c.id = ?1")
+    Optional<ChannelMetadata> findMetadataById(Long channelId);
+
+    @Query("SELECT c.id FROM Channel c WHERE c.workspace.id = ?1 AND c.id > ?2 ORDER BY c.id")
+    List<Long> findIdsInWorkspaceAfter(Long workspaceId, Long afterChannelId);
+
+    @Query("SELECT COUNT(c) FROM Channel c WHERE c.workspace.id = ?1")
+    long countInWorkspace(Long workspaceId);
+
+    @Query("SELECT c.updatedAt FROM Channel c WHERE c.id = ?1")
+    Optional<LocalDateTime> findUpdatedAtById(Long channelId);
+
+    /**
+     * Changes whenever a channel of the workspace is created, updated,
+     * archived or gains or loses a member (see {@link #touch}).
+     */
+    @Query("SELECT new com.devsync.dto.ContentVersion(COUNT(c), MAX(c.updatedAt)) FROM Channel c " +
+           "WHERE c.workspace.id = ?1")
+    ContentVersion findWorkspaceChannelsVersion(Long workspaceId);
+
+    @Query("SELECT new com.devsync.dto.ChannelAccess(c.id, creator.id, owner.id, c.archived) FROM Channel c " +
+           "LEFT JOIN c.createdBy creator LEFT JOIN c.workspace w LEFT JOIN w.owner owner WHERE c.id = ?1")
+    Optional<ChannelAccess> findAccessById(Long channelId);
+
+    /**
+     * Members in user id order, starting after the given id.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.UserListItem(u.id, u.name, u.profilePhoto, u.status, u.lastSeen) " +
+           "FROM Channel c JOIN c.members u WHERE c.id = ?1 AND u.id > ?2 ORDER BY u.id")
+    List<UserListItem> findMemberItems(Long channelId, Long afterUserId, Pageable pageable);
+
+    /**
+     * Unarchived channels of a workspace the user can see: all public channels
+     * plus the private ones they belong to.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.ChannelListItem(c.id, c.name, c.topic, c.type, SIZE(c.members)) " +
+           "FROM Channel c WHERE c.workspace.id = ?1 AND c.archived = false " +
+           "AND (c.type = com.devsync.model.ChannelType.PUBLIC " +
+           "OR EXISTS (SELECT 1 FROM Channel mc JOIN mc.members m WHERE mc.id = c.id AND m.id = ?2)) " +
+           "ORDER BY c.name, c.id")
+    List<ChannelListItem> findListItemsInWorkspace(Long workspaceId, Long userId);
+
+    @Modifying
+    @Query("UPDATE Channel c SET c.archived = ?2, c.updatedAt = CURRENT_TIMESTAMP WHERE c.id = ?1 AND c.archived <> ?2")
+    int updateArchived(Long channelId, boolean archived);
+
+    @Query("SELECT new com.devsync.dto.ChannelRetention(c.id, " +
+           "COALESCE(c.messageRetentionDays, w.messageRetentionDays, ?1)) FROM Channel c LEFT JOIN c.workspace w " +
+           "WHERE COALESCE(c.messageRetentionDays, w.messageRetentionDays, ?1) > 0 ORDER BY c.id")
+    List<ChannelRetention> findRetentionPolicies(int defaultDays);
+
+    @Modifying
+    @Query("UPDATE Channel c SET c.messageRetentionDays = ?2, c.updatedAt = CURRENT_TIMESTAMP WHERE c.id = ?1")
+    int updateRetention(Long channelId, Integer days);
+
+    @Modifying
+    @Query("UPDATE Channel c SET c.topic = ?2, c.updatedAt = CURRENT_TIMESTAMP WHERE c.id = ?1")
+    int updateTopic(Long channelId, String topic);
+
+    @Modifying
+    @Query(value = "UPDATE channels SET updated_at = CURRENT_TIMESTAMP WHERE id = ?1", nativeQuery = true)
+    int touch(Long channelId);
+
+    @Modifying
+    @Query(value = "INSERT INTO channel_members (channel_id, user_id) VALUES (?1, ?2) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int addMember(Long channelId, Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM channel_members WHERE channel_id = ?1 AND user_id = ?2", nativeQuery = true)
+    int removeMember(Long channelId, Long userId);
+
+    // The set-based statements below return the affected ids through RETURNING,
+    // so callers learn who actually changed without loading member collections.
+
+    /**
+     * Adds those of the users who belong to the channel's workspace, or any
+     * existing user for a channel outside a workspace; existing members are
+     * skipped. Returns the ids added.
+     */
+    @Query(value = "INSERT INTO channel_members (channel_id, user_id) " +
+                   "SELECT c.id, u.id FROM channels c JOIN users u ON u.id IN ?2 " +
+                   "WHERE c.id = ?1 AND (c.workspace_id IS NULL OR EXISTS (SELECT 1 FROM workspace_members wm " +
+                   "WHERE wm.workspace_id = c.workspace_id AND wm.user_id = u.id)) " +
+                   "ON CONFLICT DO NOTHING RETURNING user_id",
+           nativeQuery = true)
+    List<Long> addMembers(Long channelId, Collection<Long> userIds);
+
+    @Query(value = "DELETE FROM channel_members WHERE channel_id = ?1 AND user_id IN ?2 RETURNING user_id",
+           nativeQuery = true)
+    List<Long> removeMembers(Long channelId, Collection<Long> userIds);
+
+    /**
+     * Removes the users from every channel of the workspace; returns the
+     * (channel id, user id) of each deleted row.
+     */
+    @Query(value = "DELETE FROM channel_members cm USING channels c " +
+                   "WHERE cm.channel_id = c.id AND c.workspace_id = ?1 AND cm.user_id IN ?2 " +
+                   "RETURNING cm.channel_id, cm.user_id", nativeQuery = true)
+    List<Object[]> removeFromWorkspaceChannels(Long workspaceId, Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "UPDATE channel_members SET last_read_at = ?3 WHERE channel_id = ?1 AND user_id = ?2",
+           nativeQuery = true)
+    int markRead(Long channelId, Long userId, LocalDateTime readAt);
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.devsync.repository;
+
+import com.devsync.dto.ListItemView;
+import com.devsync.model.ListItem;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Item views page by keyset: (id) in creation order, (due_sort, id) in
+ * due-date order. Each view query matches one of the composite indexes
+ * from V7 so a page is an index range scan whatever the board size.
+ * HQL has no row-value comparison, so (due_sort, id) > (?, ?) is spelled out.
+ */
+@Repository
+public interface ListItemRepository extends JpaRepository<ListItem, Long> {
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i WHERE i.id = ?1")
+    Optional<ListItemView> findViewById(Long itemId);
+
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i " +
+           "WHERE i.listId = ?1 AND i.id > ?2 ORDER BY i.id")
+    List<ListItemView> findPage(Long listId, long afterId, Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i " +
+           "WHERE i.listId = ?1 AND i.status = ?2 AND i.id > ?3 ORDER BY i.id")
+    List<ListItemView> findByStatus(Long listId, String status, long afterId, Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i " +
+           "WHERE i.listId = ?1 AND i.assignee = ?2 AND i.id > ?3 ORDER BY i.id")
+    List<ListItemView> findByAssignee(Long listId, String assignee, long afterId, Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i " +
+           "WHERE i.listId = ?1 AND i.assignee = ?2 AND i.status = ?3 AND i.id > ?4 ORDER BY i.id")
+    List<ListItemView> findByAssigneeAndStatus(Long listId, String assignee, String status, long afterId,
+                                               Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i " +
+           "WHERE i.listId = ?1 AND i.status = ?2 AND (i.dueSort > ?3 OR (i.dueSort = ?3 AND i.id > ?4)) " +
+           "ORDER BY i.dueSort, i.id")
+    List<ListItemView> findByStatusByDue(Long listId, String status, LocalDate afterDue, long afterId,
+                                         Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i " +
+           "WHERE i.listId = ?1 AND i.assignee = ?2 AND (i.dueSort > ?3 OR (i.dueSort = ?3 AND i.id > ?4)) " +
+           "ORDER BY i.dueSort, i.id")
+    List<ListItemView> findByAssigneeByDue(Long listId, String assignee, LocalDate afterDue, long afterId,
+                                           Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.ListItemView(i.id, i.listId, i.title, i.description, i.assignee, " +
+           "i.dueDate, i.priority, i.status, i.completed, i.updatedAt) FROM ListItem i " +
+           "WHERE i.listId = ?1 AND i.assignee = ?2 AND i.status = ?3 " +
+           "AND (i.dueSort > ?4 OR (i.dueSort = ?4 AND i.id > ?5)) " +
+           "ORDER BY i.dueSort, i.id")
+    List<ListItemView> findByAssigneeAndStatusByDue(Long listId, String assignee, String status,
+                                                    LocalDate afterDue, long afterId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ListItem> findByIdAndListId(Long id, Long listId);
+
+    /**
+     * Locks the selected items in id order before a multi-field bulk update,
+     * so overlapping selections queue up instead of deadlocking.
+     */
+    @Query(value = "SELECT id FROM list_items WHERE list_id = ?1 AND id IN (?2) ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockItems(Long listId, Collection<Long> itemIds);
+
+    @Query(value = "SELECT status, item_count FROM list_status_counts WHERE list_id = ?1 ORDER BY status",
+           nativeQuery = true)
+    List<Object[]> findStatusCounts(Long listId);
+
+    @Modifying
+    @Query(value = "INSERT INTO list_status_counts (list_id, status, item_count) VALUES (?1, ?2, ?3) " +
+                   "ON CONFLICT (list_id, status) DO UPDATE " +
+                   "SET item_count = list_status_counts.item_count + EXCLUDED.item_count", nativeQuery = true)
+    int adjustStatusCount(Long listId, String status, long delta);
+
+    /**
+     * Moves the selected items to another column and adjusts both sides'
+     * counts in one statement. Items and counters are locked in a fixed order
+     * so overlapping multi-selects cannot deadlock. Returns the number moved.
+     */
+    @Query(value = "WITH selected AS (" +
+                   "SELECT id, status FROM list_items WHERE list_id = ?1 AND id IN (?2) AND status <> ?3 " +
+                   "ORDER BY id FOR UPDATE), " +
+                   "moved AS (UPDATE list_items i SET status = ?3, updated_at = CURRENT_TIMESTAMP FROM selected s " +
+                   "WHERE i.id = s.id RETURNING s.status AS old_status), " +
+                   "deltas AS (SELECT old_status AS status, -COUNT(*) AS delta FROM moved GROUP BY old_status " +
+                   "UNION ALL SELECT ?3, COUNT(*) FROM moved), " +
+                   "counted AS (INSERT INTO list_status_counts (list_id, status, item_count) " +
+                   "SELECT ?1, status, SUM(delta) FROM deltas GROUP BY status ORDER BY status " +
+                   "ON CONFLICT (list_id, status) DO UPDATE " +
+                   "SET item_count = list_status_counts.item_count + EXCLUDED.item_count) " +
+                   "SELECT COUNT(*) FROM moved", nativeQuery = true)
+    int moveToStatus(Long listId, Collection<Long> itemIds, String status);
+
+    /**
+     * Deletes the selected items and decrements their columns' counts.
+     * Returns the number deleted.
+     */
+    @Query(value = "WITH selected AS (" +
+                   "SELECT id FROM list_items WHERE list_id = ?1 AND id IN (?2) ORDER BY id FOR UPDATE), " +
+                   "gone AS (DELETE FROM list_items i USING selected s WHERE i.id = s.id RETURNING i.status), " +
+                   "counted AS (INSERT INTO list_status_counts (list_id, status, item_count) " +
+                   "SELECT ?1, status, -COUNT(*) FROM gone GROUP BY status ORDER BY status " +
+                   "ON CONFLICT (list_id, status) DO UPDATE " +
+                   "SET item_count = list_status_counts.item_count + EXCLUDED.item_count) " +
+                   "SELECT COUNT(*) FROM gone", nativeQuery = true)
+    int deleteItems(Long listId, Collection<Long> itemIds);
+
+    @Modifying
+    @Query("UPDATE ListItem i SET i.assignee = ?3, i.updatedAt = CURRENT_TIMESTAMP WHERE i.listId = ?1 AND i.id IN ?2")
+    int updateAssignee(Long listId, Collection<Long> itemIds, String assignee);
+
+    @Modifying
+    @Query("UPDATE ListItem i SET i.dueDate = ?3, i.updatedAt = CURRENT_TIMESTAMP WHERE i.listId = ?1 AND i.id IN ?2")
+    int updateDueDate(Long listId, Collection<Long> itemIds, LocalDate dueDate);
+
+    @Modifying
+    @Query("UPDATE ListItem i SET i.priority = ?3, i.updatedAt = CURRENT_TIMESTAMP WHERE i.listId = ?1 AND i.id IN ?2")
+    int updatePriority(Long listId, Collection<Long> itemIds, String priority);
+
+    @Modifying
+    @Query("UPDATE ListItem i SET i.completed = ?3, i.updatedAt = CURRENT_TIMESTAMP WHERE i.listId = ?1 AND i.id IN ?2")
+    int updateCompleted(Long listId, Collection<Long> itemIds, boolean completed);
+}
@@ -0,0 +1,26 @@
+package com.devsync.repository;
+
+import com.devsync.model.Message;
+import com.devsync.model.MessageMention;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MessageMentionRepository extends JpaRepository<MessageMention, Long> {
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender WHERE m.id IN " +
+           "(SELECT mm.messageId FROM MessageMention mm WHERE mm.userId = ?1) ORDER BY m.id DESC")
+    List<Message> findMentionedMessages(Long userId, Pageable pageable);
+
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender WHERE m.id IN " +
+           "(SELECT mm.messageId FROM MessageMention mm WHERE mm.userId = ?1 AND mm.messageId < ?2) ORDER BY m.id DESC")
+    List<Message> findMentionedMessagesBefore(Long userId, Long beforeId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MessageMention mm WHERE mm.messageId = ?1")
+    int deleteByMessageId(Long messageId);
+}
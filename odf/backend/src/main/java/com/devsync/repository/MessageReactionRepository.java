@@ -0,0 +1,12 @@
+package com.devsync.repository;
+
+import com.devsync.model.MessageReaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MessageReactionRepository extends JpaRepository<MessageReaction, Long> {
+    @Query("SELECT COUNT(r) > 0 FROM MessageReaction r WHERE r.message.id = ?1 AND r.user.id = ?2 AND r.emoji = ?3")
+    boolean exists(Long messageId, Long userId, String emoji);
+}
@@ -1,27 +1,124 @@
 package com.devsync.repository;
 
+import com.devsync.dto.ContentVersion;
+import com.devsync.dto.ExportedMessage;
+import com.devsync.dto.PinnedItem;
 import com.devsync.model.Message;
 import com.devsync.model.Channel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
+    @Transactional(readOnly = true)
     Page<Message> findByChannelOrderByCreatedAtDesc(Channel channel, Pageable pageable);
     
     List<Message> findByParentMessage(Message parentMessage);
     
+    @Transactional(readOnly = true)
     @Query("SELECT m FROM Message m WHERE m.channel = ?1 AND m.content LIKE %?2%")
     List<Message> searchInChannel(Channel channel, String query);
     
-    @Query("SELECT m FROM Message m WHERE m.channel = ?1 AND m.pinned = true")
-    List<Message> findPinnedMessages(Channel channel);
+    /**
+     * Served by the partial index on pinned messages (idx_messages_pinned).
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT m.id FROM Message m WHERE m.channel.id = ?1 AND m.pinned = true ORDER BY m.createdAt DESC")
+    List<Long> findPinnedIds(Long channelId);
     
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.PinnedItem(m.id, m.channel.id, m.sender.id, m.content, m.createdAt, m.updatedAt) " +
+           "FROM Message m WHERE m.channel.id IN ?1 AND m.pinned = true ORDER BY m.channel.id, m.createdAt DESC")
+    List<PinnedItem> findPinnedItems(Collection<Long> channelIds);
+
+    /**
+     * Changes on pin, unpin and edits of pinned messages; an unpinned
+     * message's updatedAt moves too, but it drops out of the count.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.ContentVersion(COUNT(m), MAX(m.updatedAt)) FROM Message m " +
+           "WHERE m.channel.id = ?1 AND m.pinned = true")
+    ContentVersion findPinnedVersion(Long channelId);
+
     @Query("SELECT COUNT(m) FROM Message m WHERE m.channel = ?1 AND m.createdAt > ?2")
-    Long countUnreadMessages(Channel channel, java.time.LocalDateTime lastRead);
+    Long countUnreadMessages(Channel channel, LocalDateTime lastRead);
+
+    @Query("SELECT m.channel.id FROM Message m WHERE m.id = ?1")
+    Optional<Long> findChannelIdById(Long messageId);
+
+    @Query("SELECT m.createdAt FROM Message m WHERE m.id = ?1")
+    Optional<LocalDateTime> findCreatedAtById(Long messageId);
+
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT channel_id FROM messages WHERE created_at >= ?1 " +
+                   "GROUP BY channel_id ORDER BY COUNT(*) DESC LIMIT ?2", nativeQuery = true)
+    List<Long> findBusiestChannelIds(LocalDateTime since, int limit);
+
+    /**
+     * Deletes every reply in the message's thread, at any depth, together
+     * with their reactions, mentions and attachment rows. Returns the ids
+     * deleted.
+     */
+    @Transactional
+    @Query(value = "WITH RECURSIVE doomed AS (SELECT id FROM messages WHERE parent_message_id = ?1 " +
+                   "UNION ALL SELECT m.id FROM messages m JOIN doomed d ON m.parent_message_id = d.id), " +
+                   "reactions AS (DELETE FROM message_reactions WHERE message_id IN (SELECT id FROM doomed)), " +
+                   "mentions AS (DELETE FROM message_mentions WHERE message_id IN (SELECT id FROM doomed)), " +
+                   "files AS (DELETE FROM attachments WHERE message_id IN (SELECT id FROM doomed)) " +
+                   "DELETE FROM messages WHERE id IN (SELECT id FROM doomed) RETURNING id", nativeQuery = true)
+    List<Long> deleteReplies(Long messageId);
+
+    /**
+     * Deletes up to {@code limit} of the channel's messages older than the
+     * cutoff together with their reactions, mentions and attachment rows,
+     * which no longer have foreign keys to the partitioned table. Returns the
+     * ids deleted.
+     */
+    @Transactional
+    @Query(value = "WITH doomed AS (SELECT id FROM messages WHERE channel_id = ?1 AND created_at < ?2 LIMIT ?3), " +
+                   "reactions AS (DELETE FROM message_reactions WHERE message_id IN (SELECT id FROM doomed)), " +
+                   "mentions AS (DELETE FROM message_mentions WHERE message_id IN (SELECT id FROM doomed)), " +
+                   "files AS (DELETE FROM attachments WHERE message_id IN (SELECT id FROM doomed)) " +
+                   "DELETE FROM messages WHERE channel_id = ?1 AND created_at < ?2 " +
+                   "AND id IN (SELECT id FROM doomed) RETURNING id", nativeQuery = true)
+    List<Long> deleteExpired(Long channelId, LocalDateTime cutoff, int limit);
+
+    /**
+     * Server-side cursor over a channel's messages, oldest first. Rows are
+     * projected straight into DTOs so nothing accumulates in the persistence
+     * context; consume inside a transaction and close the stream.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.devsync.dto.ExportedMessage(m.id, s.id, s.name, m.content, m.type, m.parentMessage.id, " +
+           "m.edited, m.pinned, m.createdAt, m.updatedAt) FROM Message m LEFT JOIN m.sender s " +
+           "WHERE m.channel.id = ?1 ORDER BY m.createdAt, m.id")
+    Stream<ExportedMessage> streamForExport(Long channelId);
+
+    // The created_at bounds below let PostgreSQL prune monthly partitions outside the window.
+
+    @Transactional(readOnly = true)
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender WHERE m.channel.id = ?1 " +
+           "AND m.createdAt >= ?2 AND (m.createdAt < ?3 OR (m.createdAt = ?3 AND m.id < ?4)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findChannelHistoryBefore(Long channelId, LocalDateTime from, LocalDateTime beforeTime,
+                                           Long beforeId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender WHERE m.channel.id = ?1 " +
+           "AND m.createdAt >= ?2 AND m.content LIKE %?3% ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> searchInChannelSince(Long channelId, LocalDateTime from, String query, Pageable pageable);
 }
\ No newline at end of file
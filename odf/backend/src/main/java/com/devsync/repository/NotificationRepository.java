@@ -0,0 +1,39 @@
+package com.devsync.repository;
+
+import com.devsync.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    @Query("SELECT n FROM Notification n WHERE n.user.id = ?1 ORDER BY n.id DESC")
+    List<Notification> findLatest(Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.user.id = ?1 AND n.id < ?2 ORDER BY n.id DESC")
+    List<Notification> findOlderThan(Long userId, Long beforeId, Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = ?1 AND n.read = false")
+    long countUnread(Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = ?1 AND n.user.id = ?2 AND n.read = false")
+    int markRead(Long id, Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = ?1 AND n.read = false")
+    int markAllRead(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (" +
+                   "SELECT id FROM notifications WHERE read = true AND created_at < ?1 LIMIT ?2)",
+           nativeQuery = true)
+    int deleteReadBefore(LocalDateTime cutoff, int limit);
+}
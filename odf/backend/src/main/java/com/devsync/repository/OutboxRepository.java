@@ -0,0 +1,42 @@
+package com.devsync.repository;
+
+import com.devsync.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query(value = "INSERT INTO channel_event_seq (channel_id, seq) VALUES (?1, 1) " +
+                   "ON CONFLICT (channel_id) DO UPDATE SET seq = channel_event_seq.seq + 1 RETURNING seq",
+           nativeQuery = true)
+    long nextChannelSeq(Long channelId);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e")
+    long findMaxId();
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > ?1 ORDER BY e.id")
+    List<OutboxEvent> findAfter(long afterId, Pageable pageable);
+
+    /**
+     * Rows after the cursor together with the listed earlier ids, read in one
+     * statement so a late row is never seen after a newer row of its channel.
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > ?1 OR e.id IN ?2 ORDER BY e.id")
+    List<OutboxEvent> findAfterOrIn(long afterId, Collection<Long> ids, Pageable pageable);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.id > ?1")
+    LocalDateTime findOldestCreatedAtAfter(long afterId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.createdAt < ?1")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,36 @@
+package com.devsync.repository;
+
+import com.devsync.dto.ListAccess;
+import com.devsync.dto.ListSummary;
+import com.devsync.model.TaskList;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskListRepository extends JpaRepository<TaskList, Long> {
+    @Query("SELECT new com.devsync.dto.ListAccess(l.id, l.createdBy, l.workspaceId) FROM TaskList l WHERE l.id = ?1")
+    Optional<ListAccess> findAccessById(Long listId);
+
+    @Query("SELECT new com.devsync.dto.ListSummary(l.id, l.title, l.workspaceId, l.createdBy, l.template, " +
+           "l.updatedAt) FROM TaskList l WHERE l.id = ?1")
+    Optional<ListSummary> findSummaryById(Long listId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.ListSummary(l.id, l.title, l.workspaceId, l.createdBy, l.template, " +
+           "l.updatedAt) FROM TaskList l WHERE l.workspaceId = ?1 ORDER BY l.updatedAt DESC")
+    List<ListSummary> findSummariesByWorkspace(Long workspaceId);
+
+    /**
+     * Lists the user created plus those in any of their workspaces.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.ListSummary(l.id, l.title, l.workspaceId, l.createdBy, l.template, " +
+           "l.updatedAt) FROM TaskList l WHERE l.createdBy = ?1 OR l.workspaceId IN " +
+           "(SELECT w.id FROM Workspace w JOIN w.members m WHERE m.id = ?1) ORDER BY l.updatedAt DESC")
+    List<ListSummary> findSummariesVisibleTo(Long userId);
+}
@@ -1,10 +1,19 @@
 package com.devsync.repository;
 
+import com.devsync.dto.MemberPresence;
+import com.devsync.dto.PushTarget;
+import com.devsync.dto.UserListItem;
+import com.devsync.dto.UserProfile;
+import com.devsync.dto.UserSummary;
 import com.devsync.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -14,9 +23,51 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     Boolean existsByEmail(String email);
     
+    @Transactional(readOnly = true)
     @Query("SELECT u FROM User u WHERE u.name LIKE %?1% OR u.email LIKE %?1%")
     List<User> searchUsers(String query);
     
     @Query("SELECT u FROM User u WHERE u.id IN ?1")
     List<User> findByIds(List<Long> ids);
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    @Query("SELECT DISTINCT new com.devsync.dto.MemberPresence(u.id, u.name, u.profilePhoto, u.status) " +
+           "FROM Channel c JOIN c.members u WHERE c.id IN ?1 AND u.status <> com.devsync.model.UserStatus.OFFLINE")
+    List<MemberPresence> findPresentMembers(Collection<Long> channelIds);
+
+    /**
+     * Users whose name matches the pattern and who share a workspace with the
+     * given user.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.UserListItem(u.id, u.name, u.profilePhoto, u.status, u.lastSeen) " +
+           "FROM User u WHERE LOWER(u.name) LIKE ?1 AND EXISTS (" +
+           "SELECT 1 FROM Workspace w JOIN w.members mine JOIN w.members theirs " +
+           "WHERE mine.id = ?2 AND theirs.id = u.id) ORDER BY u.name, u.id")
+    List<UserListItem> searchListItems(String pattern, Long userId, Pageable pageable);
+
+    @Query("SELECT new com.devsync.dto.UserProfile(u.id, u.name, u.profilePhoto, u.updatedAt) " +
+           "FROM User u WHERE u.id = ?1")
+    Optional<UserProfile> findProfileById(Long userId);
+
+    @Query("SELECT u.updatedAt FROM User u WHERE u.id = ?1")
+    Optional<LocalDateTime> findUpdatedAtById(Long userId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.UserSummary(u.id, u.name, u.email) FROM User u")
+    List<UserSummary> findAllSummaries();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.UserSummary(u.id, u.name, u.email) FROM User u WHERE u.id IN ?1")
+    List<UserSummary> findSummariesByIds(Collection<Long> ids);
+
+    @Query("SELECT new com.devsync.dto.PushTarget(u.id, u.fcmToken) FROM Channel c JOIN c.members u " +
+           "WHERE c.id = ?1 AND u.id <> ?2 AND u.fcmToken IS NOT NULL " +
+           "AND u.status <> com.devsync.model.UserStatus.ONLINE")
+    List<PushTarget> findOfflinePushTargetsInChannel(Long channelId, Long excludedUserId);
+
+    @Query("SELECT new com.devsync.dto.PushTarget(u.id, u.fcmToken) FROM User u " +
+           "WHERE u.id IN ?1 AND u.fcmToken IS NOT NULL " +
+           "AND u.status <> com.devsync.model.UserStatus.ONLINE")
+    List<PushTarget> findOfflinePushTargets(Collection<Long> userIds);
+}
@@ -0,0 +1,56 @@
+package com.devsync.repository;
+
+import com.devsync.model.UserSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserSessionRepository extends JpaRepository<UserSession, Long> {
+    Optional<UserSession> findBySessionToken(String sessionToken);
+
+    @Query("SELECT s FROM UserSession s WHERE s.expiresAt > ?1 AND s.revokedAt IS NULL")
+    List<UserSession> findUnexpired(LocalDateTime now);
+
+    @Query("SELECT s FROM UserSession s WHERE s.user.id = ?1 AND s.expiresAt > ?2 AND s.revokedAt IS NULL " +
+           "ORDER BY s.createdAt DESC")
+    List<UserSession> findActiveByUser(Long userId, LocalDateTime now);
+
+    /**
+     * Unexpired sessions revoked after the given time, by any instance.
+     */
+    @Query("SELECT s FROM UserSession s WHERE s.revokedAt > ?1 AND s.expiresAt > ?2")
+    List<UserSession> findRevokedSince(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * Marks the user's session revoked; returns its session id, or nothing if
+     * the row does not exist, belongs to someone else or is already revoked.
+     */
+    @Query(value = "UPDATE user_sessions SET revoked_at = now() " +
+                   "WHERE id = ?1 AND user_id = ?2 AND revoked_at IS NULL RETURNING session_token",
+           nativeQuery = true)
+    List<String> revoke(Long id, Long userId);
+
+    @Query(value = "UPDATE user_sessions SET revoked_at = now() " +
+                   "WHERE session_token = ?1 AND revoked_at IS NULL RETURNING session_token",
+           nativeQuery = true)
+    List<String> revokeBySessionToken(String sessionToken);
+
+    @Query(value = "UPDATE user_sessions SET revoked_at = now() " +
+                   "WHERE user_id = ?1 AND revoked_at IS NULL RETURNING session_token",
+           nativeQuery = true)
+    List<String> revokeByUser(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_sessions WHERE id IN (" +
+                   "SELECT id FROM user_sessions WHERE expires_at < ?1 LIMIT ?2)",
+           nativeQuery = true)
+    int deleteExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,80 @@
+package com.devsync.repository;
+
+import com.devsync.model.WorkspaceExport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WorkspaceExportRepository extends JpaRepository<WorkspaceExport, Long> {
+    @Query(value = "SELECT id FROM workspace_exports WHERE status = 'PENDING' " +
+                   "OR (status = 'RUNNING' AND heartbeat_at < ?1) ORDER BY id", nativeQuery = true)
+    List<Long> findResumableIds(LocalDateTime staleBefore);
+
+    /**
+     * Marks the job running under the given token unless another instance
+     * holds it with a fresh heartbeat; returns 1 when claimed. The updates
+     * below only apply while the row still carries that token, and return 0
+     * once the job has been claimed again.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE workspace_exports SET status = 'RUNNING', claim_token = ?3, " +
+                   "heartbeat_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = ?1 AND (status = 'PENDING' OR (status = 'RUNNING' AND heartbeat_at < ?2))",
+           nativeQuery = true)
+    int claim(Long exportId, LocalDateTime staleBefore, String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE workspace_exports SET file_path = ?2, channels_total = ?3, channels_done = 0, " +
+                   "messages_exported = 0, attachments_exported = 0, bytes_written = 0, last_channel_id = NULL, " +
+                   "checkpoint_messages = 0, checkpoint_attachments = 0, heartbeat_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = ?1 AND claim_token = ?4", nativeQuery = true)
+    int restart(Long exportId, String filePath, int channelsTotal, String claimToken);
+
+    /**
+     * Drops the progress of a channel that was interrupted mid-way; it is
+     * written again from the start.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE workspace_exports SET messages_exported = checkpoint_messages, " +
+                   "attachments_exported = checkpoint_attachments, heartbeat_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = ?1 AND claim_token = ?2", nativeQuery = true)
+    int rewind(Long exportId, String claimToken);
+
+    // Runs while the channel's read transaction is still streaming, so it commits on its own
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "UPDATE workspace_exports SET messages_exported = ?2, attachments_exported = ?3, " +
+                   "heartbeat_at = CURRENT_TIMESTAMP WHERE id = ?1 AND claim_token = ?4", nativeQuery = true)
+    int heartbeat(Long exportId, long messagesExported, long attachmentsExported, String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE workspace_exports SET last_channel_id = ?2, channels_done = channels_done + 1, " +
+                   "messages_exported = ?3, attachments_exported = ?4, bytes_written = ?5, " +
+                   "checkpoint_messages = ?3, checkpoint_attachments = ?4, " +
+                   "heartbeat_at = CURRENT_TIMESTAMP WHERE id = ?1 AND claim_token = ?6", nativeQuery = true)
+    int checkpoint(Long exportId, Long channelId, long messagesExported, long attachmentsExported,
+                   long bytesWritten, String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE workspace_exports SET status = 'COMPLETED', file_path = ?2, bytes_written = ?3, " +
+                   "completed_at = CURRENT_TIMESTAMP WHERE id = ?1 AND claim_token = ?4", nativeQuery = true)
+    int complete(Long exportId, String filePath, long bytesWritten, String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE workspace_exports SET status = 'FAILED', error = ?2, " +
+                   "completed_at = CURRENT_TIMESTAMP WHERE id = ?1 AND claim_token = ?3", nativeQuery = true)
+    int fail(Long exportId, String error, String claimToken);
+}
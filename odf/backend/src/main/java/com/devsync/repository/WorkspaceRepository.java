@@ -1,20 +1,69 @@
 package com.devsync.repository;
 
+import com.devsync.dto.WorkspaceSummary;
 import com.devsync.model.Workspace;
 import com.devsync.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
+    @Transactional(readOnly = true)
     @Query("SELECT w FROM Workspace w JOIN w.members m WHERE m = ?1")
     List<Workspace> findByMember(User user);
     
     List<Workspace> findByOwner(User owner);
     
+    @Transactional(readOnly = true)
     @Query("SELECT w FROM Workspace w WHERE w.name LIKE %?1%")
     List<Workspace> searchByName(String name);
+
+    @Query("SELECT COUNT(w) > 0 FROM Workspace w JOIN w.members m WHERE w.id = ?1 AND m.id = ?2")
+    boolean isMember(Long workspaceId, Long userId);
+
+    @Query("SELECT w.id FROM Workspace w JOIN w.members m WHERE m.id = ?1")
+    List<Long> findIdsByMember(Long userId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.devsync.dto.WorkspaceSummary(w.id, w.name, w.description, w.logo, w.owner.id, w.updatedAt) " +
+           "FROM Workspace w JOIN w.members m WHERE m.id = ?1 ORDER BY w.id")
+    List<WorkspaceSummary> findSummariesByMember(Long userId);
+
+    @Query("SELECT new com.devsync.dto.WorkspaceSummary(w.id, w.name, w.description, w.logo, w.owner.id, w.updatedAt) " +
+           "FROM Workspace w WHERE w.id = ?1")
+    Optional<WorkspaceSummary> findSummaryById(Long workspaceId);
+
+    @Query("SELECT w.updatedAt FROM Workspace w WHERE w.id = ?1")
+    Optional<LocalDateTime> findUpdatedAtById(Long workspaceId);
+
+    @Query("SELECT w.owner.id FROM Workspace w WHERE w.id = ?1")
+    Optional<Long> findOwnerIdById(Long workspaceId);
+
+    @Modifying
+    @Query("UPDATE Workspace w SET w.messageRetentionDays = ?2, w.updatedAt = CURRENT_TIMESTAMP WHERE w.id = ?1")
+    int updateRetention(Long workspaceId, Integer days);
+
+    /**
+     * Adds the existing users among the ids; returns the ids added.
+     */
+    @Query(value = "INSERT INTO workspace_members (workspace_id, user_id) " +
+                   "SELECT ?1, u.id FROM users u WHERE u.id IN ?2 ON CONFLICT DO NOTHING RETURNING user_id",
+           nativeQuery = true)
+    List<Long> addMembers(Long workspaceId, Collection<Long> userIds);
+
+    /**
+     * Removes the users, never the owner; returns the ids removed.
+     */
+    @Query(value = "DELETE FROM workspace_members WHERE workspace_id = ?1 AND user_id IN ?2 " +
+                   "AND user_id IS DISTINCT FROM (SELECT owner_id FROM workspaces WHERE id = ?1) " +
+                   "RETURNING user_id", nativeQuery = true)
+    List<Long> removeMembers(Long workspaceId, Collection<Long> userIds);
 }
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.devsync.security;
 
+import com.devsync.service.SessionRegistry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +21,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
@@ -24,15 +30,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private SessionRegistry sessionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer validTokenTimer;
+    private Timer rejectedTokenTimer;
+
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    @PostConstruct
+    public void initMetrics() {
+        validTokenTimer = Timer.builder("jwt.validation").tag("outcome", "valid").register(meterRegistry);
+        rejectedTokenTimer = Timer.builder("jwt.validation").tag("outcome", "rejected").register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Claims claims = jwt != null ? validate(jwt) : null;
+            if (claims != null) {
+                String username = claims.getSubject();
+                if (claims.getId() != null) {
+                    request.setAttribute(SessionRegistry.SESSION_ATTRIBUTE, claims.getId());
+                }
 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication =
@@ -50,6 +75,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Claims validate(String jwt) {
+        long start = System.nanoTime();
+        Claims claims = jwtUtils.parseValidClaims(jwt);
+        if (claims != null && !isSessionActive(claims.getId())) {
+            claims = null;
+        }
+        (claims != null ? validTokenTimer : rejectedTokenTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
+    private boolean isSessionActive(String sessionId) {
+        // Tokens issued before session tracking carry no id and simply run to expiry.
+        return sessionId == null || sessionRegistry.isActive(sessionId);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -0,0 +1,144 @@
+package com.devsync.security;
+
+import com.devsync.service.CanvasService;
+import com.devsync.service.ChannelMembershipCache;
+import com.devsync.service.SessionRegistry;
+import com.devsync.service.StompSessionRegistry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Authenticates a STOMP session once, on CONNECT, with the same bearer token
+ * the REST API takes. The session keeps the resulting principal and attaches
+ * it to every later frame, so frames are never re-validated; expiry and
+ * revocation are handled by {@link StompSessionRegistry#sweep()}.
+ *
+ * <p>SUBSCRIBE is allowed for the user's own queues, for channel topics of
+ * channels the user belongs to (from {@link ChannelMembershipCache}) and for
+ * canvases the user can open. SEND is only allowed to /app handlers, which
+ * check access themselves; clients can never publish to broker topics.
+ */
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+    private static final String CHANNEL_TOPIC = "/topic/channels/";
+    private static final String CANVAS_TOPIC = "/topic/canvases/";
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private SessionRegistry sessionRegistry;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private StompSessionRegistry stompSessions;
+
+    @Autowired
+    private ChannelMembershipCache membershipCache;
+
+    @Autowired
+    private CanvasService canvasService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> authenticate(accessor);
+            case SUBSCRIBE -> authorizeSubscribe(accessor);
+            case SEND -> authorizeSend(accessor);
+            case UNSUBSCRIBE -> stompSessions.removeSubscription(accessor.getSessionId(), accessor.getSubscriptionId());
+            default -> { }
+        }
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String header = accessor.getFirstNativeHeader("Authorization");
+        String token = StringUtils.hasText(header) && header.startsWith("Bearer ") ? header.substring(7) : null;
+        Claims claims = token != null ? jwtUtils.parseValidClaims(token) : null;
+        if (claims == null || (claims.getId() != null && !sessionRegistry.isActive(claims.getId()))) {
+            throw new BadCredentialsException("Invalid or missing token");
+        }
+
+        // Keep only what handlers need; the session holds this for its lifetime
+        UserPrincipal user = (UserPrincipal) userDetailsService.loadUserByUsername(claims.getSubject());
+        UserPrincipal principal = new UserPrincipal(user.getId(), user.getName(), user.getEmail(), null, List.of());
+        accessor.setUser(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        stompSessions.register(accessor.getSessionId(), principal.getId(), claims.getId(),
+                claims.getExpiration().getTime());
+    }
+
+    private void authorizeSubscribe(StompHeaderAccessor accessor) {
+        Long userId = requireUser(accessor);
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            throw new AccessDeniedException("Missing destination");
+        }
+
+        if (destination.startsWith("/user/")) {
+            return;
+        }
+        if (destination.startsWith(CHANNEL_TOPIC)) {
+            Long channelId = leadingId(destination, CHANNEL_TOPIC.length());
+            if (channelId == null || !membershipCache.isMember(userId, channelId)) {
+                throw new AccessDeniedException("Not a member of channel " + channelId);
+            }
+            stompSessions.addChannelSubscription(accessor.getSessionId(), accessor.getSubscriptionId(), channelId);
+            return;
+        }
+        if (destination.startsWith(CANVAS_TOPIC)) {
+            Long canvasId = leadingId(destination, CANVAS_TOPIC.length());
+            if (canvasId == null || !canvasService.canAccess(userId, canvasId)) {
+                throw new AccessDeniedException("No access to canvas " + canvasId);
+            }
+            return;
+        }
+        throw new AccessDeniedException("Cannot subscribe to " + destination);
+    }
+
+    private void authorizeSend(StompHeaderAccessor accessor) {
+        requireUser(accessor);
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith("/app/")) {
+            throw new AccessDeniedException("Cannot send to " + destination);
+        }
+    }
+
+    private static Long requireUser(StompHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal user) {
+            return user.getId();
+        }
+        throw new AccessDeniedException("STOMP session is not authenticated");
+    }
+
+    /**
+     * Parses the id segment starting at {@code from}: digits up to the next
+     * '/' or the end. Returns null if the segment is not a number.
+     */
+    private static Long leadingId(String destination, int from) {
+        int end = destination.indexOf('/', from);
+        String segment = destination.substring(from, end < 0 ? destination.length() : end);
+        if (segment.isEmpty() || segment.length() > 18 || !segment.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.parseLong(segment);
+    }
+}
@@ -0,0 +1,115 @@
+package com.devsync.service;
+
+import com.devsync.dto.BootstrapSnapshot;
+import com.devsync.dto.ChannelSummary;
+import com.devsync.dto.MemberPresence;
+import com.devsync.dto.PinnedItem;
+import com.devsync.dto.WorkspaceSummary;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.MessageRepository;
+import com.devsync.repository.UserRepository;
+import com.devsync.repository.WorkspaceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds the launch snapshot from five set-based queries, independent of how
+ * many workspaces and channels the user belongs to. The version token is the
+ * snapshot time; given a previous token only rows updated since then are sent.
+ */
+@Service
+public class BootstrapService {
+    // Rows are stamped with the clock of whichever instance wrote them
+    private static final long CLOCK_SKEW_MS = 5000;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private MessagePartitionManager partitionManager;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Transactional(readOnly = true)
+    public BootstrapSnapshot bootstrap(Long userId, String sinceVersion) {
+        long snapshotAt = System.currentTimeMillis();
+        LocalDateTime since = parseVersion(sinceVersion);
+        boolean full = since == null;
+        // Read before the snapshot so changes racing with it are replayed rather than lost
+        long changeVersion = changeLogService.getLatestVersion();
+
+        List<WorkspaceSummary> workspaces = workspaceRepository.findSummariesByMember(userId);
+        List<ChannelSummary> channels = channelRepository.findSummariesByMember(userId);
+        List<Long> channelIds = ids(channels, ChannelSummary::getId);
+
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        for (Object[] row : channelRepository.countUnreadByChannel(userId, partitionManager.getHotWindowStart())) {
+            unreadCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        List<PinnedItem> pinned = channelIds.isEmpty() ? List.of() : messageRepository.findPinnedItems(channelIds);
+        List<MemberPresence> presence = channelIds.isEmpty() ? List.of() : userRepository.findPresentMembers(channelIds);
+
+        return new BootstrapSnapshot(toVersion(snapshotAt), full, changeVersion,
+                changedSince(workspaces, WorkspaceSummary::getUpdatedAt, since), ids(workspaces, WorkspaceSummary::getId),
+                changedSince(channels, ChannelSummary::getUpdatedAt, since), channelIds,
+                unreadCounts,
+                changedSince(pinned, PinnedItem::getUpdatedAt, since), ids(pinned, PinnedItem::getId),
+                presence, notificationService.getUnreadCount(userId));
+    }
+
+    private static <T> List<T> changedSince(List<T> rows, Function<T, LocalDateTime> updatedAt, LocalDateTime since) {
+        if (since == null) {
+            return rows;
+        }
+        return rows.stream()
+                .filter(row -> updatedAt.apply(row) == null || updatedAt.apply(row).isAfter(since))
+                .toList();
+    }
+
+    private static <T> List<Long> ids(List<T> rows, Function<T, Long> id) {
+        return rows.stream().map(id).toList();
+    }
+
+    private static String toVersion(long millis) {
+        return Long.toString(millis, 36);
+    }
+
+    /**
+     * Returns the cut-off for a delta, or {@code null} for a full snapshot when
+     * the token is missing or unreadable.
+     */
+    private static LocalDateTime parseVersion(String version) {
+        if (version == null || version.isBlank()) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(version, 36) - CLOCK_SKEW_MS;
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.devsync.service;
+
+import com.devsync.model.CacheInvalidation;
+import com.devsync.repository.CacheInvalidationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Carries evictions of per-instance caches to the other instances. A cache
+ * writes the keys it evicts in the transaction of the change; every instance
+ * polls for rows written elsewhere and hands the keys to that cache's evictor.
+ * Polls overlap by {@code cache-invalidation.window-ms} and remember the rows
+ * they applied, so a row that commits late is still applied, and only once.
+ */
+@Service
+public class CacheInvalidations {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidations.class);
+
+    @Autowired
+    private CacheInvalidationRepository invalidationRepository;
+
+    @Value("${cache-invalidation.window-ms:60000}")
+    private long windowMs;
+
+    @Value("${cache-invalidation.retention-minutes:10}")
+    private int retentionMinutes;
+
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, Consumer<Collection<Long>>> evictors = new ConcurrentHashMap<>();
+    // Rows already applied, until they fall out of the polling window
+    private final Map<Long, Long> applied = new ConcurrentHashMap<>();
+
+    public void register(String cache, Consumer<Collection<Long>> evictor) {
+        evictors.put(cache, evictor);
+    }
+
+    /**
+     * Records the evicted keys for the other instances, in the caller's
+     * transaction if there is one.
+     */
+    @Transactional
+    public void publish(String cache, Collection<Long> keys) {
+        if (!keys.isEmpty()) {
+            invalidationRepository.insert(cache, keys.toArray(new Long[0]), origin);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache-invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        long now = System.currentTimeMillis();
+        applied.values().removeIf(expiresAt -> expiresAt < now);
+
+        Map<String, List<Long>> keysByCache = new HashMap<>();
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(windowMs));
+        for (CacheInvalidation row : invalidationRepository.findSince(since, origin)) {
+            if (applied.putIfAbsent(row.getId(), now + 2 * windowMs) == null) {
+                keysByCache.computeIfAbsent(row.getCache(), cache -> new ArrayList<>()).add(row.getKeyId());
+            }
+        }
+        keysByCache.forEach((cache, keys) -> {
+            Consumer<Collection<Long>> evictor = evictors.get(cache);
+            if (evictor != null) {
+                evictor.accept(keys);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${cache-invalidation.cleanup-interval-ms:60000}")
+    public void deleteApplied() {
+        int deleted = invalidationRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            logger.debug("Deleted {} cache invalidations", deleted);
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.devsync.service;
+
+import com.devsync.dto.CanvasAccess;
+import com.devsync.dto.CanvasBlockView;
+import com.devsync.dto.CanvasDocument;
+import com.devsync.dto.CanvasOpAck;
+import com.devsync.dto.CanvasOpFeed;
+import com.devsync.dto.CanvasOpRequest;
+import com.devsync.dto.CanvasOpView;
+import com.devsync.dto.CanvasSummary;
+import com.devsync.dto.CreateCanvasRequest;
+import com.devsync.model.Canvas;
+import com.devsync.model.CanvasBlock;
+import com.devsync.model.CanvasOp;
+import com.devsync.model.CanvasOpType;
+import com.devsync.repository.CanvasBlockRepository;
+import com.devsync.repository.CanvasOpRepository;
+import com.devsync.repository.CanvasRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Collaborative canvas editing at block granularity. Each operation touches
+ * one block row and appends one entry to the canvas's operation log, so an
+ * edit costs the size of the edit whatever the size of the canvas. The block
+ * rows are the canvas snapshot; the log only serves clients catching up and
+ * is compacted by age.
+ */
+@Service
+public class CanvasService {
+    private static final Logger logger = LoggerFactory.getLogger(CanvasService.class);
+
+    // Spacing of block positions; 20 inserts at one spot fit before a respace
+    static final long GAP = 1L << 20;
+    private static final int REINDEX_WINDOW = 16;
+    private static final int MAX_REINDEX_WINDOW = 1024;
+    private static final int MAX_CONTENT_LENGTH = 100_000;
+    private static final int MAX_PAGE_SIZE = 1000;
+    // Block ids start at 1; used where no block is excluded from a position lookup
+    private static final Long NO_BLOCK = 0L;
+
+    @Autowired
+    private CanvasRepository canvasRepository;
+
+    @Autowired
+    private CanvasBlockRepository blockRepository;
+
+    @Autowired
+    private CanvasOpRepository opRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Value("${canvas.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${canvas.op-retention-minutes:1440}")
+    private int opRetentionMinutes;
+
+    @Value("${canvas.compaction-chunk-size:1000}")
+    private int compactionChunkSize;
+
+    @Transactional
+    public CanvasSummary create(UserPrincipal user, CreateCanvasRequest request) {
+        if (request.getWorkspaceId() != null && !workspaceRepository.isMember(request.getWorkspaceId(), user.getId())) {
+            throw new AccessDeniedException("Not a member of workspace " + request.getWorkspaceId());
+        }
+        Canvas canvas = canvasRepository.saveAndFlush(
+                new Canvas(request.getTitle(), user.getId(), request.getWorkspaceId(), request.getTemplate()));
+        return summary(canvas.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<CanvasSummary> list(Long userId, Long workspaceId) {
+        if (workspaceId == null) {
+            return canvasRepository.findSummariesVisibleTo(userId);
+        }
+        if (!workspaceRepository.isMember(workspaceId, userId)) {
+            throw new AccessDeniedException("Not a member of workspace " + workspaceId);
+        }
+        return canvasRepository.findSummariesByWorkspace(workspaceId);
+    }
+
+    /**
+     * The canvas and all of its blocks as of one version. Repeatable read keeps
+     * the version and the block rows from different commits.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public CanvasDocument load(Long userId, Long canvasId) {
+        requireAccess(canvasId, userId);
+        CanvasSummary canvas = summary(canvasId);
+        List<CanvasBlockView> blocks = blockRepository.findViewsByCanvas(canvasId);
+        return new CanvasDocument(canvas, canvas.version(), blocks);
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public CanvasOpFeed getOps(Long userId, Long canvasId, long sinceVersion, int limit) {
+        requireAccess(canvasId, userId);
+        if (sinceVersion < canvasRepository.findLogHorizon(canvasId)) {
+            return new CanvasOpFeed(sinceVersion, List.of(), false, true);
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<CanvasOpView> ops = opRepository.findSince(canvasId, sinceVersion, Pageable.ofSize(size + 1));
+        boolean hasMore = ops.size() > size;
+        if (hasMore) {
+            ops = ops.subList(0, size);
+        }
+        long version = ops.isEmpty() ? sinceVersion : ops.get(ops.size() - 1).version();
+        return new CanvasOpFeed(version, ops, hasMore, false);
+    }
+
+    /**
+     * Whether the user may read the canvas; false for unknown canvases.
+     */
+    @Transactional(readOnly = true)
+    public boolean canAccess(Long userId, Long canvasId) {
+        return canvasRepository.findAccessById(canvasId).map(access -> isAllowed(access, userId)).orElse(false);
+    }
+
+    /**
+     * Applies a batch of operations in order under the canvas row lock.
+     * Concurrent edits to the same block resolve last-writer-wins in version
+     * order; operations on a block that no longer exists are rejected without
+     * failing the rest of the batch.
+     */
+    @Transactional
+    public List<CanvasOpAck> apply(UserPrincipal user, Long canvasId, List<CanvasOpRequest> requests) {
+        requireAccess(canvasId, user.getId());
+        if (requests.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + maxBatchSize + " operations per batch");
+        }
+
+        Long current = canvasRepository.lockVersion(canvasId);
+        if (current == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Canvas not found");
+        }
+        Batch batch = new Batch(canvasId, user.getId(), current);
+        List<CanvasOpAck> acks = new ArrayList<>(requests.size());
+        for (CanvasOpRequest request : requests) {
+            acks.add(applyOne(batch, request));
+        }
+
+        if (!batch.applied.isEmpty()) {
+            canvasRepository.updateVersion(canvasId, batch.version);
+            // Every instance relays the outbox; editors that see a version gap fetch it from the log
+            outboxService.append("/topic/canvases/" + canvasId, "CANVAS_OPS", batch.applied);
+        }
+        return acks;
+    }
+
+    @Scheduled(cron = "${canvas.compaction-cron:0 */10 * * * *}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(opRetentionMinutes);
+        int total = 0;
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                // Raise the horizons first so no client resumes into the range being deleted
+                canvasRepository.raiseLogHorizons(cutoff, compactionChunkSize);
+                return opRepository.deleteOlderThan(cutoff, compactionChunkSize);
+            });
+            total += deleted == null ? 0 : deleted;
+        } while (deleted != null && deleted == compactionChunkSize);
+
+        if (total > 0) {
+            logger.info("Compacted {} canvas operations", total);
+        }
+    }
+
+    private CanvasOpAck applyOne(Batch batch, CanvasOpRequest request) {
+        String clientOpId = request.getClientOpId();
+        if (request.getType() == null || request.getType() == CanvasOpType.REINDEX) {
+            return CanvasOpAck.rejected(clientOpId, request.getBlockId(), "Unsupported operation type");
+        }
+        if (request.getContent() != null && request.getContent().length() > MAX_CONTENT_LENGTH) {
+            return CanvasOpAck.rejected(clientOpId, request.getBlockId(), "Content too long");
+        }
+        if (request.getClientId() != null && clientOpId != null) {
+            Optional<Long> original = opRepository.findVersionByClientOp(batch.canvasId, request.getClientId(), clientOpId);
+            if (original.isPresent()) {
+                return new CanvasOpAck(clientOpId, CanvasOpAck.Status.DUPLICATE, original.get(),
+                        request.getBlockId(), null);
+            }
+        }
+
+        if (request.getType() == CanvasOpType.INSERT) {
+            return insert(batch, request);
+        }
+
+        Optional<CanvasBlock> found = request.getBlockId() == null ? Optional.empty()
+                : blockRepository.findByIdAndCanvasId(request.getBlockId(), batch.canvasId);
+        if (found.isEmpty()) {
+            return CanvasOpAck.rejected(clientOpId, request.getBlockId(), "Block not found");
+        }
+        CanvasBlock block = found.get();
+        return switch (request.getType()) {
+            case UPDATE -> update(batch, block, request);
+            case MOVE -> move(batch, block, request);
+            default -> delete(batch, block, request);
+        };
+    }
+
+    private CanvasOpAck insert(Batch batch, CanvasOpRequest request) {
+        if (request.getBlockType() == null || request.getBlockType().isBlank()) {
+            return CanvasOpAck.rejected(request.getClientOpId(), null, "Block type is required");
+        }
+        Long position = positionAfter(batch, request.getAfterBlockId(), NO_BLOCK);
+        if (position == null) {
+            return CanvasOpAck.rejected(request.getClientOpId(), null, "Block to insert after not found");
+        }
+
+        long version = batch.next();
+        CanvasBlock block = blockRepository.save(new CanvasBlock(batch.canvasId, request.getBlockType(),
+                request.getContent(), position, version, batch.userId));
+        batch.log(version, CanvasOpType.INSERT, block.getId(), Map.of("block", blockPayload(block)), request);
+        return CanvasOpAck.applied(request.getClientOpId(), version, block.getId());
+    }
+
+    private CanvasOpAck update(Batch batch, CanvasBlock block, CanvasOpRequest request) {
+        if (request.getBlockType() != null && !request.getBlockType().isBlank()) {
+            block.setType(request.getBlockType());
+        }
+        if (request.getContent() != null) {
+            block.setContent(request.getContent());
+        }
+        long version = batch.next();
+        block.setVersion(version);
+        block.setUpdatedBy(batch.userId);
+        batch.log(version, CanvasOpType.UPDATE, block.getId(), Map.of("block", blockPayload(block)), request);
+        return CanvasOpAck.applied(request.getClientOpId(), version, block.getId());
+    }
+
+    private CanvasOpAck move(Batch batch, CanvasBlock block, CanvasOpRequest request) {
+        if (block.getId().equals(request.getAfterBlockId())) {
+            return CanvasOpAck.rejected(request.getClientOpId(), block.getId(), "Cannot move a block after itself");
+        }
+        Long position = positionAfter(batch, request.getAfterBlockId(), block.getId());
+        if (position == null) {
+            return CanvasOpAck.rejected(request.getClientOpId(), block.getId(), "Block to move after not found");
+        }
+
+        long version = batch.next();
+        block.setPosition(position);
+        block.setVersion(version);
+        block.setUpdatedBy(batch.userId);
+        batch.log(version, CanvasOpType.MOVE, block.getId(),
+                Map.of("blockId", block.getId(), "position", position), request);
+        return CanvasOpAck.applied(request.getClientOpId(), version, block.getId());
+    }
+
+    private CanvasOpAck delete(Batch batch, CanvasBlock block, CanvasOpRequest request) {
+        blockRepository.delete(block);
+        long version = batch.next();
+        batch.log(version, CanvasOpType.DELETE, block.getId(), Map.of("blockId", block.getId()), request);
+        return CanvasOpAck.applied(request.getClientOpId(), version, block.getId());
+    }
+
+    /**
+     * Position for a block placed right after {@code afterBlockId} (or first,
+     * when null): the midpoint between that block and its successor. When the
+     * two are adjacent, the blocks around them are respaced first. Returns
+     * null if {@code afterBlockId} is not on the canvas.
+     */
+    private Long positionAfter(Batch batch, Long afterBlockId, Long movingBlockId) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long lower = null;
+            if (afterBlockId != null) {
+                Optional<Long> after = blockRepository.findPosition(batch.canvasId, afterBlockId);
+                if (after.isEmpty()) {
+                    return null;
+                }
+                lower = after.get();
+            }
+            Long upper = lower == null
+                    ? blockRepository.findFirstPosition(batch.canvasId, movingBlockId)
+                    : blockRepository.findNextPosition(batch.canvasId, lower, movingBlockId);
+
+            if (upper == null) {
+                return lower == null ? GAP : lower + GAP;
+            }
+            if (lower == null) {
+                return upper - GAP;
+            }
+            if (upper - lower > 1) {
+                return lower + (upper - lower) / 2;
+            }
+            reindex(batch, lower, movingBlockId);
+        }
+        throw new IllegalStateException("No room for a block after " + afterBlockId + " in canvas " + batch.canvasId);
+    }
+
+    /**
+     * Respaces the blocks around a full gap and logs their new positions as
+     * one REINDEX operation. Starts with a few blocks on either side and
+     * widens until the window's span leaves room; a window that reaches the
+     * top or bottom of the canvas is simply spread outwards.
+     */
+    private void reindex(Batch batch, long around, Long movingBlockId) {
+        List<CanvasBlock> changed = null;
+        for (int window = REINDEX_WINDOW; window <= MAX_REINDEX_WINDOW && changed == null; window *= 2) {
+            List<CanvasBlock> before = blockRepository.findAtOrBefore(batch.canvasId, around, movingBlockId,
+                    Pageable.ofSize(window));
+            List<CanvasBlock> after = blockRepository.findAfter(batch.canvasId, around, movingBlockId,
+                    Pageable.ofSize(window));
+            List<CanvasBlock> blocks = new ArrayList<>(before.size() + after.size());
+            for (int i = before.size() - 1; i >= 0; i--) {
+                blocks.add(before.get(i));
+            }
+            blocks.addAll(after);
+
+            int last = blocks.size() - 1;
+            long low = blocks.get(0).getPosition();
+            long high = blocks.get(last).getPosition();
+            if (before.size() < window) {
+                changed = respace(blocks, high - last * GAP, GAP);
+            } else if (after.size() < window) {
+                changed = respace(blocks, low, GAP);
+            } else if ((high - low) / last >= 2) {
+                changed = respace(blocks, low, (high - low) / last);
+            }
+        }
+        if (changed == null) {
+            changed = respace(blockRepository.findByCanvasIdOrderByPositionAscIdAsc(batch.canvasId), GAP, GAP);
+        }
+
+        long version = batch.next();
+        Map<String, Object> positions = new LinkedHashMap<>();
+        for (CanvasBlock block : changed) {
+            block.setVersion(version);
+            positions.put(block.getId().toString(), block.getPosition());
+        }
+        batch.log(version, CanvasOpType.REINDEX, null, Map.of("positions", positions), null);
+    }
+
+    private static List<CanvasBlock> respace(List<CanvasBlock> blocks, long start, long spacing) {
+        List<CanvasBlock> changed = new ArrayList<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            long position = start + i * spacing;
+            if (blocks.get(i).getPosition() != position) {
+                blocks.get(i).setPosition(position);
+                changed.add(blocks.get(i));
+            }
+        }
+        return changed;
+    }
+
+    private static Map<String, Object> blockPayload(CanvasBlock block) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", block.getId());
+        payload.put("type", block.getType());
+        payload.put("content", block.getContent());
+        payload.put("position", block.getPosition());
+        payload.put("version", block.getVersion());
+        return payload;
+    }
+
+    private CanvasSummary summary(Long canvasId) {
+        return canvasRepository.findSummaryById(canvasId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Canvas not found"));
+    }
+
+    private void requireAccess(Long canvasId, Long userId) {
+        CanvasAccess access = canvasRepository.findAccessById(canvasId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Canvas not found"));
+        if (!isAllowed(access, userId)) {
+            throw new AccessDeniedException("No access to canvas " + canvasId);
+        }
+    }
+
+    private boolean isAllowed(CanvasAccess access, Long userId) {
+        return userId.equals(access.createdBy())
+                || (access.workspaceId() != null && workspaceRepository.isMember(access.workspaceId(), userId));
+    }
+
+    /**
+     * Version counter and log of one apply() call.
+     */
+    private class Batch {
+        private final Long canvasId;
+        private final Long userId;
+        private final List<CanvasOpView> applied = new ArrayList<>();
+        private long version;
+
+        Batch(Long canvasId, Long userId, long version) {
+            this.canvasId = canvasId;
+            this.userId = userId;
+            this.version = version;
+        }
+
+        long next() {
+            return ++version;
+        }
+
+        void log(long version, CanvasOpType type, Long blockId, Map<String, Object> payload, CanvasOpRequest request) {
+            String clientId = request != null ? request.getClientId() : null;
+            String clientOpId = request != null ? request.getClientOpId() : null;
+            opRepository.save(new CanvasOp(canvasId, version, type, blockId, userId, clientId, clientOpId, payload));
+            applied.add(new CanvasOpView(version, type, blockId, userId, clientOpId, payload));
+        }
+    }
+}
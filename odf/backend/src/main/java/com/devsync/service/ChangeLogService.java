@@ -0,0 +1,194 @@
+package com.devsync.service;
+
+import com.devsync.dto.ChangeEntry;
+import com.devsync.dto.ChangeFeed;
+import com.devsync.model.ChangeEntityType;
+import com.devsync.model.ChangeLogEntry;
+import com.devsync.model.ChangeOperation;
+import com.devsync.model.ChangeScope;
+import com.devsync.repository.ChangeLogRepository;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records entity mutations for delta sync and serves them per user scope:
+ * the user's own entries plus those of every channel and workspace they
+ * belong to.
+ */
+@Service
+public class ChangeLogService {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogService.class);
+
+    private static final long SEQUENCER_LOCK = 0x6368616e67656cL;
+    private static final int MAX_PAGE_SIZE = 1000;
+    // IN () is not valid SQL; no scope has this id
+    private static final List<Long> NO_SCOPES = List.of(-1L);
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${sync.sequence-batch-size:1000}")
+    private int sequenceBatchSize;
+
+    @Value("${sync.compact-after-minutes:10}")
+    private int compactAfterMinutes;
+
+    @Value("${sync.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${sync.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Appends a change in the caller's transaction. Call it after the entity
+     * row has been written so that changes to one entity are logged in the
+     * order their transactions commit.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeScope scope, Long scopeId, ChangeEntityType entityType, Long entityId,
+                       String entityKey, ChangeOperation operation, Object payload) {
+        Map<String, Object> data = payload == null ? null : objectMapper.convertValue(payload, PAYLOAD_TYPE);
+        changeLogRepository.save(new ChangeLogEntry(scope, scopeId, entityType, entityId, entityKey, operation, data));
+    }
+
+    /**
+     * Appends the same change in the scope of each user with a single
+     * statement, as {@link #record} would one by one. Each entry's key is
+     * {@code entityKeyPrefix} followed by the user id, and its payload is
+     * {@code payload} plus the user's {@code userId}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordForUsers(Collection<Long> userIds, ChangeEntityType entityType, Long entityId,
+                               String entityKeyPrefix, ChangeOperation operation, Object payload) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable " + entityType + " payload", e);
+        }
+        changeLogRepository.insertForUsers(entityType.name(), entityId, entityKeyPrefix, operation.name(), json,
+                userIds.toArray(Long[]::new));
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeed getChanges(Long userId, long sinceVersion, int limit) {
+        if (sinceVersion < changeLogRepository.findHorizon()) {
+            return new ChangeFeed(sinceVersion, List.of(), false, true);
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Long> channelIds = channelRepository.findIdsByMember(userId);
+        List<Long> workspaceIds = workspaceRepository.findIdsByMember(userId);
+        List<ChangeEntry> changes = changeLogRepository.findForUser(sinceVersion, userId,
+                channelIds.isEmpty() ? NO_SCOPES : channelIds,
+                workspaceIds.isEmpty() ? NO_SCOPES : workspaceIds,
+                Pageable.ofSize(size + 1));
+
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        long version = changes.isEmpty() ? sinceVersion : changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeed(version, changes, hasMore, false);
+    }
+
+    /**
+     * Newest sequenced version; a client that has just bootstrapped resumes from here.
+     */
+    @Transactional(readOnly = true)
+    public long getLatestVersion() {
+        return changeLogRepository.findLatestVersion();
+    }
+
+    @Scheduled(fixedDelayString = "${sync.sequence-interval-ms:200}")
+    public void sequence() {
+        Integer stamped;
+        do {
+            stamped = transactionTemplate.execute(status -> {
+                // One sequencer across all instances; the others skip this round
+                if (!changeLogRepository.tryLock(SEQUENCER_LOCK)) {
+                    return 0;
+                }
+                return changeLogRepository.assignVersions(sequenceBatchSize);
+            });
+        } while (stamped != null && stamped == sequenceBatchSize);
+    }
+
+    /**
+     * Deletes superseded and expired entries chunk by chunk. Each chunk holds
+     * the sequencer lock, so compaction never interleaves with stamping on
+     * any instance.
+     */
+    @Scheduled(cron = "${sync.compaction-cron:0 */15 * * * *}")
+    public void compact() {
+        LocalDateTime supersededCutoff = LocalDateTime.now().minusMinutes(compactAfterMinutes);
+        int superseded = 0;
+        int deleted;
+        do {
+            deleted = withSequencerLock(() -> changeLogRepository.deleteSuperseded(supersededCutoff, chunkSize));
+            superseded += deleted;
+        } while (deleted == chunkSize);
+
+        int expired = 0;
+        Long retainedFrom = withSequencerLock(() -> {
+            Long version = changeLogRepository.findMaxVersionBefore(LocalDateTime.now().minusDays(retentionDays));
+            // Raise the horizon first so no client resumes into the range being deleted
+            if (version != null) {
+                changeLogRepository.raiseHorizon(version);
+            }
+            return version;
+        });
+        if (retainedFrom != null) {
+            do {
+                deleted = withSequencerLock(() -> changeLogRepository.deleteUpTo(retainedFrom, chunkSize));
+                expired += deleted;
+            } while (deleted == chunkSize);
+        }
+
+        if (superseded > 0 || expired > 0) {
+            logger.info("Compacted change log: {} superseded and {} expired entries removed", superseded, expired);
+        }
+    }
+
+    private <T> T withSequencerLock(Supplier<T> step) {
+        return transactionTemplate.execute(status -> {
+            changeLogRepository.lock(SEQUENCER_LOCK);
+            return step.get();
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.devsync.service;
+
+import com.devsync.repository.ChannelRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Channel ids per user, so STOMP subscribe and send checks do not query the
+ * database per frame. Entries expire after a TTL. Membership changes evict
+ * the affected users once their transaction commits and flag them, so
+ * {@link StompSessionRegistry} can re-check their live subscriptions; other
+ * instances do the same when {@link CacheInvalidations} delivers the change.
+ */
+@Service
+public class ChannelMembershipCache {
+    static final String CACHE = "channel-membership";
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private CacheInvalidations invalidations;
+
+    @Value("${websocket.membership-ttl-ms:300000}")
+    private long ttlMs;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+    // Bumped on every eviction; a load that raced one is not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        invalidations.register(CACHE, this::evict);
+    }
+
+    public boolean isMember(Long userId, Long channelId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry == null || entry.expiresAt <= now) {
+            long generation = evictions.get();
+            entry = new Entry(Set.copyOf(channelRepository.findIdsByMember(userId)), now + ttlMs);
+            if (evictions.get() == generation) {
+                entries.put(userId, entry);
+            }
+        }
+        return entry.channelIds.contains(channelId);
+    }
+
+    /**
+     * Evicts the users once the current transaction commits, or right away
+     * when there is none, on this instance and on the others.
+     */
+    public void evictAfterCommit(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        invalidations.publish(CACHE, ids);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(ids);
+            }
+        });
+    }
+
+    /**
+     * Returns and clears the users whose membership changed since the last call.
+     */
+    public Set<Long> drainChangedUsers() {
+        Set<Long> drained = new HashSet<>();
+        for (Long userId : changedUsers) {
+            if (changedUsers.remove(userId)) {
+                drained.add(userId);
+            }
+        }
+        return drained;
+    }
+
+    private void evict(Collection<Long> userIds) {
+        evictions.incrementAndGet();
+        for (Long userId : userIds) {
+            entries.remove(userId);
+            changedUsers.add(userId);
+        }
+    }
+
+    private record Entry(Set<Long> channelIds, long expiresAt) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.devsync.service;
+
+import com.devsync.dto.ChannelMetadata;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.MessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Channel header data (topic, description, member count and pinned message
+ * ids) per channel. Pin and unpin, topic changes and membership changes evict
+ * the channel once their transaction commits, here and, through
+ * {@link CacheInvalidations}, on the other instances; entries also expire
+ * after a TTL. The channels with the most recent traffic are loaded at startup.
+ */
+@Service
+public class ChannelMetadataCache {
+    private static final Logger logger = LoggerFactory.getLogger(ChannelMetadataCache.class);
+
+    static final String CACHE = "channel-metadata";
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheInvalidations invalidations;
+
+    @Value("${channel-metadata.ttl-ms:600000}")
+    private long ttlMs;
+
+    @Value("${channel-metadata.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${channel-metadata.prewarm-channels:200}")
+    private int prewarmChannels;
+
+    @Value("${channel-metadata.prewarm-window-hours:24}")
+    private int prewarmWindowHours;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped on every eviction; a load that raced one is not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("channel.metadata.requests").tag("outcome", "hit").register(meterRegistry);
+        misses = Counter.builder("channel.metadata.requests").tag("outcome", "miss").register(meterRegistry);
+        Gauge.builder("channel.metadata.entries", entries, Map::size).register(meterRegistry);
+        invalidations.register(CACHE, channelIds -> channelIds.forEach(this::evict));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        if (prewarmChannels <= 0) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minusHours(prewarmWindowHours);
+        int loaded = 0;
+        for (Long channelId : messageRepository.findBusiestChannelIds(since, prewarmChannels)) {
+            try {
+                get(channelId);
+                loaded++;
+            } catch (ResponseStatusException e) {
+                // Deleted since its last message; nothing to warm
+            }
+        }
+        logger.info("Prewarmed metadata for {} channels", loaded);
+    }
+
+    public ChannelMetadata get(Long channelId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(channelId);
+        if (entry != null && entry.expiresAt > now) {
+            hits.increment();
+            return entry.metadata;
+        }
+
+        misses.increment();
+        long generation = evictions.get();
+        ChannelMetadata metadata = channelRepository.findMetadataById(channelId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Channel not found"))
+                .withPinned(messageRepository.findPinnedIds(channelId));
+        if (evictions.get() == generation && (entries.size() < maxEntries || entries.containsKey(channelId))) {
+            entries.put(channelId, new Entry(metadata, now + ttlMs));
+        }
+        return metadata;
+    }
+
+    /**
+     * Evicts the channel once the current transaction commits, or right away
+     * when there is none, on this instance and on the others.
+     */
+    public void evictAfterCommit(Long channelId) {
+        invalidations.publish(CACHE, List.of(channelId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(channelId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(channelId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${channel-metadata.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    private void evict(Long channelId) {
+        evictions.incrementAndGet();
+        entries.remove(channelId);
+    }
+
+    private record Entry(ChannelMetadata metadata, long expiresAt) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.devsync.service;
+
+import com.devsync.dto.ChannelAccess;
+import com.devsync.dto.ChannelListItem;
+import com.devsync.dto.ChannelMetadata;
+import com.devsync.dto.ChannelSummary;
+import com.devsync.dto.UserListItem;
+import com.devsync.model.ChangeEntityType;
+import com.devsync.model.ChangeOperation;
+import com.devsync.model.ChangeScope;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.UserRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ChannelService {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private ChannelMembershipCache membershipCache;
+
+    @Autowired
+    private ChannelMetadataCache metadataCache;
+
+    /**
+     * Archives or restores a channel. Allowed for the channel's creator and the
+     * owner of its workspace.
+     */
+    @Transactional
+    public ChannelSummary setArchived(UserPrincipal user, Long channelId, boolean archived) {
+        if (!access(channelId).isManagedBy(user.getId())) {
+            throw new AccessDeniedException("Not allowed to archive channel " + channelId);
+        }
+        int changed = channelRepository.updateArchived(channelId, archived);
+
+        ChannelSummary summary = summary(channelId);
+        if (changed == 0) {
+            // Already in that state; clients have nothing to sync
+            return summary;
+        }
+        Map<String, Object> payload = channelPayload(summary, archived);
+        changeLogService.record(ChangeScope.CHANNEL, channelId, ChangeEntityType.CHANNEL, channelId,
+                "CHANNEL:" + channelId, archived ? ChangeOperation.ARCHIVE : ChangeOperation.UNARCHIVE, payload);
+        return summary;
+    }
+
+    /**
+     * Sets or clears a channel's topic. Any member may change it.
+     */
+    @Transactional
+    public ChannelSummary setTopic(UserPrincipal user, Long channelId, String topic) {
+        requireMember(channelId, user.getId());
+        String value = topic == null || topic.isBlank() ? null : topic.strip();
+        channelRepository.updateTopic(channelId, value);
+
+        ChannelSummary summary = summary(channelId);
+        changeLogService.record(ChangeScope.CHANNEL, channelId, ChangeEntityType.CHANNEL, channelId,
+                "CHANNEL:" + channelId, ChangeOperation.UPDATE, Map.of("channel", summary));
+        metadataCache.evictAfterCommit(channelId);
+        return summary;
+    }
+
+    /**
+     * Adds a user to a channel. Any member may add others, as long as the
+     * user belongs to the channel's workspace; the new member also gets a
+     * user-scoped entry so their own feed learns about the channel.
+     */
+    @Transactional
+    public boolean addMember(UserPrincipal requester, Long channelId, Long userId) {
+        requireMember(channelId, requester.getId());
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
+        }
+        Long workspaceId = summary(channelId).getWorkspaceId();
+        if (workspaceId != null && !workspaceRepository.isMember(workspaceId, userId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "User " + userId + " is not a member of workspace " + workspaceId);
+        }
+        if (channelRepository.addMember(channelId, userId) == 0) {
+            return false;
+        }
+        recordMembership(channelId, userId, ChangeOperation.MEMBER_ADD);
+        return true;
+    }
+
+    /**
+     * Removes a user from a channel. Members may leave; removing someone else
+     * is reserved for the channel's creator.
+     */
+    @Transactional
+    public boolean removeMember(UserPrincipal requester, Long channelId, Long userId) {
+        if (!requester.getId().equals(userId)
+                && !requester.getId().equals(access(channelId).createdById())) {
+            throw new AccessDeniedException("Only the channel creator can remove other members");
+        }
+        if (channelRepository.removeMember(channelId, userId) == 0) {
+            return false;
+        }
+        recordMembership(channelId, userId, ChangeOperation.MEMBER_REMOVE);
+        return true;
+    }
+
+    /**
+     * Version of a channel's summary for conditional GETs; members only.
+     */
+    @Transactional(readOnly = true)
+    public String channelVersion(Long userId, Long channelId) {
+        requireMember(channelId, userId);
+        return channelRepository.findUpdatedAtById(channelId).map(String::valueOf)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Channel not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public ChannelSummary getChannel(Long channelId) {
+        return summary(channelId);
+    }
+
+    /**
+     * Header data for a channel, served from {@link ChannelMetadataCache};
+     * membership is checked against the membership cache as well.
+     */
+    public ChannelMetadata getMetadata(Long userId, Long channelId) {
+        if (!membershipCache.isMember(userId, channelId)) {
+            throw new AccessDeniedException("Not a member of channel " + channelId);
+        }
+        return metadataCache.get(channelId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserListItem> listMembers(Long userId, Long channelId, Long afterUserId, int limit) {
+        requireMember(channelId, userId);
+        return channelRepository.findMemberItems(channelId, afterUserId == null ? 0L : afterUserId,
+                Pageable.ofSize(Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
+    }
+
+    /**
+     * Version of a workspace's channel list for conditional GETs. It is the
+     * same for every member; the list itself differs per user only by private
+     * channels, whose membership changes touch the channel.
+     */
+    @Transactional(readOnly = true)
+    public String workspaceChannelsVersion(Long userId, Long workspaceId) {
+        if (!workspaceRepository.isMember(workspaceId, userId)) {
+            throw new AccessDeniedException("Not a member of workspace " + workspaceId);
+        }
+        return channelRepository.findWorkspaceChannelsVersion(workspaceId).tag();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChannelListItem> listWorkspaceChannels(Long userId, Long workspaceId) {
+        if (!workspaceRepository.isMember(workspaceId, userId)) {
+            throw new AccessDeniedException("Not a member of workspace " + workspaceId);
+        }
+        return channelRepository.findListItemsInWorkspace(workspaceId, userId);
+    }
+
+    private void recordMembership(Long channelId, Long userId, ChangeOperation operation) {
+        // Member counts and private channel visibility hang off the channel's version
+        channelRepository.touch(channelId);
+        String key = "CHANNEL_MEMBER:" + channelId + ":" + userId;
+        Map<String, Object> membership = Map.of("channelId", channelId, "userId", userId);
+        changeLogService.record(ChangeScope.CHANNEL, channelId, ChangeEntityType.CHANNEL_MEMBER, channelId,
+                key, operation, membership);
+
+        Map<String, Object> own = new HashMap<>(membership);
+        if (operation == ChangeOperation.MEMBER_ADD) {
+            own.put("channel", summary(channelId));
+        }
+        changeLogService.record(ChangeScope.USER, userId, ChangeEntityType.CHANNEL_MEMBER, channelId,
+                key, operation, own);
+        membershipCache.evictAfterCommit(List.of(userId));
+        metadataCache.evictAfterCommit(channelId);
+    }
+
+    private ChannelAccess access(Long channelId) {
+        return channelRepository.findAccessById(channelId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Channel not found"));
+    }
+
+    private ChannelSummary summary(Long channelId) {
+        return channelRepository.findSummaryById(channelId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Channel not found"));
+    }
+
+    private static Map<String, Object> channelPayload(ChannelSummary summary, boolean archived) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("channel", summary);
+        payload.put("archived", archived);
+        return payload;
+    }
+
+    private void requireMember(Long channelId, Long userId) {
+        if (!channelRepository.isMember(channelId, userId)) {
+            throw new AccessDeniedException("Not a member of channel " + channelId);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.devsync.service;
+
+import com.devsync.dto.PushNotification;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "fcm")
+public class FcmPushSender implements PushSender {
+    private static final Logger logger = LoggerFactory.getLogger(FcmPushSender.class);
+
+    @Autowired
+    private FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<String> sendMulticast(PushNotification notification, List<String> tokens)
+            throws FirebaseMessagingException {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(notification.getTitle())
+                        .setBody(notification.getBody())
+                        .build())
+                .putAllData(notification.getData())
+                .build();
+
+        BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
+        if (response.getFailureCount() == 0) {
+            return List.of();
+        }
+
+        List<String> retryable = new ArrayList<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                continue;
+            }
+            if (isTransient(sendResponse.getException())) {
+                retryable.add(tokens.get(i));
+            } else {
+                logger.warn("Dropping push for token {}: {}", tokens.get(i),
+                        sendResponse.getException().getMessage());
+            }
+        }
+        return retryable;
+    }
+
+    private boolean isTransient(FirebaseMessagingException e) {
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        return code == null
+                || code == MessagingErrorCode.UNAVAILABLE
+                || code == MessagingErrorCode.INTERNAL
+                || code == MessagingErrorCode.QUOTA_EXCEEDED;
+    }
+}
@@ -0,0 +1,286 @@
+package com.devsync.service;
+
+import com.devsync.dto.BulkItemUpdateRequest;
+import com.devsync.dto.CreateListRequest;
+import com.devsync.dto.ListAccess;
+import com.devsync.dto.ListBoard;
+import com.devsync.dto.ListItemPage;
+import com.devsync.dto.ListItemRequest;
+import com.devsync.dto.ListItemView;
+import com.devsync.dto.ListSummary;
+import com.devsync.model.ListItem;
+import com.devsync.model.TaskList;
+import com.devsync.repository.ListItemRepository;
+import com.devsync.repository.TaskListRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists and their board views. Column counts live in list_status_counts and
+ * are adjusted in the same transaction as each item write, so showing a
+ * board never aggregates its items.
+ */
+@Service
+public class ListService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String DEFAULT_STATUS = "To Do";
+    // due_sort of an item without a due date, and a key below every real one
+    private static final LocalDate UNDATED = LocalDate.of(9999, 12, 31);
+    private static final LocalDate BEFORE_ANY = LocalDate.of(1, 1, 1);
+
+    @Autowired
+    private TaskListRepository listRepository;
+
+    @Autowired
+    private ListItemRepository itemRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Transactional
+    public ListSummary create(UserPrincipal user, CreateListRequest request) {
+        if (request.getWorkspaceId() != null && !workspaceRepository.isMember(request.getWorkspaceId(), user.getId())) {
+            throw new AccessDeniedException("Not a member of workspace " + request.getWorkspaceId());
+        }
+        TaskList list = listRepository.saveAndFlush(
+                new TaskList(request.getTitle(), user.getId(), request.getWorkspaceId(), request.getTemplate()));
+        return summary(list.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ListSummary> list(Long userId, Long workspaceId) {
+        if (workspaceId == null) {
+            return listRepository.findSummariesVisibleTo(userId);
+        }
+        if (!workspaceRepository.isMember(workspaceId, userId)) {
+            throw new AccessDeniedException("Not a member of workspace " + workspaceId);
+        }
+        return listRepository.findSummariesByWorkspace(workspaceId);
+    }
+
+    @Transactional(readOnly = true)
+    public ListBoard board(Long userId, Long listId) {
+        requireAccess(listId, userId);
+        return boardOf(listId);
+    }
+
+    /**
+     * One page of items, filtered by board column and/or assignee. Order is
+     * "created" (id) or "due" (due date, undated last); due order needs a
+     * status or assignee filter, which is what the indexes cover.
+     */
+    @Transactional(readOnly = true)
+    public ListItemPage items(Long userId, Long listId, String status, String assignee, String sort,
+                              String after, int limit) {
+        requireAccess(listId, userId);
+        Pageable page = Pageable.ofSize(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        boolean byDue = "due".equalsIgnoreCase(sort);
+
+        List<ListItemView> items;
+        if (byDue) {
+            if (status == null && assignee == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Due-date order needs a status or assignee filter");
+            }
+            LocalDate afterDue = BEFORE_ANY;
+            long afterId = 0;
+            if (after != null) {
+                int separator = after.lastIndexOf(':');
+                afterDue = parseDate(separator > 0 ? after.substring(0, separator) : after);
+                afterId = parseId(after.substring(separator + 1));
+            }
+            if (assignee == null) {
+                items = itemRepository.findByStatusByDue(listId, status, afterDue, afterId, page);
+            } else if (status == null) {
+                items = itemRepository.findByAssigneeByDue(listId, assignee, afterDue, afterId, page);
+            } else {
+                items = itemRepository.findByAssigneeAndStatusByDue(listId, assignee, status, afterDue, afterId, page);
+            }
+        } else {
+            long afterId = after == null ? 0 : parseId(after);
+            if (assignee == null) {
+                items = status == null
+                        ? itemRepository.findPage(listId, afterId, page)
+                        : itemRepository.findByStatus(listId, status, afterId, page);
+            } else {
+                items = status == null
+                        ? itemRepository.findByAssignee(listId, assignee, afterId, page)
+                        : itemRepository.findByAssigneeAndStatus(listId, assignee, status, afterId, page);
+            }
+        }
+
+        String nextCursor = null;
+        if (items.size() == page.getPageSize()) {
+            ListItemView last = items.get(items.size() - 1);
+            nextCursor = byDue
+                    ? (last.dueDate() != null ? last.dueDate() : UNDATED) + ":" + last.id()
+                    : last.id().toString();
+        }
+        return new ListItemPage(items, nextCursor);
+    }
+
+    @Transactional
+    public ListItemView addItem(UserPrincipal user, Long listId, ListItemRequest request) {
+        requireAccess(listId, user.getId());
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is required");
+        }
+
+        ListItem item = new ListItem(listId, request.getTitle(),
+                request.getStatus() != null ? request.getStatus() : DEFAULT_STATUS);
+        applyFields(item, request);
+        itemRepository.save(item);
+        itemRepository.adjustStatusCount(listId, item.getStatus(), 1);
+        return ListItemView.from(item);
+    }
+
+    @Transactional
+    public ListItemView updateItem(UserPrincipal user, Long listId, Long itemId, ListItemRequest request) {
+        requireAccess(listId, user.getId());
+        ListItem item = itemRepository.findByIdAndListId(itemId, listId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Item not found"));
+
+        String previousStatus = item.getStatus();
+        if (request.getTitle() != null) {
+            item.setTitle(request.getTitle());
+        }
+        if (request.getStatus() != null) {
+            item.setStatus(request.getStatus());
+        }
+        applyFields(item, request);
+        itemRepository.saveAndFlush(item);
+
+        if (!previousStatus.equals(item.getStatus())) {
+            moveCount(listId, previousStatus, item.getStatus());
+        }
+        return ListItemView.from(item);
+    }
+
+    @Transactional
+    public boolean deleteItem(UserPrincipal user, Long listId, Long itemId) {
+        requireAccess(listId, user.getId());
+        return itemRepository.deleteItems(listId, List.of(itemId)) > 0;
+    }
+
+    /**
+     * Applies one change to every selected item in a handful of set-based
+     * statements and returns the board with its updated counts. Ids from
+     * other lists are ignored.
+     */
+    @Transactional
+    public ListBoard bulkUpdate(UserPrincipal user, Long listId, BulkItemUpdateRequest request) {
+        requireAccess(listId, user.getId());
+        List<Long> ids = itemRepository.lockItems(listId, request.getIds().stream().distinct().toList());
+        if (ids.isEmpty()) {
+            return boardOf(listId);
+        }
+
+        if (request.getStatus() != null) {
+            itemRepository.moveToStatus(listId, ids, request.getStatus());
+        }
+        if (request.isClearAssignee() || request.getAssignee() != null) {
+            itemRepository.updateAssignee(listId, ids, request.isClearAssignee() ? null : request.getAssignee());
+        }
+        if (request.isClearDueDate() || request.getDueDate() != null) {
+            itemRepository.updateDueDate(listId, ids, request.isClearDueDate() ? null : request.getDueDate());
+        }
+        if (request.getPriority() != null) {
+            itemRepository.updatePriority(listId, ids, request.getPriority());
+        }
+        if (request.getCompleted() != null) {
+            itemRepository.updateCompleted(listId, ids, request.getCompleted());
+        }
+        return boardOf(listId);
+    }
+
+    @Transactional
+    public ListBoard bulkDelete(UserPrincipal user, Long listId, List<Long> itemIds) {
+        requireAccess(listId, user.getId());
+        itemRepository.deleteItems(listId, itemIds.stream().distinct().toList());
+        return boardOf(listId);
+    }
+
+    private ListBoard boardOf(Long listId) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : itemRepository.findStatusCounts(listId)) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return new ListBoard(summary(listId), counts);
+    }
+
+    /**
+     * Moves one item's worth of count between columns. Counter rows are
+     * always updated in status order, like the bulk statements do.
+     */
+    private void moveCount(Long listId, String from, String to) {
+        if (from.compareTo(to) < 0) {
+            itemRepository.adjustStatusCount(listId, from, -1);
+            itemRepository.adjustStatusCount(listId, to, 1);
+        } else {
+            itemRepository.adjustStatusCount(listId, to, 1);
+            itemRepository.adjustStatusCount(listId, from, -1);
+        }
+    }
+
+    private static void applyFields(ListItem item, ListItemRequest request) {
+        if (request.getDescription() != null) {
+            item.setDescription(request.getDescription());
+        }
+        if (request.getAssignee() != null) {
+            item.setAssignee(request.getAssignee().isBlank() ? null : request.getAssignee());
+        }
+        if (request.getDueDate() != null) {
+            item.setDueDate(request.getDueDate());
+        }
+        if (request.getPriority() != null) {
+            item.setPriority(request.getPriority());
+        }
+        if (request.getCompleted() != null) {
+            item.setCompleted(request.getCompleted());
+        }
+    }
+
+    private ListSummary summary(Long listId) {
+        return listRepository.findSummaryById(listId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "List not found"));
+    }
+
+    private void requireAccess(Long listId, Long userId) {
+        ListAccess access = listRepository.findAccessById(listId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "List not found"));
+        boolean allowed = userId.equals(access.createdBy())
+                || (access.workspaceId() != null && workspaceRepository.isMember(access.workspaceId(), userId));
+        if (!allowed) {
+            throw new AccessDeniedException("No access to list " + listId);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.devsync.service;
+
+import com.devsync.dto.PushNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for FCM used in development, tests and load runs.
+ * Optionally fails a fraction of tokens so the retry path can be exercised.
+ */
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "local", matchIfMissing = true)
+public class LocalPushSender implements PushSender {
+    private static final Logger logger = LoggerFactory.getLogger(LocalPushSender.class);
+
+    @Value("${push.local.failure-rate:0.0}")
+    private double failureRate;
+
+    private final AtomicLong batchesSent = new AtomicLong();
+    private final AtomicLong notificationsSent = new AtomicLong();
+
+    @Override
+    public List<String> sendMulticast(PushNotification notification, List<String> tokens) {
+        List<String> failed = new ArrayList<>();
+        if (failureRate > 0) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (String token : tokens) {
+                if (random.nextDouble() < failureRate) {
+                    failed.add(token);
+                }
+            }
+        }
+
+        batchesSent.incrementAndGet();
+        notificationsSent.addAndGet(tokens.size() - failed.size());
+        logger.debug("Local push '{}' to {} tokens ({} failed)", notification.getTitle(), tokens.size(), failed.size());
+        return failed;
+    }
+
+    public long getBatchesSent() {
+        return batchesSent.get();
+    }
+
+    public long getNotificationsSent() {
+        return notificationsSent.get();
+    }
+}
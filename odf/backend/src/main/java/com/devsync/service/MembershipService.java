@@ -0,0 +1,210 @@
+package com.devsync.service;
+
+import com.devsync.dto.BulkMembershipResult;
+import com.devsync.dto.ChannelAccess;
+import com.devsync.dto.ChannelSummary;
+import com.devsync.model.ChangeEntityType;
+import com.devsync.model.ChangeOperation;
+import com.devsync.model.ChangeScope;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Bulk channel and workspace membership for imports and onboarding. Ids are
+ * deduplicated and written in chunks with set-based INSERT ... ON CONFLICT and
+ * DELETE statements on the join tables, so member collections are never
+ * loaded. A bulk change is logged once, aggregated, in the channel's or
+ * workspace's scope, and per user in each user's own scope so removed users
+ * and private channels never show up in a workspace feed. The per-user
+ * entries are written with one statement per chunk.
+ */
+@Service
+public class MembershipService {
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ChannelMembershipCache membershipCache;
+
+    @Autowired
+    private ChannelMetadataCache metadataCache;
+
+    @Value("${membership.bulk-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Adds users to a channel. Allowed for the channel's creator and the owner
+     * of its workspace; users outside the workspace are skipped.
+     */
+    @Transactional
+    public BulkMembershipResult addChannelMembers(UserPrincipal requester, Long channelId, Collection<Long> userIds) {
+        return changeChannel(requester, channelId, userIds, ChangeOperation.MEMBER_ADD, channelRepository::addMembers);
+    }
+
+    @Transactional
+    public BulkMembershipResult removeChannelMembers(UserPrincipal requester, Long channelId,
+                                                     Collection<Long> userIds) {
+        return changeChannel(requester, channelId, userIds, ChangeOperation.MEMBER_REMOVE,
+                channelRepository::removeMembers);
+    }
+
+    /**
+     * Adds users to a workspace; owner only.
+     */
+    @Transactional
+    public BulkMembershipResult addWorkspaceMembers(UserPrincipal requester, Long workspaceId,
+                                                    Collection<Long> userIds) {
+        requireOwner(requester, workspaceId);
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+        List<Long> added = inChunks(requested, ids -> workspaceRepository.addMembers(workspaceId, ids));
+        recordWorkspace(workspaceId, ChangeOperation.MEMBER_ADD, added);
+        return new BulkMembershipResult(requested.size(), added.size());
+    }
+
+    /**
+     * Removes users from a workspace and from all of its channels; owner only.
+     * The owner is never removed.
+     */
+    @Transactional
+    public BulkMembershipResult removeWorkspaceMembers(UserPrincipal requester, Long workspaceId,
+                                                       Collection<Long> userIds) {
+        requireOwner(requester, workspaceId);
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+        List<Long> removed = inChunks(requested, ids -> workspaceRepository.removeMembers(workspaceId, ids));
+        if (removed.isEmpty()) {
+            return new BulkMembershipResult(requested.size(), 0);
+        }
+
+        Map<Long, List<Long>> removedByChannel = new LinkedHashMap<>();
+        List<Object[]> removedRows = inChunks(removed,
+                ids -> channelRepository.removeFromWorkspaceChannels(workspaceId, ids));
+        for (Object[] row : removedRows) {
+            removedByChannel.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>())
+                    .add(((Number) row[1]).longValue());
+        }
+        removedByChannel.forEach((channelId, members) ->
+                recordChannel(channelId, ChangeOperation.MEMBER_REMOVE, members));
+
+        recordWorkspace(workspaceId, ChangeOperation.MEMBER_REMOVE, removed);
+        // Removed users no longer read the workspace's scope
+        recordForUsers(removed, ChangeEntityType.WORKSPACE_MEMBER, workspaceId, "WORKSPACE_MEMBER:" + workspaceId,
+                ChangeOperation.MEMBER_REMOVE, Map.of("workspaceId", workspaceId));
+        return new BulkMembershipResult(requested.size(), removed.size());
+    }
+
+    private BulkMembershipResult changeChannel(UserPrincipal requester, Long channelId, Collection<Long> userIds,
+                                               ChangeOperation operation,
+                                               BiFunction<Long, Collection<Long>, List<Long>> statement) {
+        ChannelAccess access = channelRepository.findAccessById(channelId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Channel not found"));
+        if (!access.isManagedBy(requester.getId())) {
+            throw new AccessDeniedException("Not allowed to manage members of channel " + channelId);
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+        List<Long> changed = inChunks(requested, ids -> statement.apply(channelId, ids));
+        recordChannel(channelId, operation, changed);
+        return new BulkMembershipResult(requested.size(), changed.size());
+    }
+
+    /**
+     * Logs the batch once in the channel's scope, for the members who remain,
+     * and each change in the user's scope, so added users learn about the
+     * channel and removed ones drop it. One broadcast covers the whole batch.
+     */
+    private void recordChannel(Long channelId, ChangeOperation operation, List<Long> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        // Member counts and private channel visibility hang off the channel's version
+        channelRepository.touch(channelId);
+        ChannelSummary summary = operation == ChangeOperation.MEMBER_ADD
+                ? channelRepository.findSummaryById(channelId)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Channel not found"))
+                : null;
+        changeLogService.record(ChangeScope.CHANNEL, channelId, ChangeEntityType.CHANNEL_MEMBER, channelId,
+                bulkKey("CHANNEL_MEMBERS:" + channelId), operation,
+                Map.of("channelId", channelId, "userIds", changed));
+        recordForUsers(changed, ChangeEntityType.CHANNEL_MEMBER, channelId, "CHANNEL_MEMBER:" + channelId,
+                operation, summary != null ? Map.of("channelId", channelId, "channel", summary)
+                                           : Map.of("channelId", channelId));
+        outboxService.append(channelId, "/topic/channels/" + channelId + "/updates",
+                operation == ChangeOperation.MEMBER_ADD ? "MEMBERS_ADDED" : "MEMBERS_REMOVED",
+                Map.of("channelId", channelId, "userIds", changed));
+
+        membershipCache.evictAfterCommit(changed);
+        metadataCache.evictAfterCommit(channelId);
+    }
+
+    private void recordWorkspace(Long workspaceId, ChangeOperation operation, List<Long> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        changeLogService.record(ChangeScope.WORKSPACE, workspaceId, ChangeEntityType.WORKSPACE_MEMBER, workspaceId,
+                bulkKey("WORKSPACE_MEMBERS:" + workspaceId), operation,
+                Map.of("workspaceId", workspaceId, "userIds", changed));
+        membershipCache.evictAfterCommit(changed);
+    }
+
+    /**
+     * One entry per user in their own scope, keyed as single adds and
+     * removes are, e.g. {@code CHANNEL_MEMBER:7:3}; one insert per chunk.
+     */
+    private void recordForUsers(List<Long> userIds, ChangeEntityType entityType, Long entityId, String keyPrefix,
+                                ChangeOperation operation, Map<String, Object> payload) {
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            changeLogService.recordForUsers(userIds.subList(from, Math.min(from + chunkSize, userIds.size())),
+                    entityType, entityId, keyPrefix + ":", operation, payload);
+        }
+    }
+
+    private void requireOwner(UserPrincipal requester, Long workspaceId) {
+        Long ownerId = workspaceRepository.findOwnerIdById(workspaceId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
+        if (!ownerId.equals(requester.getId())) {
+            throw new AccessDeniedException("Only the workspace owner can manage its members");
+        }
+    }
+
+    private <T> List<T> inChunks(Collection<Long> ids, Function<List<Long>, List<T>> statement) {
+        List<Long> all = new ArrayList<>(ids);
+        List<T> changed = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += chunkSize) {
+            changed.addAll(statement.apply(all.subList(from, Math.min(from + chunkSize, all.size()))));
+        }
+        return changed;
+    }
+
+    // Compaction keeps the newest row per key; every bulk change carries its own list of users
+    private static String bulkKey(String prefix) {
+        return prefix + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,49 @@
+package com.devsync.service;
+
+import com.devsync.dto.PushNotification;
+import com.devsync.event.MentionEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+@Component
+public class MentionNotificationListener {
+    private static final int PREVIEW_LENGTH = 140;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private PushNotificationService pushNotificationService;
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMention(MentionEvent event) {
+        String title = event.getSenderName() + " mentioned you";
+        String preview = preview(event.getContent());
+        String dedupKey = "message:" + event.getMessageId();
+        Map<String, String> data = Map.of(
+                "channelId", String.valueOf(event.getChannelId()),
+                "messageId", String.valueOf(event.getMessageId()));
+
+        PushNotification push = new PushNotification(title, preview, data);
+        if (event.isChannelWide()) {
+            pushNotificationService.notifyChannelMembers(event.getChannelId(), event.getSenderId(), dedupKey, push);
+        }
+        pushNotificationService.notifyUsers(event.getMentionedUserIds(), dedupKey, push);
+
+        for (Long userId : event.getMentionedUserIds()) {
+            notificationService.create(userId, "MENTION", title, preview, Map.of(
+                    "channelId", event.getChannelId(),
+                    "messageId", event.getMessageId()));
+        }
+    }
+
+    private static String preview(String content) {
+        return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH - 1) + "…";
+    }
+}
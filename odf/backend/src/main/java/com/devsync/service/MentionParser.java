@@ -0,0 +1,27 @@
+package com.devsync.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class MentionParser {
+    public static final String CHANNEL = "channel";
+    public static final String HERE = "here";
+
+    private static final Pattern MENTION = Pattern.compile("(?<![\\w@])@([\\w][\\w.\\-]*[\\w]|[\\w])");
+
+    private MentionParser() {}
+
+    public static Set<String> extractHandles(String content) {
+        Set<String> handles = new LinkedHashSet<>();
+        if (content == null || content.indexOf('@') < 0) {
+            return handles;
+        }
+        Matcher matcher = MENTION.matcher(content);
+        while (matcher.find()) {
+            handles.add(matcher.group(1));
+        }
+        return handles;
+    }
+}
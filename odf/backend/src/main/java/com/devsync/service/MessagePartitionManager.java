@@ -0,0 +1,186 @@
+package com.devsync.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of {@code messages}. Partitions are created
+ * a few months ahead, and once a month falls outside the hot window its
+ * partition is detached, copied into {@code messages_archive} and dropped.
+ * Only one instance maintains partitions at a time; the others skip the run.
+ */
+@Service
+public class MessagePartitionManager {
+    private static final Logger logger = LoggerFactory.getLogger(MessagePartitionManager.class);
+
+    private static final String PREFIX = "messages_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long MAINTENANCE_LOCK = 0x6d736770617274L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${messages.partitions.hot-months:6}")
+    private int hotMonths;
+
+    @Value("${messages.partitions.premake-months:3}")
+    private int premakeMonths;
+
+    private Counter archivedRows;
+
+    @PostConstruct
+    public void initMetrics() {
+        archivedRows = Counter.builder("messages.archived.rows").register(meterRegistry);
+    }
+
+    /**
+     * Start of the oldest month still held in the partitioned table once
+     * maintenance has run. History and search bound their queries by this so
+     * only hot partitions are scanned.
+     */
+    public LocalDateTime getHotWindowStart() {
+        return YearMonth.now().minusMonths(hotMonths - 1L).atDay(1).atStartOfDay();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitionsOnStartup() {
+        withMaintenanceLock(this::createUpcomingPartitions);
+    }
+
+    @Scheduled(cron = "${messages.partitions.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        withMaintenanceLock(() -> {
+            createUpcomingPartitions();
+            archiveColdPartitions();
+        });
+    }
+
+    /**
+     * Runs the work under a session-level advisory lock, or skips it when
+     * another instance holds the lock. The work spans several transactions,
+     * so the lock is held on a connection of its own for the duration.
+     */
+    private void withMaintenanceLock(Runnable work) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!queryBoolean(connection, "SELECT pg_try_advisory_lock(" + MAINTENANCE_LOCK + ")")) {
+                logger.info("Partition maintenance is running on another instance; skipping");
+                return null;
+            }
+            try {
+                work.run();
+            } finally {
+                queryBoolean(connection, "SELECT pg_advisory_unlock(" + MAINTENANCE_LOCK + ")");
+            }
+            return null;
+        });
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        boolean result;
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            result = rs.next() && rs.getBoolean(1);
+        }
+        // Session locks outlive the transaction; ending it keeps the connection from idling in one
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+        return result;
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            String ddl = String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF messages FOR VALUES FROM ('%s') TO ('%s')",
+                    partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1));
+            try {
+                // The pool hands out connections with auto-commit off, so DDL
+                // outside a transaction would be rolled back when the connection returns
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(ddl));
+            } catch (RuntimeException e) {
+                // Typically rows for that month already sit in messages_default
+                logger.warn("Could not create partition {}: {}", partitionName(month), e.getMessage());
+            }
+        }
+    }
+
+    private void archiveColdPartitions() {
+        YearMonth oldestHot = YearMonth.from(getHotWindowStart());
+        List<PartitionRef> partitions = jdbcTemplate.query(
+                "SELECT c.relname, c.relispartition FROM pg_class c " +
+                "WHERE c.relkind = 'r' AND c.relname ~ '^messages_p[0-9]{6}$' ORDER BY c.relname",
+                (rs, rowNum) -> new PartitionRef(rs.getString(1), rs.getBoolean(2)));
+
+        for (PartitionRef partition : partitions) {
+            YearMonth month = YearMonth.parse(partition.name.substring(PREFIX.length()), SUFFIX);
+            if (month.isBefore(oldestHot)) {
+                archive(partition);
+            }
+        }
+    }
+
+    private void archive(PartitionRef partition) {
+        // Detach in its own short transaction: the copy below can take a while and
+        // must not hold the lock on the parent table that blocks message inserts.
+        // A table left detached by an interrupted run is picked up again next time.
+        if (partition.attached) {
+            transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.execute("ALTER TABLE messages DETACH PARTITION " + partition.name));
+        }
+
+        Integer copied = transactionTemplate.execute(status -> {
+            int rows = jdbcTemplate.update(
+                    "INSERT INTO messages_archive (id, content, type, sender_id, channel_id, parent_message_id, " +
+                    "edited, pinned, created_at, updated_at) " +
+                    "SELECT id, content, type, sender_id, channel_id, parent_message_id, " +
+                    "edited, pinned, created_at, updated_at FROM " + partition.name + " " +
+                    "ON CONFLICT (id) DO NOTHING");
+            jdbcTemplate.execute("DROP TABLE " + partition.name);
+            return rows;
+        });
+        archivedRows.increment(copied != null ? copied : 0);
+        logger.info("Archived partition {} ({} messages)", partition.name, copied);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+
+    private static class PartitionRef {
+        private final String name;
+        private final boolean attached;
+
+        PartitionRef(String name, boolean attached) {
+            this.name = name;
+            this.attached = attached;
+        }
+    }
+}
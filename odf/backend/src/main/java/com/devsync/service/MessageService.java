@@ -0,0 +1,350 @@
+package com.devsync.service;
+
+import com.devsync.dto.ChatMessage;
+import com.devsync.dto.PinnedItem;
+import com.devsync.dto.ReactionPayload;
+import com.devsync.event.MentionEvent;
+import com.devsync.event.MessagePostedEvent;
+import com.devsync.event.ReactionAddedEvent;
+import com.devsync.model.ChangeEntityType;
+import com.devsync.model.ChangeOperation;
+import com.devsync.model.ChangeScope;
+import com.devsync.model.Message;
+import com.devsync.model.MessageMention;
+import com.devsync.model.MessageReaction;
+import com.devsync.repository.ArchivedMessageRepository;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.MessageMentionRepository;
+import com.devsync.repository.MessageReactionRepository;
+import com.devsync.repository.MessageRepository;
+import com.devsync.repository.UserRepository;
+import com.devsync.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class MessageService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MessageMentionRepository mentionRepository;
+
+    @Autowired
+    private MessageReactionRepository reactionRepository;
+
+    @Autowired
+    private ArchivedMessageRepository archivedMessageRepository;
+
+    @Autowired
+    private MessagePartitionManager partitionManager;
+
+    @Autowired
+    private UserDirectory userDirectory;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ChannelMetadataCache metadataCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ChatMessage sendMessage(UserPrincipal sender, Long channelId, String content, Long parentMessageId) {
+        requireMember(channelId, sender.getId());
+        if (parentMessageId != null) {
+            Long parentChannelId = messageRepository.findChannelIdById(parentMessageId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Parent message not found"));
+            if (!parentChannelId.equals(channelId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Parent message is in another channel");
+            }
+        }
+
+        Message message = new Message(content,
+                userRepository.getReferenceById(sender.getId()),
+                channelRepository.getReferenceById(channelId));
+        if (parentMessageId != null) {
+            message.setParentMessage(messageRepository.getReferenceById(parentMessageId));
+        }
+        messageRepository.save(message);
+
+        indexMentions(message, channelId, sender);
+
+        ChatMessage payload = new ChatMessage(message, sender.getName());
+        recordMessageChange(payload, ChangeOperation.CREATE);
+        outboxService.append(channelId, "/topic/channels/" + channelId, "MESSAGE_CREATED", payload);
+        eventPublisher.publishEvent(new MessagePostedEvent(payload));
+        return payload;
+    }
+
+    @Transactional
+    public ChatMessage editMessage(UserPrincipal user, Long messageId, String content) {
+        Message message = findOwnMessage(user, messageId);
+        message.setContent(content);
+        message.setEdited(true);
+        messageRepository.saveAndFlush(message);
+
+        ChatMessage payload = new ChatMessage(message, user.getName());
+        recordMessageChange(payload, ChangeOperation.UPDATE);
+        appendUpdate(payload.getChannelId(), "MESSAGE_UPDATED", payload);
+        return payload;
+    }
+
+    /**
+     * Deletes the sender's message and its thread. Replies by other users go
+     * too, each logged and broadcast as a delete of its own.
+     */
+    @Transactional
+    public void deleteMessage(UserPrincipal user, Long messageId) {
+        Message message = findOwnMessage(user, messageId);
+        Long channelId = message.getChannel().getId();
+        // No foreign keys reference the partitioned messages table, so dependent rows are removed here
+        List<Long> replyIds = messageRepository.deleteReplies(messageId);
+        mentionRepository.deleteByMessageId(messageId);
+        messageRepository.delete(message);
+        messageRepository.flush();
+        if (message.isPinned() || !replyIds.isEmpty()) {
+            // A reply may have been pinned as well
+            metadataCache.evictAfterCommit(channelId);
+        }
+
+        for (Long replyId : replyIds) {
+            recordDeleted(channelId, replyId);
+        }
+        recordDeleted(channelId, messageId);
+    }
+
+    @Transactional
+    public ChatMessage setPinned(UserPrincipal user, Long messageId, boolean pinned) {
+        Message message = messageRepository.findById(messageId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Message not found"));
+        requireMember(message.getChannel().getId(), user.getId());
+        if (message.isPinned() != pinned) {
+            message.setPinned(pinned);
+            messageRepository.saveAndFlush(message);
+            metadataCache.evictAfterCommit(message.getChannel().getId());
+        }
+
+        ChatMessage payload = ChatMessage.from(message);
+        recordMessageChange(payload, pinned ? ChangeOperation.PIN : ChangeOperation.UNPIN);
+        appendUpdate(payload.getChannelId(), pinned ? "MESSAGE_PINNED" : "MESSAGE_UNPINNED", payload);
+        return payload;
+    }
+
+    @Transactional
+    public ReactionPayload addReaction(UserPrincipal user, Long messageId, String emoji) {
+        Long channelId = messageRepository.findChannelIdById(messageId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Message not found"));
+        requireMember(channelId, user.getId());
+
+        ReactionPayload payload = new ReactionPayload(messageId, channelId, user.getId(), emoji);
+        if (!reactionRepository.exists(messageId, user.getId(), emoji)) {
+            reactionRepository.save(new MessageReaction(emoji,
+                    messageRepository.getReferenceById(messageId),
+                    userRepository.getReferenceById(user.getId())));
+            changeLogService.record(ChangeScope.CHANNEL, channelId, ChangeEntityType.REACTION, messageId,
+                    "REACTION:" + messageId + ":" + user.getId() + ":" + emoji, ChangeOperation.CREATE, payload);
+            outboxService.append(channelId, "/topic/channels/" + channelId + "/reactions", "REACTION_ADDED", payload);
+            eventPublisher.publishEvent(new ReactionAddedEvent(payload));
+        }
+        return payload;
+    }
+
+    /**
+     * Newest-first channel history, paged by message id. Pages are read from the
+     * hot partitions first, then from months not yet archived, then from the
+     * archive, each step continuing from where the previous one stopped.
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessage> getHistory(Long userId, Long channelId, Long beforeId, int limit) {
+        requireMember(channelId, userId);
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        LocalDateTime cursorTime = LocalDateTime.now().plusDays(1);
+        long cursorId = Long.MAX_VALUE;
+        if (beforeId != null) {
+            cursorTime = messageRepository.findCreatedAtById(beforeId)
+                    .or(() -> archivedMessageRepository.findCreatedAtById(beforeId))
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Message not found"));
+            cursorId = beforeId;
+        }
+
+        LocalDateTime hotStart = partitionManager.getHotWindowStart();
+        List<ChatMessage> page = new ArrayList<>(size);
+        messageRepository.findChannelHistoryBefore(channelId, hotStart, cursorTime, cursorId, Pageable.ofSize(size))
+                .forEach(message -> page.add(ChatMessage.from(message)));
+        if (page.size() == size) {
+            return page;
+        }
+
+        // Everything from hotStart up to the cursor has been read; continue strictly below hotStart
+        if (!cursorTime.isBefore(hotStart)) {
+            cursorTime = hotStart;
+            cursorId = Long.MIN_VALUE;
+        }
+        if (!page.isEmpty() && page.get(page.size() - 1).getCreatedAt().isBefore(hotStart)) {
+            cursorTime = page.get(page.size() - 1).getCreatedAt();
+            cursorId = page.get(page.size() - 1).getId();
+        }
+        messageRepository.findChannelHistoryBefore(channelId, EPOCH, cursorTime, cursorId,
+                        Pageable.ofSize(size - page.size()))
+                .forEach(message -> page.add(ChatMessage.from(message)));
+        if (page.size() == size) {
+            return page;
+        }
+
+        if (!page.isEmpty() && page.get(page.size() - 1).getCreatedAt().isBefore(hotStart)) {
+            cursorTime = page.get(page.size() - 1).getCreatedAt();
+            cursorId = page.get(page.size() - 1).getId();
+        }
+        page.addAll(archivedMessageRepository.findChannelHistoryBefore(channelId, cursorTime, cursorId,
+                Pageable.ofSize(size - page.size())));
+        return page;
+    }
+
+    /**
+     * Version of the channel's pinned messages for conditional GETs; members only.
+     */
+    @Transactional(readOnly = true)
+    public String pinnedVersion(Long userId, Long channelId) {
+        requireMember(channelId, userId);
+        return messageRepository.findPinnedVersion(channelId).tag();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PinnedItem> getPinned(Long channelId) {
+        return messageRepository.findPinnedItems(List.of(channelId));
+    }
+
+    /**
+     * Substring search within a channel. Only the hot window is scanned unless
+     * the caller asks for the archive as well.
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessage> search(Long userId, Long channelId, String query, boolean includeArchive, int limit) {
+        requireMember(channelId, userId);
+        Pageable page = Pageable.ofSize(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+
+        LocalDateTime from = includeArchive ? EPOCH : partitionManager.getHotWindowStart();
+        List<ChatMessage> results = new ArrayList<>();
+        messageRepository.searchInChannelSince(channelId, from, query, page)
+                .forEach(message -> results.add(ChatMessage.from(message)));
+        if (!includeArchive || results.size() == page.getPageSize()) {
+            return results;
+        }
+
+        results.addAll(archivedMessageRepository.searchInChannel(channelId, query,
+                Pageable.ofSize(page.getPageSize() - results.size())));
+        return results;
+    }
+
+    @Transactional
+    public void markChannelRead(Long userId, Long channelId) {
+        if (channelRepository.markRead(channelId, userId, LocalDateTime.now()) == 0) {
+            throw new AccessDeniedException("Not a member of channel " + channelId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChatMessage> findMentions(Long userId, Long beforeId, int limit) {
+        Pageable page = Pageable.ofSize(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        List<Message> messages = beforeId == null
+                ? mentionRepository.findMentionedMessages(userId, page)
+                : mentionRepository.findMentionedMessagesBefore(userId, beforeId, page);
+        return messages.stream().map(ChatMessage::from).toList();
+    }
+
+    private Message findOwnMessage(UserPrincipal user, Long messageId) {
+        Message message = messageRepository.findById(messageId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Message not found"));
+        if (!message.getSender().getId().equals(user.getId())) {
+            throw new AccessDeniedException("Only the sender can change message " + messageId);
+        }
+        return message;
+    }
+
+    private void recordMessageChange(ChatMessage message, ChangeOperation operation) {
+        changeLogService.record(ChangeScope.CHANNEL, message.getChannelId(), ChangeEntityType.MESSAGE,
+                message.getId(), "MESSAGE:" + message.getId(), operation, message);
+    }
+
+    private void recordDeleted(Long channelId, Long messageId) {
+        Map<String, Object> deleted = Map.of("id", messageId, "channelId", channelId);
+        changeLogService.record(ChangeScope.CHANNEL, channelId, ChangeEntityType.MESSAGE, messageId,
+                "MESSAGE:" + messageId, ChangeOperation.DELETE, deleted);
+        appendUpdate(channelId, "MESSAGE_DELETED", deleted);
+    }
+
+    private void appendUpdate(Long channelId, String type, Object message) {
+        outboxService.append(channelId, "/topic/channels/" + channelId + "/updates", type,
+                Map.of("type", type, "message", message));
+    }
+
+    private void requireMember(Long channelId, Long userId) {
+        if (!channelRepository.isMember(channelId, userId)) {
+            throw new AccessDeniedException("Not a member of channel " + channelId);
+        }
+    }
+
+    private void indexMentions(Message message, Long channelId, UserPrincipal sender) {
+        Set<String> handles = MentionParser.extractHandles(message.getContent());
+        if (handles.isEmpty()) {
+            return;
+        }
+
+        boolean channelWide = false;
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (String handle : handles) {
+            if (MentionParser.CHANNEL.equalsIgnoreCase(handle) || MentionParser.HERE.equalsIgnoreCase(handle)) {
+                channelWide = true;
+                continue;
+            }
+            Long userId = userDirectory.resolve(handle);
+            if (userId != null && !userId.equals(sender.getId())) {
+                candidates.add(userId);
+            }
+        }
+
+        Set<Long> mentioned = new LinkedHashSet<>();
+        if (!candidates.isEmpty()) {
+            mentioned.addAll(channelRepository.findMemberIdsIn(channelId, candidates));
+            List<MessageMention> rows = new ArrayList<>(mentioned.size());
+            for (Long userId : mentioned) {
+                rows.add(new MessageMention(message.getId(), userId, channelId));
+            }
+            mentionRepository.saveAll(rows);
+        }
+
+        if (channelWide || !mentioned.isEmpty()) {
+            eventPublisher.publishEvent(new MentionEvent(message.getId(), channelId, sender.getId(),
+                    sender.getName(), message.getContent(), mentioned, channelWide));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.devsync.service;
+
+import com.devsync.model.Notification;
+import com.devsync.repository.NotificationRepository;
+import com.devsync.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notification inbox. Unread counts are served from a per-user counter that is
+ * seeded once from the database and then adjusted after each committed change.
+ */
+@Service
+public class NotificationService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${notifications.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${notifications.retention-chunk-size:1000}")
+    private int retentionChunkSize;
+
+    private final ConcurrentHashMap<Long, Long> unreadCounts = new ConcurrentHashMap<>();
+
+    @Transactional
+    public Notification create(Long userId, String type, String title, String message, Map<String, Object> data) {
+        Notification notification = notificationRepository.save(
+                new Notification(userRepository.getReferenceById(userId), type, title, message, data));
+        afterCommit(() -> unreadCounts.computeIfPresent(userId, (id, count) -> count + 1));
+        return notification;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Notification> list(Long userId, Long beforeId, int limit) {
+        Pageable page = Pageable.ofSize(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        if (beforeId == null) {
+            return notificationRepository.findLatest(userId, page);
+        }
+        return notificationRepository.findOlderThan(userId, beforeId, page);
+    }
+
+    public long getUnreadCount(Long userId) {
+        Long cached = unreadCounts.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // Counted outside the map: computeIfAbsent would hold the bin lock for a query
+        long count = notificationRepository.countUnread(userId);
+        Long raced = unreadCounts.putIfAbsent(userId, count);
+        return raced != null ? raced : count;
+    }
+
+    @Transactional
+    public boolean markRead(Long userId, Long notificationId) {
+        boolean updated = notificationRepository.markRead(notificationId, userId) > 0;
+        if (updated) {
+            afterCommit(() -> unreadCounts.computeIfPresent(userId, (id, count) -> Math.max(0, count - 1)));
+        }
+        return updated;
+    }
+
+    @Transactional
+    public int markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId);
+        afterCommit(() -> unreadCounts.put(userId, 0L));
+        return updated;
+    }
+
+    /**
+     * Counters can drift if another instance writes to the same inbox, so they
+     * are dropped periodically and re-seeded on the next read.
+     */
+    @Scheduled(fixedDelayString = "${notifications.counter-refresh-ms:600000}")
+    public void refreshUnreadCounts() {
+        unreadCounts.clear();
+    }
+
+    @Scheduled(cron = "${notifications.retention-cron:0 30 3 * * *}")
+    public void purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = notificationRepository.deleteReadBefore(cutoff, retentionChunkSize);
+            total += deleted;
+        } while (deleted == retentionChunkSize);
+
+        if (total > 0) {
+            logger.info("Purged {} read notifications older than {}", total, cutoff);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
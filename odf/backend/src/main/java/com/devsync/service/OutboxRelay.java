@@ -0,0 +1,220 @@
+package com.devsync.service;
+
+import com.devsync.model.OutboxEvent;
+import com.devsync.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the message outbox to this instance's STOMP broker. The simple
+ * broker only reaches sessions connected here, so every instance relays every
+ * row, each from its own in-memory cursor; rows are never claimed or deleted
+ * on publish and are dropped after {@code outbox.retention-minutes} instead.
+ * Commits wake the relay immediately; the poll interval bounds the delay for
+ * rows written by other instances.
+ * <p>
+ * Ids are taken at insert but become visible at commit, so across channels a
+ * higher id can show up first. Ids skipped over by the cursor are remembered
+ * for {@code outbox.gap-timeout-ms} and picked up if they commit late; a gap
+ * that never fills was a rolled-back transaction. Within a channel the
+ * sequence lock orders commits, so a late row commits before any newer row of
+ * its channel; reading the pending gaps in the same statement as the rows
+ * after the cursor, in id order, therefore keeps each channel in sequence.
+ * Clients drop repeats by the {@value OutboxService#CHANNEL_SEQ_HEADER} header.
+ */
+@Component
+public class OutboxRelay {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${outbox.gap-timeout-ms:60000}")
+    private long gapTimeoutMs;
+
+    @Value("${outbox.max-tracked-gaps:10000}")
+    private int maxTrackedGaps;
+
+    @Value("${outbox.retention-minutes:10}")
+    private int retentionMinutes;
+
+    private final Semaphore signal = new Semaphore(0);
+    // Ids below the cursor that were not visible when it passed them, with their deadline
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+    private volatile long cursor;
+    private volatile boolean running;
+    private Thread thread;
+    private Counter publishedCounter;
+    private Timer batchTimer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        publishedCounter = Counter.builder("outbox.published").register(meterRegistry);
+        batchTimer = Timer.builder("outbox.batch").register(meterRegistry);
+        Gauge.builder("outbox.oldest.age.seconds", this, OutboxRelay::oldestPendingAgeSeconds)
+                .register(meterRegistry);
+
+        // Sessions on this instance connect after startup and resync through the change log
+        cursor = outboxRepository.findMaxId();
+        running = true;
+        thread = new CustomizableThreadFactory("outbox-relay-").newThread(this::run);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public void wakeUp() {
+        signal.release();
+    }
+
+    /**
+     * Drops rows every instance has had time to relay. Each instance runs it;
+     * the deletes are idempotent.
+     */
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:60000}")
+    public void deleteRelayed() {
+        int deleted = outboxRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            logger.debug("Deleted {} relayed outbox events", deleted);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (running && relayed == batchSize);
+
+                signal.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                // Commits that landed while this round ran are covered by the next one
+                signal.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.warn("Outbox relay round failed: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * Publishes the next batch: late rows behind the cursor and rows after it,
+     * in id order. The cursor advances past what was sent; gaps older than the
+     * timeout are forgotten. A failed send stops the batch so later events of
+     * its channel are not sent ahead of it; the next round retries from there.
+     */
+    private int relayBatch() {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        gaps.values().removeIf(deadline -> deadline < now);
+        Pageable page = Pageable.ofSize(batchSize);
+        List<OutboxEvent> batch = gaps.isEmpty()
+                ? outboxRepository.findAfter(cursor, page)
+                : outboxRepository.findAfterOrIn(cursor, new ArrayList<>(gaps.keySet()), page);
+        long deadline = now + gapTimeoutMs;
+        int count = 0;
+        for (OutboxEvent event : batch) {
+            if (!tryPublish(event)) {
+                break;
+            }
+            if (event.getId() < cursor) {
+                gaps.remove(event.getId());
+            } else {
+                for (long missing = cursor + 1; missing < event.getId() && gaps.size() < maxTrackedGaps; missing++) {
+                    gaps.put(missing, deadline);
+                }
+                cursor = event.getId();
+            }
+            count++;
+        }
+
+        if (count > 0) {
+            publishedCounter.increment(count);
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return count;
+    }
+
+    private boolean tryPublish(OutboxEvent event) {
+        try {
+            publish(event);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Publishing outbox event {} failed, retrying later: {}", event.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void publish(OutboxEvent event) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (event.getChannelSeq() != null) {
+            headers.setNativeHeader(OutboxService.CHANNEL_SEQ_HEADER, Long.toString(event.getChannelSeq()));
+        }
+        headers.setLeaveMutable(true);
+        messagingTemplate.send(event.getDestination(), MessageBuilder.createMessage(
+                event.getPayload().getBytes(StandardCharsets.UTF_8), headers.getMessageHeaders()));
+    }
+
+    private double oldestPendingAgeSeconds() {
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAtAfter(cursor);
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
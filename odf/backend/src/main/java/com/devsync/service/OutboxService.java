@@ -0,0 +1,73 @@
+package com.devsync.service;
+
+import com.devsync.model.OutboxEvent;
+import com.devsync.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes STOMP broadcasts to the outbox in the caller's transaction, so an
+ * event exists exactly when the change it describes has committed.
+ * {@link OutboxRelay} publishes the rows afterwards.
+ */
+@Service
+public class OutboxService {
+    public static final String CHANNEL_SEQ_HEADER = "channel-seq";
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Lazy
+    @Autowired
+    private OutboxRelay relay;
+
+    /**
+     * Appends an event for the channel. Taking the next channel sequence locks
+     * the channel's counter row until commit, so call this as the last write of
+     * the transaction to keep that lock short.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Long channelId, String destination, String eventType, Object payload) {
+        String json = serialize(eventType, payload);
+        long seq = outboxRepository.nextChannelSeq(channelId);
+        outboxRepository.save(new OutboxEvent(channelId, seq, destination, eventType, json));
+        wakeUpAfterCommit();
+    }
+
+    /**
+     * Appends an event that belongs to no channel and so has no channel
+     * sequence; its payload must let clients order and dedup it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String destination, String eventType, Object payload) {
+        outboxRepository.save(new OutboxEvent(null, null, destination, eventType, serialize(eventType, payload)));
+        wakeUpAfterCommit();
+    }
+
+    private String serialize(String eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable " + eventType + " payload", e);
+        }
+    }
+
+    private void wakeUpAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,231 @@
+package com.devsync.service;
+
+import com.devsync.dto.PushNotification;
+import com.devsync.dto.PushTarget;
+import com.devsync.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans notifications out to offline users, coalesces bursts per user into a
+ * digest and hands multicast batches to a bounded worker pool.
+ */
+@Service
+public class PushNotificationService {
+    private static final Logger logger = LoggerFactory.getLogger(PushNotificationService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PushSender pushSender;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${push.batch-size:500}")
+    private int batchSize;
+
+    @Value("${push.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${push.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${push.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${push.initial-backoff-ms:500}")
+    private long initialBackoffMs;
+
+    private final ConcurrentHashMap<Long, PendingDigest> pending = new ConcurrentHashMap<>();
+    private final AtomicLong droppedBatches = new AtomicLong();
+
+    private ThreadPoolExecutor worker;
+    private ScheduledExecutorService retryScheduler;
+    private Timer deliveryTimer;
+
+    @PostConstruct
+    public void start() {
+        worker = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("push-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("push-retry-"));
+
+        deliveryTimer = Timer.builder("push.delivery").register(meterRegistry);
+        Gauge.builder("push.pending.users", pending, Map::size).register(meterRegistry);
+        Gauge.builder("push.queue.depth", worker, executor -> executor.getQueue().size()).register(meterRegistry);
+        FunctionCounter.builder("push.dropped.batches", droppedBatches, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flush();
+        retryScheduler.shutdownNow();
+        worker.shutdown();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queues a notification for every offline member of the channel except the sender.
+     * The dedup key (usually the message id) keeps a user from being notified twice
+     * for the same event within one digest window.
+     */
+    public void notifyChannelMembers(Long channelId, Long senderId, String dedupKey, PushNotification notification) {
+        enqueueAll(userRepository.findOfflinePushTargetsInChannel(channelId, senderId), dedupKey, notification);
+    }
+
+    public void notifyUsers(Collection<Long> userIds, String dedupKey, PushNotification notification) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        enqueueAll(userRepository.findOfflinePushTargets(userIds), dedupKey, notification);
+    }
+
+    private void enqueueAll(List<PushTarget> targets, String dedupKey, PushNotification notification) {
+        for (PushTarget target : targets) {
+            pending.compute(target.getUserId(), (userId, digest) -> {
+                if (digest == null) {
+                    digest = new PendingDigest(target.getFcmToken());
+                }
+                digest.add(dedupKey, notification);
+                return digest;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${push.digest-window-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<PushNotification, List<String>> tokensByPayload = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            PendingDigest digest = pending.remove(userId);
+            if (digest != null) {
+                tokensByPayload.computeIfAbsent(digest.toNotification(), n -> new ArrayList<>()).add(digest.token);
+            }
+        }
+
+        tokensByPayload.forEach((notification, tokens) -> {
+            for (int from = 0; from < tokens.size(); from += batchSize) {
+                List<String> slice = tokens.subList(from, Math.min(from + batchSize, tokens.size()));
+                submit(new PushBatch(notification, new ArrayList<>(slice), 1));
+            }
+        });
+    }
+
+    public long getDroppedBatches() {
+        return droppedBatches.get();
+    }
+
+    public int getPendingUsers() {
+        return pending.size();
+    }
+
+    private void submit(PushBatch batch) {
+        try {
+            worker.execute(() -> deliver(batch));
+        } catch (RejectedExecutionException e) {
+            droppedBatches.incrementAndGet();
+            logger.warn("Push queue full, dropping batch of {} tokens", batch.tokens.size());
+        }
+    }
+
+    private void deliver(PushBatch batch) {
+        List<String> retryable;
+        long start = System.nanoTime();
+        try {
+            retryable = pushSender.sendMulticast(batch.notification, batch.tokens);
+        } catch (Exception e) {
+            logger.warn("Push batch attempt {} failed: {}", batch.attempt, e.getMessage());
+            retryable = batch.tokens;
+        } finally {
+            deliveryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!retryable.isEmpty()) {
+            scheduleRetry(new PushBatch(batch.notification, retryable, batch.attempt + 1));
+        }
+    }
+
+    private void scheduleRetry(PushBatch batch) {
+        if (batch.attempt > maxAttempts) {
+            droppedBatches.incrementAndGet();
+            logger.warn("Giving up on {} push tokens after {} attempts", batch.tokens.size(), maxAttempts);
+            return;
+        }
+
+        long backoff = initialBackoffMs << (batch.attempt - 2);
+        long delay = backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        try {
+            retryScheduler.schedule(() -> submit(batch), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            droppedBatches.incrementAndGet();
+        }
+    }
+
+    private static class PendingDigest {
+        private final String token;
+        private final Set<String> dedupKeys = new LinkedHashSet<>();
+        private PushNotification latest;
+
+        PendingDigest(String token) {
+            this.token = token;
+        }
+
+        void add(String dedupKey, PushNotification notification) {
+            if (dedupKeys.add(dedupKey)) {
+                latest = notification;
+            }
+        }
+
+        PushNotification toNotification() {
+            if (dedupKeys.size() == 1) {
+                return latest;
+            }
+            return new PushNotification(dedupKeys.size() + " new notifications", latest.getBody(), latest.getData());
+        }
+    }
+
+    private static class PushBatch {
+        private final PushNotification notification;
+        private final List<String> tokens;
+        private final int attempt;
+
+        PushBatch(PushNotification notification, List<String> tokens, int attempt) {
+            this.notification = notification;
+            this.tokens = tokens;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.devsync.service;
+
+import com.devsync.dto.PushNotification;
+
+import java.util.List;
+
+public interface PushSender {
+    /**
+     * Sends one notification to a batch of device tokens.
+     *
+     * @return the tokens that failed with a transient error and may be retried
+     */
+    List<String> sendMulticast(PushNotification notification, List<String> tokens) throws Exception;
+}
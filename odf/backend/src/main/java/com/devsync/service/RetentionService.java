@@ -0,0 +1,350 @@
+package com.devsync.service;
+
+import com.devsync.dto.ChannelAccess;
+import com.devsync.dto.ChannelRetention;
+import com.devsync.model.ChangeEntityType;
+import com.devsync.model.ChangeOperation;
+import com.devsync.model.ChangeScope;
+import com.devsync.repository.ArchivedMessageRepository;
+import com.devsync.repository.AttachmentRepository;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.MessageRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Deletes messages past their channel's retention, from both the partitioned
+ * table and {@code messages_archive}, along with their reactions, mentions and
+ * attachment rows. Deletes run in short transactions of
+ * {@code retention.chunk-size} rows with a pause in between, so no run holds
+ * locks for long or writes WAL in bursts; a run stops after
+ * {@code retention.max-chunks-per-run} and the next one carries on. Each chunk
+ * logs one change in the channel's scope and sends a {@code MESSAGES_EXPIRED}
+ * event with the deleted ids, so clients drop them from their caches.
+ *
+ * <p>With {@code retention.orphan-sweep} on, the same pass removes files
+ * under {@code file.upload-dir} that no attachment row refers to any more;
+ * see {@link UploadFiles} for how file_url values are matched.
+ */
+@Service
+public class RetentionService {
+    private static final Logger logger = LoggerFactory.getLogger(RetentionService.class);
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ArchivedMessageRepository archivedMessageRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private ChannelMetadataCache metadataCache;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${retention.default-days:0}")
+    private int defaultDays;
+
+    @Value("${retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${retention.pause-ms:100}")
+    private long pauseMs;
+
+    @Value("${retention.max-chunks-per-run:5000}")
+    private int maxChunksPerRun;
+
+    @Value("${retention.orphan-grace-hours:24}")
+    private int orphanGraceHours;
+
+    @Value("${retention.orphan-sweep:false}")
+    private boolean orphanSweep;
+
+    @Value("${file.upload-dir:}")
+    private String uploadDir;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger channelsRemaining = new AtomicInteger();
+
+    private Counter hotDeleted;
+    private Counter archiveDeleted;
+    private Counter filesScanned;
+    private Counter filesDeleted;
+    private Timer runTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        hotDeleted = Counter.builder("retention.messages.deleted").tag("tier", "hot").register(meterRegistry);
+        archiveDeleted = Counter.builder("retention.messages.deleted").tag("tier", "archive").register(meterRegistry);
+        filesScanned = Counter.builder("retention.files.scanned").register(meterRegistry);
+        filesDeleted = Counter.builder("retention.files.deleted").register(meterRegistry);
+        runTimer = Timer.builder("retention.run").register(meterRegistry);
+        Gauge.builder("retention.channels.remaining", channelsRemaining, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Sets or clears a channel's retention; channel creator or workspace owner.
+     */
+    @Transactional
+    public void setChannelRetention(UserPrincipal user, Long channelId, Integer days) {
+        ChannelAccess access = channelRepository.findAccessById(channelId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Channel not found"));
+        if (!access.isManagedBy(user.getId())) {
+            throw new AccessDeniedException("Not allowed to change retention of channel " + channelId);
+        }
+        channelRepository.updateRetention(channelId, days);
+    }
+
+    /**
+     * Sets or clears the default retention of a workspace's channels; owner only.
+     */
+    @Transactional
+    public void setWorkspaceRetention(UserPrincipal user, Long workspaceId, Integer days) {
+        Long ownerId = workspaceRepository.findOwnerIdById(workspaceId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
+        if (!ownerId.equals(user.getId())) {
+            throw new AccessDeniedException("Only the workspace owner can change its retention");
+        }
+        workspaceRepository.updateRetention(workspaceId, days);
+    }
+
+    @Scheduled(cron = "${retention.cron:0 45 3 * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            runTimer.record(() -> {
+                purgeExpiredMessages();
+                deleteOrphanFiles();
+            });
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void purgeExpiredMessages() {
+        List<ChannelRetention> policies = channelRepository.findRetentionPolicies(defaultDays);
+        channelsRemaining.set(policies.size());
+        Budget budget = new Budget(maxChunksPerRun);
+        long hot = 0;
+        long archived = 0;
+        for (ChannelRetention policy : policies) {
+            if (budget.exhausted()) {
+                logger.info("Retention stopped after {} chunks; {} channels left for the next run",
+                        maxChunksPerRun, channelsRemaining.get());
+                break;
+            }
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(policy.days());
+            int deleted = purge(policy.channelId(), cutoff, messageRepository::deleteExpired, hotDeleted, budget);
+            int deletedArchived = purge(policy.channelId(), cutoff, archivedMessageRepository::deleteExpired,
+                    archiveDeleted, budget);
+            if (deleted > 0) {
+                // Pinned messages may be among them
+                metadataCache.evictAfterCommit(policy.channelId());
+            }
+            hot += deleted;
+            archived += deletedArchived;
+            channelsRemaining.decrementAndGet();
+        }
+        channelsRemaining.set(0);
+        if (hot > 0 || archived > 0) {
+            logger.info("Retention deleted {} messages and {} archived messages", hot, archived);
+        }
+    }
+
+    private int purge(Long channelId, LocalDateTime cutoff, ChunkDelete delete, Counter counter, Budget budget) {
+        int total = 0;
+        int deleted;
+        do {
+            if (!budget.take()) {
+                break;
+            }
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> chunk = delete.apply(channelId, cutoff, chunkSize);
+                if (!chunk.isEmpty()) {
+                    recordExpired(channelId, chunk);
+                }
+                return chunk;
+            });
+            deleted = ids == null ? 0 : ids.size();
+            counter.increment(deleted);
+            total += deleted;
+            if (deleted == chunkSize) {
+                pause(budget);
+            }
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    // One entry per chunk rather than per message; the key is unique so compaction keeps each
+    private void recordExpired(Long channelId, List<Long> messageIds) {
+        changeLogService.record(ChangeScope.CHANNEL, channelId, ChangeEntityType.MESSAGE, channelId,
+                "MESSAGES_EXPIRED:" + channelId + ":" + UUID.randomUUID(), ChangeOperation.DELETE,
+                Map.of("channelId", channelId, "messageIds", messageIds));
+        outboxService.append(channelId, "/topic/channels/" + channelId + "/updates", "MESSAGES_EXPIRED",
+                Map.of("type", "MESSAGES_EXPIRED", "channelId", channelId, "messageIds", messageIds));
+    }
+
+    /**
+     * Removes files under the upload directory that are older than the grace
+     * period and referenced by no attachment.
+     */
+    private void deleteOrphanFiles() {
+        if (!orphanSweep || uploadDir.isBlank()) {
+            return;
+        }
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            logger.warn("Orphan file sweep skipped: {} is not a directory", root);
+            return;
+        }
+        long graceCutoff = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(orphanGraceHours);
+        Budget budget = new Budget(maxChunksPerRun);
+        List<Path> batch = new ArrayList<>();
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> candidates = files.filter(Files::isRegularFile).iterator();
+            while (candidates.hasNext() && !budget.exhausted()) {
+                Path file = candidates.next();
+                filesScanned.increment();
+                if (Files.getLastModifiedTime(file).toMillis() < graceCutoff) {
+                    batch.add(file);
+                }
+                if (batch.size() == chunkSize) {
+                    deleted += deleteUnreferenced(root, batch);
+                    batch.clear();
+                    budget.take();
+                    pause(budget);
+                }
+            }
+            deleted += deleteUnreferenced(root, batch);
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Orphan file sweep of {} failed: {}", root, e.getMessage());
+        }
+        if (deleted > 0) {
+            logger.info("Deleted {} orphaned upload files", deleted);
+        }
+    }
+
+    private int deleteUnreferenced(Path root, List<Path> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<Path, String> relativePaths = new LinkedHashMap<>();
+        Set<String> names = new HashSet<>();
+        for (Path file : batch) {
+            String relativePath = UploadFiles.relativePath(root, file);
+            relativePaths.put(file, relativePath);
+            names.add(file.getFileName().toString());
+        }
+        Map<String, List<String>> urlsByName = new HashMap<>();
+        for (String url : attachmentRepository.findUrlsByFileNames(names)) {
+            urlsByName.computeIfAbsent(UploadFiles.fileName(url), name -> new ArrayList<>()).add(url);
+        }
+
+        int deleted = 0;
+        for (Map.Entry<Path, String> entry : relativePaths.entrySet()) {
+            String relativePath = entry.getValue();
+            boolean referenced = urlsByName.getOrDefault(entry.getKey().getFileName().toString(), List.of()).stream()
+                    .anyMatch(url -> UploadFiles.refersTo(url, relativePath));
+            if (!referenced && Files.deleteIfExists(entry.getKey())) {
+                filesDeleted.increment();
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private void pause(Budget budget) {
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            budget.exhaust();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkDelete {
+        List<Long> apply(Long channelId, LocalDateTime cutoff, int limit);
+    }
+
+    private static class Budget {
+        private int chunksLeft;
+
+        Budget(int chunks) {
+            this.chunksLeft = chunks;
+        }
+
+        boolean take() {
+            if (chunksLeft <= 0) {
+                return false;
+            }
+            chunksLeft--;
+            return true;
+        }
+
+        boolean exhausted() {
+            return chunksLeft <= 0;
+        }
+
+        void exhaust() {
+            chunksLeft = 0;
+        }
+    }
+}
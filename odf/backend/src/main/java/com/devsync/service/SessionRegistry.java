@@ -0,0 +1,165 @@
+package com.devsync.service;
+
+import com.devsync.model.UserSession;
+import com.devsync.repository.UserRepository;
+import com.devsync.repository.UserSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks issued login sessions. Each JWT carries its session id as the jti
+ * claim; the id is checked against in-memory maps of active and revoked
+ * sessions, so per-request checks never hit the database. Ids issued by
+ * another instance are looked up once and then cached.
+ *
+ * <p>Revocations are stored in the table ({@code revoked_at}) and every
+ * instance polls for recent ones, so a session revoked elsewhere stops
+ * working here within the sync interval, including open STOMP sessions.
+ */
+@Service
+public class SessionRegistry {
+    public static final String SESSION_ATTRIBUTE = "devsync.sessionId";
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionRegistry.class);
+
+    @Autowired
+    private UserSessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.expiration}")
+    private int jwtExpirationMs;
+
+    @Value("${sessions.sweep-batch-size:1000}")
+    private int sweepBatchSize;
+
+    // Polls overlap by this much so revocations committed late are not missed
+    @Value("${sessions.revocation-sync-window-ms:60000}")
+    private long revocationSyncWindowMs;
+
+    private final ConcurrentHashMap<String, Long> activeExpiries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> revokedExpiries = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (UserSession session : sessionRepository.findUnexpired(LocalDateTime.now())) {
+            activeExpiries.put(session.getSessionToken(), toMillis(session.getExpiresAt()));
+        }
+        syncRevocations(LocalDateTime.now().minus(Duration.ofMillis(jwtExpirationMs)));
+        logger.info("Loaded {} active and {} revoked sessions", activeExpiries.size(), revokedExpiries.size());
+    }
+
+    @Transactional
+    public String createSession(Long userId, String deviceInfo, String ipAddress) {
+        String sessionId = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + jwtExpirationMs;
+        sessionRepository.save(new UserSession(userRepository.getReferenceById(userId), sessionId,
+                truncate(deviceInfo, 500), ipAddress,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault())));
+        activeExpiries.put(sessionId, expiresAt);
+        return sessionId;
+    }
+
+    public boolean isActive(String sessionId) {
+        if (revokedExpiries.containsKey(sessionId)) {
+            return false;
+        }
+        Long expiresAt = activeExpiries.get(sessionId);
+        if (expiresAt != null) {
+            return expiresAt > System.currentTimeMillis();
+        }
+
+        Optional<UserSession> session = sessionRepository.findBySessionToken(sessionId);
+        if (session.isPresent() && session.get().getRevokedAt() == null) {
+            long expiry = toMillis(session.get().getExpiresAt());
+            activeExpiries.put(sessionId, expiry);
+            return expiry > System.currentTimeMillis();
+        }
+        revokedExpiries.put(sessionId, System.currentTimeMillis() + jwtExpirationMs);
+        return false;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserSession> listSessions(Long userId) {
+        return sessionRepository.findActiveByUser(userId, LocalDateTime.now());
+    }
+
+    @Transactional
+    public boolean revoke(Long userId, Long sessionRowId) {
+        List<String> revoked = sessionRepository.revoke(sessionRowId, userId);
+        revoked.forEach(this::markRevoked);
+        return !revoked.isEmpty();
+    }
+
+    @Transactional
+    public void revokeBySessionId(String sessionId) {
+        sessionRepository.revokeBySessionToken(sessionId);
+        markRevoked(sessionId);
+    }
+
+    @Transactional
+    public int revokeAll(Long userId) {
+        List<String> sessionIds = sessionRepository.revokeByUser(userId);
+        sessionIds.forEach(this::markRevoked);
+        return sessionIds.size();
+    }
+
+    /**
+     * Picks up sessions revoked by other instances. A cached active id would
+     * otherwise keep passing {@link #isActive} here until it expires.
+     */
+    @Scheduled(fixedDelayString = "${sessions.revocation-sync-interval-ms:5000}")
+    public void syncRecentRevocations() {
+        syncRevocations(LocalDateTime.now().minus(Duration.ofMillis(revocationSyncWindowMs)));
+    }
+
+    @Scheduled(fixedDelayString = "${sessions.sweep-interval-ms:300000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        activeExpiries.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedExpiries.values().removeIf(expiresAt -> expiresAt <= now);
+
+        LocalDateTime cutoff = LocalDateTime.now();
+        int deleted;
+        do {
+            deleted = sessionRepository.deleteExpired(cutoff, sweepBatchSize);
+        } while (deleted == sweepBatchSize);
+    }
+
+    private void syncRevocations(LocalDateTime since) {
+        for (UserSession session : sessionRepository.findRevokedSince(since, LocalDateTime.now())) {
+            activeExpiries.remove(session.getSessionToken());
+            revokedExpiries.put(session.getSessionToken(), toMillis(session.getExpiresAt()));
+        }
+    }
+
+    private void markRevoked(String sessionId) {
+        Long expiresAt = activeExpiries.remove(sessionId);
+        revokedExpiries.put(sessionId, expiresAt != null ? expiresAt : System.currentTimeMillis() + jwtExpirationMs);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String truncate(String value, int max) {
+        return value != null && value.length() > max ? value.substring(0, max) : value;
+    }
+}
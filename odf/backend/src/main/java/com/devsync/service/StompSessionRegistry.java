@@ -0,0 +1,136 @@
+package com.devsync.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Authenticated STOMP sessions: whose they are, when their token expires
+ * and which channel topics they subscribe to. Frames are never re-validated.
+ * Instead a periodic sweep closes sessions whose token has expired or been
+ * revoked, and sessions still subscribed to a channel their user has left.
+ */
+@Service
+public class StompSessionRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(StompSessionRegistry.class);
+
+    @Autowired
+    private SessionRegistry sessionRegistry;
+
+    @Autowired
+    private ChannelMembershipCache membershipCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Lazy
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private MessageChannel clientOutboundChannel;
+
+    private final ConcurrentHashMap<String, StompSession> sessions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void initMetrics() {
+        Gauge.builder("websocket.sessions.authenticated", sessions, Map::size).register(meterRegistry);
+    }
+
+    public void register(String sessionId, Long userId, String tokenId, long expiresAtMillis) {
+        sessions.put(sessionId, new StompSession(userId, tokenId, expiresAtMillis));
+    }
+
+    public void addChannelSubscription(String sessionId, String subscriptionId, Long channelId) {
+        StompSession session = sessions.get(sessionId);
+        if (session != null && subscriptionId != null) {
+            session.channelSubscriptions.put(subscriptionId, channelId);
+        }
+    }
+
+    public void removeSubscription(String sessionId, String subscriptionId) {
+        StompSession session = sessions.get(sessionId);
+        if (session != null && subscriptionId != null) {
+            session.channelSubscriptions.remove(subscriptionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.session-sweep-interval-ms:30000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        Set<Long> changedUsers = membershipCache.drainChangedUsers();
+
+        for (Map.Entry<String, StompSession> entry : sessions.entrySet()) {
+            StompSession session = entry.getValue();
+            String reason = null;
+            if (session.expiresAt <= now) {
+                reason = "Token expired";
+            } else if (session.tokenId != null && !sessionRegistry.isActive(session.tokenId)) {
+                reason = "Session revoked";
+            } else if (changedUsers.contains(session.userId) && session.lostChannelAccess(membershipCache)) {
+                reason = "Channel membership changed";
+            }
+            if (reason != null && sessions.remove(entry.getKey(), session)) {
+                close(entry.getKey(), reason);
+            }
+        }
+    }
+
+    /**
+     * Sends an ERROR frame, after which the STOMP handler closes the connection.
+     */
+    private void close(String sessionId, String reason) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage(reason);
+        accessor.setSessionId(sessionId);
+        try {
+            clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            logger.warn("Could not close STOMP session {}: {}", sessionId, e.getMessage());
+        }
+        Counter.builder("websocket.sessions.closed").tag("reason", reason).register(meterRegistry).increment();
+    }
+
+    private static class StompSession {
+        private final Long userId;
+        private final String tokenId;
+        private final long expiresAt;
+        private final Map<String, Long> channelSubscriptions = new ConcurrentHashMap<>();
+
+        StompSession(Long userId, String tokenId, long expiresAt) {
+            this.userId = userId;
+            this.tokenId = tokenId;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean lostChannelAccess(ChannelMembershipCache membershipCache) {
+            for (Long channelId : channelSubscriptions.values()) {
+                if (!membershipCache.isMember(userId, channelId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
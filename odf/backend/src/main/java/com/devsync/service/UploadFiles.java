@@ -0,0 +1,134 @@
+package com.devsync.service;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Matches {@code attachments.file_url} values against files under
+ * {@code file.upload-dir}. Nothing in the backend writes file_url, so no one
+ * format is assumed: a value refers to a file when its path is the file's
+ * path relative to the upload directory or ends in "/" followed by it, which
+ * covers absolute paths as well as URLs with any host and prefix. Query
+ * strings and fragments are ignored and percent-escapes decoded first.
+ */
+final class UploadFiles {
+    private UploadFiles() {
+    }
+
+    /**
+     * Last path segment of a file_url without query or fragment, decoded; for
+     * a file it refers to this is the file's name. Must match
+     * {@code attachment_file_name()} from V13, which the attachments index is
+     * built on.
+     */
+    static String fileName(String fileUrl) {
+        String raw = withoutQuery(fileUrl);
+        return decode(raw.substring(raw.lastIndexOf('/') + 1));
+    }
+
+    static String relativePath(Path root, Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    static boolean refersTo(String fileUrl, String relativePath) {
+        String path = pathOf(fileUrl);
+        return path.equals(relativePath) || path.endsWith("/" + relativePath);
+    }
+
+    /**
+     * The file under the root a file_url refers to: the longest trailing part
+     * of its path that exists there, or null.
+     */
+    static Path resolve(Path root, String fileUrl) {
+        if (fileUrl == null) {
+            return null;
+        }
+        String rest = pathOf(fileUrl);
+        while (!rest.isEmpty()) {
+            if (rest.charAt(0) == '/') {
+                rest = rest.substring(1);
+                continue;
+            }
+            try {
+                Path candidate = root.resolve(rest).normalize();
+                if (candidate.startsWith(root) && Files.isRegularFile(candidate)) {
+                    return candidate;
+                }
+            } catch (InvalidPathException e) {
+                return null;
+            }
+            int slash = rest.indexOf('/');
+            rest = slash < 0 ? "" : rest.substring(slash);
+        }
+        return null;
+    }
+
+    private static String pathOf(String fileUrl) {
+        try {
+            URI uri = new URI(fileUrl);
+            if (uri.getScheme() != null && uri.getPath() != null) {
+                return uri.getPath();
+            }
+        } catch (URISyntaxException e) {
+            // A plain path with characters a URI does not allow
+        }
+        return decode(withoutQuery(fileUrl));
+    }
+
+    private static String withoutQuery(String value) {
+        int end = value.length();
+        int query = value.indexOf('?');
+        int fragment = value.indexOf('#');
+        if (query >= 0) {
+            end = query;
+        }
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        return value.substring(0, end);
+    }
+
+    /**
+     * Decodes %XX escapes as UTF-8 and leaves anything else as it is; a
+     * value that does not decode to valid UTF-8 is returned unchanged.
+     */
+    static String decode(String value) {
+        if (value.indexOf('%') < 0) {
+            return value;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length());
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c == '%' && i + 2 < value.length() && isHex(value.charAt(i + 1)) && isHex(value.charAt(i + 2))) {
+                bytes.write(Integer.parseInt(value, i + 1, i + 3, 16));
+                i += 3;
+            } else {
+                int end = Character.isHighSurrogate(c) && i + 1 < value.length() ? i + 2 : i + 1;
+                bytes.writeBytes(value.substring(i, end).getBytes(StandardCharsets.UTF_8));
+                i = end;
+            }
+        }
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes.toByteArray()))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return value;
+        }
+    }
+
+    private static boolean isHex(char c) {
+        return Character.digit(c, 16) >= 0 && c < 128;
+    }
+}
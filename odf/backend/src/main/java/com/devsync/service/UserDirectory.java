@@ -0,0 +1,90 @@
+package com.devsync.service;
+
+import com.devsync.dto.UserSummary;
+import com.devsync.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of mention handles to user ids. A user is reachable by the
+ * local part of their email and by their name with whitespace removed,
+ * both case-insensitive. A handle claimed by two users resolves to nobody
+ * rather than to whichever registered first. Users who sign up on another
+ * instance arrive through {@link CacheInvalidations} and are read back from
+ * the users table.
+ */
+@Service
+public class UserDirectory {
+    private static final Logger logger = LoggerFactory.getLogger(UserDirectory.class);
+
+    static final String CACHE = "user-directory";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheInvalidations invalidations;
+
+    private final ConcurrentHashMap<String, Long> idsByHandle = new ConcurrentHashMap<>();
+    private final Set<String> ambiguousHandles = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        invalidations.register(CACHE, userIds -> userRepository.findSummariesByIds(userIds)
+                .forEach(user -> index(user.getId(), user.getName(), user.getEmail())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (UserSummary user : userRepository.findAllSummaries()) {
+            index(user.getId(), user.getName(), user.getEmail());
+        }
+        logger.info("Indexed {} mention handles", idsByHandle.size());
+    }
+
+    /**
+     * Indexes a new user here and tells the other instances to read it from
+     * the users table; the user row must already be committed.
+     */
+    public void register(Long userId, String name, String email) {
+        index(userId, name, email);
+        invalidations.publish(CACHE, List.of(userId));
+    }
+
+    private void index(Long userId, String name, String email) {
+        if (email != null) {
+            int at = email.indexOf('@');
+            add(normalize(at > 0 ? email.substring(0, at) : email), userId);
+        }
+        if (name != null) {
+            add(normalize(name.replaceAll("\\s+", "")), userId);
+        }
+    }
+
+    public Long resolve(String handle) {
+        String normalized = normalize(handle);
+        return ambiguousHandles.contains(normalized) ? null : idsByHandle.get(normalized);
+    }
+
+    private void add(String handle, Long userId) {
+        Long existing = idsByHandle.putIfAbsent(handle, userId);
+        if (existing != null && !existing.equals(userId) && ambiguousHandles.add(handle)) {
+            logger.warn("Mention handle @{} is shared by users {} and {}; it no longer resolves",
+                    handle, existing, userId);
+        }
+    }
+
+    private static String normalize(String handle) {
+        return handle.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,540 @@
+package com.devsync.service;
+
+import com.devsync.dto.ChannelSummary;
+import com.devsync.dto.ExportedAttachment;
+import com.devsync.dto.ExportedMessage;
+import com.devsync.dto.WorkspaceExportView;
+import com.devsync.model.ExportStatus;
+import com.devsync.model.WorkspaceExport;
+import com.devsync.repository.ArchivedMessageRepository;
+import com.devsync.repository.AttachmentRepository;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.MessageRepository;
+import com.devsync.repository.WorkspaceExportRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Exports a workspace into a zip on disk: {@code workspace.json}, then per
+ * channel {@code channel.json}, {@code messages.ndjson} (archived and hot
+ * messages, oldest first), the attachment files and {@code attachments.ndjson}.
+ * Messages and attachments are read through server-side cursors and written
+ * straight into the zip, so memory use does not depend on workspace size.
+ *
+ * <p>Jobs run on a small worker pool and checkpoint after every channel, once
+ * the archive so far is on disk. A job interrupted by a restart, or whose
+ * instance died, is claimed again once its heartbeat is stale: the partial
+ * archive is set aside as {@code .old}, its completed channels are copied into
+ * a new {@code .part} and the export continues with the next channel.
+ * {@code .old} is deleted as soon as the copy is on disk, so while it exists
+ * it is the only complete copy of the checkpointed channels.
+ *
+ * <p>Each claim stores a fresh token on the row and every later update is
+ * conditional on it. An instance that was presumed dead and comes back finds
+ * its next heartbeat or checkpoint rejected and stops without touching the
+ * row or the finished archive.
+ */
+@Service
+public class WorkspaceExportService {
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceExportService.class);
+
+    private static final String CHANNELS = "channels/";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private WorkspaceExportRepository exportRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ArchivedMessageRepository archivedMessageRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${export.dir:exports}")
+    private String exportDir;
+
+    @Value("${export.worker-threads:1}")
+    private int workerThreads;
+
+    @Value("${export.stale-after-ms:300000}")
+    private long staleAfterMs;
+
+    @Value("${file.upload-dir:}")
+    private String uploadDir;
+
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor worker;
+    private TransactionTemplate readTemplate;
+    private Counter exportedMessages;
+    private Counter exportedAttachments;
+
+    @PostConstruct
+    public void start() {
+        worker = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("workspace-export-"));
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+
+        exportedMessages = Counter.builder("export.messages").register(meterRegistry);
+        exportedAttachments = Counter.builder("export.attachments").register(meterRegistry);
+        Gauge.builder("export.active", active, Set::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Running jobs stop at the next message and stay RUNNING; they resume once their heartbeat is stale
+        worker.shutdownNow();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queues an export of the workspace; owner only. The job starts once the
+     * request commits.
+     */
+    @Transactional
+    public WorkspaceExportView requestExport(UserPrincipal user, Long workspaceId) {
+        requireOwner(user, workspaceId);
+        WorkspaceExport export = exportRepository.save(new WorkspaceExport(workspaceId, user.getId()));
+        Long exportId = export.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(exportId);
+            }
+        });
+        return WorkspaceExportView.from(export);
+    }
+
+    @Transactional(readOnly = true)
+    public WorkspaceExportView getExport(UserPrincipal user, Long exportId) {
+        return WorkspaceExportView.from(find(user, exportId));
+    }
+
+    /**
+     * The finished archive; 409 while the export is still running.
+     */
+    @Transactional(readOnly = true)
+    public Path getArchive(UserPrincipal user, Long exportId) {
+        WorkspaceExport export = find(user, exportId);
+        if (export.getStatus() != ExportStatus.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Export is " + export.getStatus());
+        }
+        Path archive = Paths.get(export.getFilePath());
+        if (!Files.isRegularFile(archive)) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Export archive is no longer available");
+        }
+        return archive;
+    }
+
+    /**
+     * Picks up queued jobs and jobs whose instance stopped heartbeating,
+     * including this instance's own after a restart.
+     */
+    @Scheduled(fixedDelayString = "${export.resume-interval-ms:60000}",
+               initialDelayString = "${export.resume-initial-delay-ms:10000}")
+    public void resumeStalled() {
+        for (Long exportId : exportRepository.findResumableIds(staleBefore())) {
+            submit(exportId);
+        }
+    }
+
+    private void submit(Long exportId) {
+        if (!active.add(exportId)) {
+            return;
+        }
+        try {
+            worker.execute(() -> {
+                try {
+                    run(exportId);
+                } finally {
+                    active.remove(exportId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            active.remove(exportId);
+        }
+    }
+
+    private void run(Long exportId) {
+        String claimToken = UUID.randomUUID().toString();
+        if (exportRepository.claim(exportId, staleBefore(), claimToken) == 0) {
+            return;
+        }
+        WorkspaceExport export = exportRepository.findById(exportId).orElse(null);
+        if (export == null) {
+            return;
+        }
+        try {
+            export(export, claimToken);
+        } catch (ClaimLostException e) {
+            logger.info("Export {} was claimed by another instance; stopping", exportId);
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof InterruptedIOException || worker.isShutdown()) {
+                logger.info("Export {} interrupted; it resumes once its heartbeat is stale", exportId);
+                return;
+            }
+            logger.warn("Export {} of workspace {} failed", exportId, export.getWorkspaceId(), e);
+            exportRepository.fail(exportId, truncate(String.valueOf(e.getMessage()), 1000), claimToken);
+        }
+    }
+
+    private void export(WorkspaceExport export, String claimToken) throws IOException {
+        Long exportId = export.getId();
+        Long workspaceId = export.getWorkspaceId();
+        Path dir = Paths.get(exportDir).toAbsolutePath();
+        Files.createDirectories(dir);
+        String name = "workspace-" + workspaceId + "-export-" + exportId + ".zip";
+        Path target = dir.resolve(name);
+        Path partial = dir.resolve(name + ".part");
+        // Completed channels of an interrupted run; kept until they have been copied over
+        Path previous = dir.resolve(name + ".old");
+
+        Long after = export.getLastChannelId();
+        boolean resuming = after != null && (Files.exists(previous) || Files.exists(partial));
+        Progress progress;
+        if (resuming) {
+            // A .part next to an .old is an unfinished copy of it and holds nothing new
+            if (!Files.exists(previous)) {
+                Files.move(partial, previous);
+            }
+            requireClaim(exportRepository.rewind(exportId, claimToken));
+            progress = new Progress(exportId, claimToken, export.getCheckpointMessages(),
+                    export.getCheckpointAttachments());
+            logger.info("Resuming export {} after channel {}", exportId, after);
+        } else {
+            after = 0L;
+            Files.deleteIfExists(previous);
+            requireClaim(exportRepository.restart(exportId, target.toString(),
+                    (int) channelRepository.countInWorkspace(workspaceId), claimToken));
+            progress = new Progress(exportId, claimToken, 0, 0);
+        }
+
+        try (FileChannel file = FileChannel.open(partial, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Channels.newOutputStream(file)))) {
+            if (resuming) {
+                copyCompletedChannels(previous, zip, after, progress);
+                sync(zip, file);
+                Files.delete(previous);
+            } else {
+                writeJson(zip, "workspace.json", workspaceRepository.findSummaryById(workspaceId)
+                        .orElseThrow(() -> new IllegalStateException("Workspace " + workspaceId + " no longer exists")));
+            }
+            for (Long channelId : channelRepository.findIdsInWorkspaceAfter(workspaceId, after)) {
+                exportChannel(channelId, zip, progress);
+                sync(zip, file);
+                requireClaim(exportRepository.checkpoint(exportId, channelId, progress.messages,
+                        progress.attachments, Files.size(partial), claimToken));
+            }
+        }
+        // Still ours right before the archive replaces whatever is at the target
+        progress.heartbeat();
+        Files.deleteIfExists(previous);
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        requireClaim(exportRepository.complete(exportId, target.toString(), Files.size(target), claimToken));
+        logger.info("Exported workspace {} ({} messages, {} attachments) to {}",
+                workspaceId, progress.messages, progress.attachments, target);
+    }
+
+    private void exportChannel(Long channelId, ZipOutputStream zip, Progress progress) throws IOException {
+        String base = CHANNELS + channelId + "/";
+        Optional<ChannelSummary> summary = channelRepository.findSummaryById(channelId);
+        if (summary.isEmpty()) {
+            // Deleted since the export started
+            return;
+        }
+        writeJson(zip, base + "channel.json", summary.get());
+
+        zip.putNextEntry(new ZipEntry(base + "messages.ndjson"));
+        inReadTransaction(() -> {
+            try (Stream<ExportedMessage> archived = archivedMessageRepository.streamForExport(channelId)) {
+                writeMessages(archived.iterator(), zip, progress);
+            }
+            try (Stream<ExportedMessage> hot = messageRepository.streamForExport(channelId)) {
+                writeMessages(hot.iterator(), zip, progress);
+            }
+        });
+        zip.closeEntry();
+
+        // One entry is open at a time, so files go first and the index is a second pass
+        inReadTransaction(() -> {
+            try (Stream<ExportedAttachment> attachments = attachmentRepository.streamForExport(channelId)) {
+                Iterator<ExportedAttachment> it = attachments.iterator();
+                while (it.hasNext()) {
+                    ExportedAttachment attachment = it.next();
+                    Path file = resolveUpload(attachment.fileUrl());
+                    if (file != null) {
+                        zip.putNextEntry(new ZipEntry(fileEntry(base, attachment)));
+                        try (InputStream in = Files.newInputStream(file)) {
+                            copy(in, zip, progress);
+                        }
+                        zip.closeEntry();
+                        progress.attachment();
+                    }
+                }
+            }
+        });
+        zip.putNextEntry(new ZipEntry(base + "attachments.ndjson"));
+        inReadTransaction(() -> {
+            try (Stream<ExportedAttachment> attachments = attachmentRepository.streamForExport(channelId)) {
+                Iterator<ExportedAttachment> it = attachments.iterator();
+                while (it.hasNext()) {
+                    ExportedAttachment attachment = it.next();
+                    String entry = resolveUpload(attachment.fileUrl()) != null ? fileEntry(base, attachment) : null;
+                    writeLine(zip, attachment.withFile(entry));
+                }
+            }
+        });
+        zip.closeEntry();
+    }
+
+    private void writeMessages(Iterator<ExportedMessage> messages, ZipOutputStream zip, Progress progress)
+            throws IOException {
+        while (messages.hasNext()) {
+            writeLine(zip, messages.next());
+            progress.message();
+        }
+    }
+
+    /**
+     * Copies every entry of the channels up to and including the checkpoint.
+     * Channels are written in id order, so the first entry of a later channel
+     * ends the copy; whatever follows it may be truncated.
+     */
+    private void copyCompletedChannels(Path previous, ZipOutputStream zip, Long lastChannelId, Progress progress)
+            throws IOException {
+        try (ZipInputStream in = new ZipInputStream(new BufferedInputStream(Files.newInputStream(previous)))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null && channelOf(entry.getName()) <= lastChannelId) {
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                copy(in, zip, progress);
+                zip.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Copies in chunks, heartbeating as it goes so a large file does not make
+     * the job look stalled.
+     */
+    private void copy(InputStream in, OutputStream out, Progress progress) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            progress.beat();
+        }
+    }
+
+    /**
+     * Gets everything written so far onto disk before it is checkpointed;
+     * entries are closed at this point, so the zip holds no pending data.
+     */
+    private static void sync(ZipOutputStream zip, FileChannel file) throws IOException {
+        zip.flush();
+        file.force(false);
+    }
+
+    private void writeJson(ZipOutputStream zip, String entry, Object value) throws IOException {
+        zip.putNextEntry(new ZipEntry(entry));
+        zip.write(objectMapper.writeValueAsBytes(value));
+        zip.closeEntry();
+    }
+
+    private void writeLine(ZipOutputStream zip, Object value) throws IOException {
+        zip.write(objectMapper.writeValueAsBytes(value));
+        zip.write('\n');
+    }
+
+    private void inReadTransaction(IoWork work) throws IOException {
+        try {
+            readTemplate.executeWithoutResult(status -> {
+                try {
+                    work.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Path resolveUpload(String fileUrl) {
+        if (uploadDir.isBlank()) {
+            return null;
+        }
+        return UploadFiles.resolve(Paths.get(uploadDir).toAbsolutePath().normalize(), fileUrl);
+    }
+
+    private WorkspaceExport find(UserPrincipal user, Long exportId) {
+        WorkspaceExport export = exportRepository.findById(exportId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Export not found"));
+        requireOwner(user, export.getWorkspaceId());
+        return export;
+    }
+
+    private void requireOwner(UserPrincipal user, Long workspaceId) {
+        Long ownerId = workspaceRepository.findOwnerIdById(workspaceId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
+        if (!ownerId.equals(user.getId())) {
+            throw new AccessDeniedException("Only the workspace owner can export it");
+        }
+    }
+
+    private static void requireClaim(int updated) {
+        if (updated == 0) {
+            throw new ClaimLostException();
+        }
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(staleAfterMs, ChronoUnit.MILLIS);
+    }
+
+    private static long channelOf(String entryName) {
+        if (!entryName.startsWith(CHANNELS)) {
+            return 0;
+        }
+        int end = entryName.indexOf('/', CHANNELS.length());
+        return Long.parseLong(entryName.substring(CHANNELS.length(), end));
+    }
+
+    private static String fileEntry(String base, ExportedAttachment attachment) {
+        String fileName = attachment.fileName() == null ? "file"
+                : truncate(attachment.fileName().replaceAll("[^A-Za-z0-9._-]", "_"), 100);
+        return base + "files/" + attachment.id() + "-" + fileName;
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() > max ? value.substring(0, max) : value;
+    }
+
+    @FunctionalInterface
+    private interface IoWork {
+        void run() throws IOException;
+    }
+
+    /**
+     * The row no longer carries this run's claim token: another instance
+     * took the job over after this one's heartbeat went stale.
+     */
+    private static class ClaimLostException extends RuntimeException {
+    }
+
+    /**
+     * Counts for the checkpoint row; heartbeats in between keep long channels
+     * and large copies from looking stalled to other instances. Every step
+     * checks for interruption so a shutdown stops the job promptly.
+     */
+    private class Progress {
+        private final Long exportId;
+        private final String claimToken;
+        private long messages;
+        private long attachments;
+        private long lastBeat = System.currentTimeMillis();
+
+        Progress(Long exportId, String claimToken, long messages, long attachments) {
+            this.exportId = exportId;
+            this.claimToken = claimToken;
+            this.messages = messages;
+            this.attachments = attachments;
+        }
+
+        void message() throws IOException {
+            messages++;
+            exportedMessages.increment();
+            beat();
+        }
+
+        void attachment() throws IOException {
+            attachments++;
+            exportedAttachments.increment();
+            beat();
+        }
+
+        void beat() throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Export interrupted");
+            }
+            if (System.currentTimeMillis() - lastBeat > staleAfterMs / 3) {
+                heartbeat();
+            }
+        }
+
+        void heartbeat() {
+            requireClaim(exportRepository.heartbeat(exportId, messages, attachments, claimToken));
+            lastBeat = System.currentTimeMillis();
+        }
+    }
+}
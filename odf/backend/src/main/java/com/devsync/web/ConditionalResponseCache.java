@@ -0,0 +1,116 @@
+package com.devsync.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GETs for read-mostly resources. The caller passes a cheap
+ * version string (usually an {@code updatedAt}, or a count and a maximum)
+ * and a loader for the full payload. The strong ETag is derived from the
+ * resource key and that version, so a matching If-None-Match gets a 304
+ * without the payload being loaded. Otherwise the serialized body is served
+ * from a small LRU cache keyed by resource, which holds the latest version
+ * of each.
+ *
+ * <p>The version lookup must include the caller's access check; the loader
+ * runs only after it.
+ */
+@Component
+public class ConditionalResponseCache {
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${http-cache.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${http-cache.max-body-bytes:65536}")
+    private int maxBodyBytes;
+
+    private Map<String, CachedBody> bodies;
+    private Counter notModified;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        bodies = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedBody> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        notModified = Counter.builder("http.cache.requests").tag("outcome", "not_modified").register(meterRegistry);
+        hits = Counter.builder("http.cache.requests").tag("outcome", "hit").register(meterRegistry);
+        misses = Counter.builder("http.cache.requests").tag("outcome", "miss").register(meterRegistry);
+        Gauge.builder("http.cache.entries", this, cache -> cache.size()).register(meterRegistry);
+    }
+
+    public ResponseEntity<byte[]> respond(WebRequest request, String key, String version, Supplier<?> loader) {
+        String etag = "\"" + DigestUtils.md5DigestAsHex((key + '|' + version).getBytes(StandardCharsets.UTF_8)) + "\"";
+        if (request.checkNotModified(etag)) {
+            notModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        byte[] body = lookup(key, version);
+        if (body != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            body = serialize(loader.get());
+            if (body.length <= maxBodyBytes) {
+                store(key, version, body);
+            }
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private synchronized byte[] lookup(String key, String version) {
+        CachedBody cached = bodies.get(key);
+        return cached != null && cached.version.equals(version) ? cached.body : null;
+    }
+
+    private synchronized void store(String key, String version, byte[] body) {
+        bodies.put(key, new CachedBody(version, body));
+    }
+
+    private synchronized int size() {
+        return bodies.size();
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserializable response", e);
+        }
+    }
+
+    private record CachedBody(String version, byte[] body) {
+    }
+}
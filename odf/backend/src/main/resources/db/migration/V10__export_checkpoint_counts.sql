@@ -0,0 +1,5 @@
+-- Counts as of last_channel_id. messages_exported also moves with heartbeats
+-- while a channel is being written, so a resumed job starts from these instead.
+ALTER TABLE workspace_exports
+    ADD COLUMN checkpoint_messages BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN checkpoint_attachments BIGINT NOT NULL DEFAULT 0;
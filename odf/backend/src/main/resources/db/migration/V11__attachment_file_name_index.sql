@@ -0,0 +1,4 @@
+-- The orphan sweep looks attachments up by the last segment of file_url, since
+-- the prefix in front of the path under file.upload-dir varies
+DROP INDEX IF EXISTS idx_attachments_file_url;
+CREATE INDEX idx_attachments_file_name ON attachments ((substring(file_url from '[^/]*$')));
@@ -0,0 +1,6 @@
+-- Revoked sessions are kept until they expire so that every instance can
+-- learn about the revocation from the table, not only the one that served it.
+ALTER TABLE user_sessions ADD COLUMN revoked_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_user_sessions_revoked_at ON user_sessions (revoked_at)
+    WHERE revoked_at IS NOT NULL;
@@ -0,0 +1,31 @@
+-- The orphan sweep's lookup key for a file_url: its last path segment without
+-- query string or fragment, with %XX escapes decoded as UTF-8 (left as they
+-- are if that is not valid UTF-8). UploadFiles.fileName computes the same key
+-- in Java; keying on the raw segment missed references like c.png?sig=1.
+CREATE OR REPLACE FUNCTION attachment_file_name(file_url TEXT) RETURNS TEXT
+    LANGUAGE plpgsql IMMUTABLE STRICT PARALLEL SAFE AS $$
+DECLARE
+    name TEXT := substring(split_part(split_part(file_url, '#', 1), '?', 1) from '[^/]*$');
+    bytes BYTEA := '';
+    i INT := 1;
+BEGIN
+    IF strpos(name, '%') = 0 THEN
+        RETURN name;
+    END IF;
+    WHILE i <= length(name) LOOP
+        IF substr(name, i, 1) = '%' AND substr(name, i + 1, 2) ~ '^[0-9A-Fa-f]{2}$' THEN
+            bytes := bytes || decode(substr(name, i + 1, 2), 'hex');
+            i := i + 3;
+        ELSE
+            bytes := bytes || convert_to(substr(name, i, 1), 'UTF8');
+            i := i + 1;
+        END IF;
+    END LOOP;
+    RETURN convert_from(bytes, 'UTF8');
+EXCEPTION WHEN character_not_in_repertoire OR untranslatable_character THEN
+    RETURN name;
+END
+$$;
+
+DROP INDEX IF EXISTS idx_attachments_file_name;
+CREATE INDEX idx_attachments_file_name ON attachments (attachment_file_name(file_url));
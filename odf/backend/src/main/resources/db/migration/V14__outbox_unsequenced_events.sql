@@ -0,0 +1,6 @@
+-- Events outside any channel, such as canvas operations, go through the outbox
+-- too so every instance relays them; they carry no channel sequence. Canvas
+-- operations are ordered by the canvas version in their payload instead.
+ALTER TABLE message_outbox
+    ALTER COLUMN channel_id DROP NOT NULL,
+    ALTER COLUMN channel_seq DROP NOT NULL;
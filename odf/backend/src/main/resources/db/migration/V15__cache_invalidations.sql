@@ -0,0 +1,12 @@
+-- Evictions of per-instance caches, written in the transaction of the change
+-- and applied by every other instance when it polls; see CacheInvalidations.
+CREATE TABLE cache_invalidations (
+    id BIGSERIAL PRIMARY KEY,
+    cache VARCHAR(30) NOT NULL,
+    key_id BIGINT NOT NULL,
+    -- Instance that wrote the row and already evicted locally
+    origin VARCHAR(36) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
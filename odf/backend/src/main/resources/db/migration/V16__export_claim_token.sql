@@ -0,0 +1,4 @@
+-- Set by every claim. Progress, completion and failure only apply while the
+-- row still carries the claimant's token, so an instance that lost the job to
+-- a stale-heartbeat takeover can no longer write to it.
+ALTER TABLE workspace_exports ADD COLUMN claim_token VARCHAR(36);
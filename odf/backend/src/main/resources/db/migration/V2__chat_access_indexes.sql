@@ -0,0 +1,56 @@
+-- Indexes shaped after the repository queries. Single-column indexes from the
+-- Supabase migration that these make redundant are dropped.
+
+-- MessageRepository.findByChannelOrderByCreatedAtDesc / countUnreadMessages
+CREATE INDEX IF NOT EXISTS idx_messages_channel_created ON messages (channel_id, created_at DESC);
+DROP INDEX IF EXISTS idx_messages_channel;
+DROP INDEX IF EXISTS idx_messages_created_at;
+
+-- MessageRepository.findPinnedMessages: only a handful of rows per channel are pinned
+CREATE INDEX IF NOT EXISTS idx_messages_pinned ON messages (channel_id, created_at DESC) WHERE pinned;
+
+-- MessageRepository.findByParentMessage: most messages are not replies
+CREATE INDEX IF NOT EXISTS idx_messages_thread ON messages (parent_message_id, created_at)
+    WHERE parent_message_id IS NOT NULL;
+DROP INDEX IF EXISTS idx_messages_parent;
+
+CREATE INDEX IF NOT EXISTS idx_messages_sender ON messages (sender_id);
+
+-- Reaction summaries are grouped per (message, emoji); the unique
+-- (message_id, user_id, emoji) constraint serves toggle lookups.
+CREATE INDEX IF NOT EXISTS idx_message_reactions_message_emoji ON message_reactions (message_id, emoji);
+DROP INDEX IF EXISTS idx_message_reactions_message;
+CREATE INDEX IF NOT EXISTS idx_message_reactions_user ON message_reactions (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_attachments_message ON attachments (message_id);
+
+-- ChannelRepository.findByWorkspaceAndArchivedFalse / findByWorkspaceAndType
+CREATE INDEX IF NOT EXISTS idx_channels_workspace_active ON channels (workspace_id, type) WHERE NOT archived;
+
+-- ChannelRepository.findByMemberAndArchivedFalse walks membership from the user side;
+-- the (channel_id, user_id) primary key already covers the other direction.
+CREATE INDEX IF NOT EXISTS idx_channel_members_user ON channel_members (user_id, channel_id);
+DROP INDEX IF EXISTS idx_channel_members_channel;
+
+-- WorkspaceRepository.findByMember / findByOwner
+CREATE INDEX IF NOT EXISTS idx_workspace_members_user ON workspace_members (user_id, workspace_id);
+CREATE INDEX IF NOT EXISTS idx_workspaces_owner ON workspaces (owner_id);
+
+-- Mentions view: newest mentions of a user first
+CREATE INDEX IF NOT EXISTS idx_message_mentions_user ON message_mentions (user_id, message_id DESC);
+
+-- Notification inbox: keyset listing and unread counts
+CREATE INDEX IF NOT EXISTS idx_notifications_user_id ON notifications (user_id, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notifications_unread ON notifications (user_id) WHERE NOT read;
+CREATE INDEX IF NOT EXISTS idx_notifications_read_created ON notifications (created_at) WHERE read;
+DROP INDEX IF EXISTS idx_notifications_user;
+DROP INDEX IF EXISTS idx_notifications_read;
+
+-- Session listing per user and the expiry sweeper
+CREATE INDEX IF NOT EXISTS idx_user_sessions_user ON user_sessions (user_id);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_expires_at ON user_sessions (expires_at);
+DROP INDEX IF EXISTS idx_user_sessions_token;
+
+-- Covered by the unique constraint / the partial channel index above
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_channels_type;
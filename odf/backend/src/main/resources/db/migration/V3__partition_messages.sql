@@ -0,0 +1,106 @@
+-- Range-partition messages by month of created_at.
+--
+-- A partitioned table's primary key has to include the partition key, so the
+-- key becomes (id, created_at); ids still come from the one sequence and stay
+-- unique. Foreign keys cannot point at (id) alone any more, so the references
+-- from replies, reactions, attachments and mentions are dropped and cleanup of
+-- those rows moves to the application.
+
+ALTER TABLE messages RENAME TO messages_legacy;
+ALTER INDEX messages_pkey RENAME TO messages_legacy_pkey;
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS table_name, conname
+        FROM pg_constraint
+        WHERE contype = 'f' AND confrelid = 'messages_legacy'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END $$;
+
+CREATE TABLE messages (
+    id BIGINT NOT NULL DEFAULT nextval('messages_id_seq'),
+    content TEXT NOT NULL,
+    type VARCHAR(20) DEFAULT 'TEXT',
+    sender_id BIGINT REFERENCES users(id) ON DELETE CASCADE,
+    channel_id BIGINT REFERENCES channels(id) ON DELETE CASCADE,
+    parent_message_id BIGINT,
+    edited BOOLEAN NOT NULL DEFAULT FALSE,
+    pinned BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE messages_id_seq OWNED BY messages.id;
+
+-- Catches rows outside every monthly partition (e.g. clock skew) so inserts never fail.
+CREATE TABLE messages_default PARTITION OF messages DEFAULT;
+
+-- One partition per month from the oldest existing message through three months ahead;
+-- MessagePartitionManager keeps creating the months after that.
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '3 months')::date;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(COALESCE(created_at, updated_at)), CURRENT_TIMESTAMP))::date
+    INTO month_start
+    FROM messages_legacy;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF messages FOR VALUES FROM (%L) TO (%L)',
+                       'messages_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO messages (id, content, type, sender_id, channel_id, parent_message_id,
+                      edited, pinned, created_at, updated_at)
+SELECT id, content, type, sender_id, channel_id, parent_message_id,
+       COALESCE(edited, FALSE), COALESCE(pinned, FALSE),
+       COALESCE(created_at, updated_at, CURRENT_TIMESTAMP), updated_at
+FROM messages_legacy;
+
+DROP TABLE messages_legacy;
+
+-- Partitioned indexes; each monthly partition gets its own copy, so recent-history
+-- queries only walk the indexes of the months they touch.
+CREATE INDEX idx_messages_channel_created ON messages (channel_id, created_at DESC, id DESC);
+CREATE INDEX idx_messages_pinned ON messages (channel_id, created_at DESC) WHERE pinned;
+CREATE INDEX idx_messages_thread ON messages (parent_message_id, created_at)
+    WHERE parent_message_id IS NOT NULL;
+CREATE INDEX idx_messages_sender ON messages (sender_id);
+
+-- Cold tier. Detached partitions are copied here and dropped; rows are read-only.
+CREATE TABLE messages_archive (
+    id BIGINT PRIMARY KEY,
+    content TEXT NOT NULL,
+    type VARCHAR(20),
+    sender_id BIGINT,
+    channel_id BIGINT,
+    parent_message_id BIGINT,
+    edited BOOLEAN NOT NULL DEFAULT FALSE,
+    pinned BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITH (fillfactor = 100);
+
+CREATE INDEX idx_messages_archive_channel_created ON messages_archive (channel_id, created_at DESC, id DESC);
+
+-- lz4 TOAST compression where the server supports it (PostgreSQL 14+ built with lz4);
+-- otherwise the default pglz compression applies.
+DO $$
+BEGIN
+    IF current_setting('server_version_num')::int >= 140000 THEN
+        EXECUTE 'ALTER TABLE messages_archive ALTER COLUMN content SET COMPRESSION lz4';
+    END IF;
+EXCEPTION WHEN OTHERS THEN
+    RAISE NOTICE 'lz4 compression unavailable, keeping pglz for messages_archive.content';
+END $$;
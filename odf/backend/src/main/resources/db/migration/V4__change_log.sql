@@ -0,0 +1,32 @@
+-- Change feed for delta sync. Rows are inserted without a version inside the
+-- mutating transaction; ChangeLogService stamps versions on committed rows in
+-- a single sequencer, so versions increase in the order rows become visible and
+-- a reader can never skip a version that commits late.
+
+CREATE SEQUENCE change_log_version_seq;
+
+CREATE TABLE change_log (
+    id BIGSERIAL PRIMARY KEY,
+    version BIGINT UNIQUE,
+    scope_type VARCHAR(20) NOT NULL,
+    scope_id BIGINT NOT NULL,
+    entity_type VARCHAR(30) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    -- Compaction keeps only the newest row per key, e.g. MESSAGE:42 or CHANNEL_MEMBER:7:3
+    entity_key VARCHAR(100) NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    payload JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_change_log_unsequenced ON change_log (id) WHERE version IS NULL;
+CREATE INDEX idx_change_log_scope ON change_log (scope_type, scope_id, version) WHERE version IS NOT NULL;
+CREATE INDEX idx_change_log_key ON change_log (entity_key, version);
+CREATE INDEX idx_change_log_created ON change_log (created_at);
+
+-- Oldest version a client may resume from; anything older must re-bootstrap.
+CREATE TABLE change_log_horizon (
+    id INT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+INSERT INTO change_log_horizon (id, version) VALUES (1, 0);
@@ -0,0 +1,20 @@
+-- Transactional outbox for STOMP broadcasts. Rows are written in the same
+-- transaction as the message and removed once OutboxRelay has published them.
+
+CREATE TABLE message_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    channel_id BIGINT NOT NULL,
+    channel_seq BIGINT NOT NULL,
+    destination VARCHAR(200) NOT NULL,
+    event_type VARCHAR(30) NOT NULL,
+    -- Serialized once at write time and sent as-is
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Per-channel event counter. Incrementing it row-locks the channel until commit,
+-- so events of one channel commit, and are relayed, in sequence order.
+CREATE TABLE channel_event_seq (
+    channel_id BIGINT PRIMARY KEY,
+    seq BIGINT NOT NULL
+);
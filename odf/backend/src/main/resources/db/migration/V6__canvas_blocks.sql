@@ -0,0 +1,77 @@
+-- Canvas documents. The three tables match the Supabase schema, which created
+-- them already in some environments; the remaining statements add per-canvas
+-- versioning, an operation log and gap-based block ordering.
+
+CREATE TABLE IF NOT EXISTS canvases (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    created_by BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    starred BOOLEAN DEFAULT FALSE,
+    template VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS canvas_blocks (
+    id BIGSERIAL PRIMARY KEY,
+    canvas_id BIGINT NOT NULL REFERENCES canvases(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    content TEXT,
+    position_order INTEGER DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS canvas_comments (
+    id BIGSERIAL PRIMARY KEY,
+    canvas_id BIGINT NOT NULL REFERENCES canvases(id) ON DELETE CASCADE,
+    block_id BIGINT REFERENCES canvas_blocks(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE canvases
+    ADD COLUMN IF NOT EXISTS workspace_id BIGINT REFERENCES workspaces(id) ON DELETE CASCADE,
+    -- Version of the newest operation; bumping it serializes edits to one canvas
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0,
+    -- Operations up to this version have been compacted away
+    ADD COLUMN IF NOT EXISTS log_horizon BIGINT NOT NULL DEFAULT 0;
+
+-- Blocks are spaced 2^20 apart; an insert or move takes the midpoint of its
+-- neighbours and only a small window is respaced when a gap runs out
+ALTER TABLE canvas_blocks ALTER COLUMN position_order TYPE BIGINT;
+UPDATE canvas_blocks b SET position_order = r.rank * 1048576
+FROM (SELECT id, row_number() OVER (PARTITION BY canvas_id ORDER BY position_order, id) AS rank
+      FROM canvas_blocks) r
+WHERE b.id = r.id;
+ALTER TABLE canvas_blocks ALTER COLUMN position_order SET NOT NULL;
+
+ALTER TABLE canvas_blocks
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_by BIGINT,
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+DROP INDEX IF EXISTS idx_canvas_blocks_canvas;
+CREATE INDEX IF NOT EXISTS idx_canvas_blocks_canvas_position ON canvas_blocks (canvas_id, position_order);
+CREATE INDEX IF NOT EXISTS idx_canvas_comments_canvas ON canvas_comments (canvas_id);
+CREATE INDEX IF NOT EXISTS idx_canvases_workspace ON canvases (workspace_id);
+
+-- Applied block operations, replayed by clients that fell behind
+CREATE TABLE canvas_ops (
+    id BIGSERIAL PRIMARY KEY,
+    canvas_id BIGINT NOT NULL REFERENCES canvases(id) ON DELETE CASCADE,
+    version BIGINT NOT NULL,
+    op_type VARCHAR(20) NOT NULL,
+    block_id BIGINT,
+    user_id BIGINT NOT NULL,
+    client_id VARCHAR(64),
+    client_op_id VARCHAR(64),
+    payload JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_canvas_ops_version UNIQUE (canvas_id, version)
+);
+
+-- Retried operations are recognised by their client-assigned id
+CREATE UNIQUE INDEX idx_canvas_ops_client_op ON canvas_ops (canvas_id, client_id, client_op_id)
+    WHERE client_op_id IS NOT NULL;
+CREATE INDEX idx_canvas_ops_created ON canvas_ops (created_at);
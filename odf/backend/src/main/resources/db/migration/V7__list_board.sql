@@ -0,0 +1,57 @@
+-- Lists / task boards. The two tables match the Supabase schema, which
+-- created them already in some environments.
+
+CREATE TABLE IF NOT EXISTS lists (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    created_by BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    template VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS list_items (
+    id BIGSERIAL PRIMARY KEY,
+    list_id BIGINT NOT NULL REFERENCES lists(id) ON DELETE CASCADE,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    assignee VARCHAR(100),
+    due_date DATE,
+    priority VARCHAR(20) DEFAULT 'medium' CHECK (priority IN ('low', 'medium', 'high')),
+    status VARCHAR(50) DEFAULT 'To Do',
+    completed BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE lists ADD COLUMN IF NOT EXISTS workspace_id BIGINT REFERENCES workspaces(id) ON DELETE CASCADE;
+CREATE INDEX IF NOT EXISTS idx_lists_workspace ON lists (workspace_id);
+
+-- Every item sits in exactly one board column
+UPDATE list_items SET status = 'To Do' WHERE status IS NULL;
+ALTER TABLE list_items ALTER COLUMN status SET NOT NULL;
+
+-- Sort key for due-date views with undated items last, so keyset paging can
+-- compare (due_sort, id) without special-casing NULL
+ALTER TABLE list_items
+    ADD COLUMN due_sort DATE GENERATED ALWAYS AS (COALESCE(due_date, DATE '9999-12-31')) STORED;
+
+-- Board columns and per-assignee lists, each in creation order and by due
+-- date; all end in id for keyset paging. list_id alone is a prefix of these.
+DROP INDEX IF EXISTS idx_list_items_list;
+CREATE INDEX idx_list_items_status ON list_items (list_id, status, id);
+CREATE INDEX idx_list_items_status_due ON list_items (list_id, status, due_sort, id);
+CREATE INDEX idx_list_items_assignee ON list_items (list_id, assignee, id);
+CREATE INDEX idx_list_items_assignee_due ON list_items (list_id, assignee, due_sort, id);
+
+-- Items per board column, adjusted in the same transaction as every item
+-- write so board views never aggregate list_items
+CREATE TABLE list_status_counts (
+    list_id BIGINT NOT NULL REFERENCES lists(id) ON DELETE CASCADE,
+    status VARCHAR(50) NOT NULL,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (list_id, status)
+);
+
+INSERT INTO list_status_counts (list_id, status, item_count)
+SELECT list_id, status, COUNT(*) FROM list_items GROUP BY list_id, status;
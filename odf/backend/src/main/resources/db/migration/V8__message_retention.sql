@@ -0,0 +1,11 @@
+-- Message retention in days per channel and per workspace. A channel without
+-- its own value uses its workspace's, then retention.default-days; messages
+-- never expire when none is set.
+
+ALTER TABLE channels ADD COLUMN IF NOT EXISTS message_retention_days INT
+    CHECK (message_retention_days > 0);
+ALTER TABLE workspaces ADD COLUMN IF NOT EXISTS message_retention_days INT
+    CHECK (message_retention_days > 0);
+
+-- RetentionService checks files under file.upload-dir against attachment rows
+CREATE INDEX IF NOT EXISTS idx_attachments_file_url ON attachments (file_url);
@@ -0,0 +1,26 @@
+-- Workspace export jobs. The archive is written channel by channel in id
+-- order; last_channel_id is the last channel fully written, so an interrupted
+-- job resumes after it. A RUNNING job whose heartbeat is older than
+-- export.stale-after-ms is picked up again by any instance.
+
+CREATE TABLE workspace_exports (
+    id BIGSERIAL PRIMARY KEY,
+    workspace_id BIGINT NOT NULL REFERENCES workspaces(id) ON DELETE CASCADE,
+    requested_by BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    status VARCHAR(20) NOT NULL,
+    file_path VARCHAR(500),
+    channels_total INT NOT NULL DEFAULT 0,
+    channels_done INT NOT NULL DEFAULT 0,
+    messages_exported BIGINT NOT NULL DEFAULT 0,
+    attachments_exported BIGINT NOT NULL DEFAULT 0,
+    bytes_written BIGINT NOT NULL DEFAULT 0,
+    last_channel_id BIGINT,
+    error VARCHAR(1000),
+    heartbeat_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX idx_workspace_exports_workspace ON workspace_exports (workspace_id, created_at DESC);
+CREATE INDEX idx_workspace_exports_active ON workspace_exports (status, heartbeat_at)
+    WHERE status IN ('PENDING', 'RUNNING');
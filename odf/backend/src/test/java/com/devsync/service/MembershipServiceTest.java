@@ -0,0 +1,153 @@
+package com.devsync.service;
+
+import com.devsync.dto.BulkMembershipResult;
+import com.devsync.dto.ChannelAccess;
+import com.devsync.dto.ChannelSummary;
+import com.devsync.model.ChangeEntityType;
+import com.devsync.model.ChangeOperation;
+import com.devsync.model.ChangeScope;
+import com.devsync.model.ChannelType;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.devsync.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MembershipServiceTest {
+    private static final Long OWNER = 1L;
+    private static final Long WORKSPACE = 10L;
+    private static final Long CHANNEL = 100L;
+
+    @Mock
+    private ChannelRepository channelRepository;
+
+    @Mock
+    private WorkspaceRepository workspaceRepository;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ChannelMembershipCache membershipCache;
+
+    @Mock
+    private ChannelMetadataCache metadataCache;
+
+    @InjectMocks
+    private MembershipService membershipService;
+
+    private final UserPrincipal owner = new UserPrincipal(OWNER, "Owner", "owner@example.com", "", List.of());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(membershipService, "chunkSize", 1000);
+    }
+
+    @Test
+    void addingToPrivateChannelLogsOnlyChannelAndUserScopes() {
+        ChannelSummary summary = new ChannelSummary(CHANNEL, WORKSPACE, "secret", null, ChannelType.PRIVATE,
+                LocalDateTime.now());
+        when(channelRepository.findAccessById(CHANNEL)).thenReturn(Optional.of(
+                new ChannelAccess(CHANNEL, OWNER, OWNER, false)));
+        when(channelRepository.addMembers(eq(CHANNEL), anyCollection())).thenReturn(List.of(2L, 3L));
+        when(channelRepository.findSummaryById(CHANNEL)).thenReturn(Optional.of(summary));
+
+        BulkMembershipResult result = membershipService.addChannelMembers(owner, CHANNEL, List.of(2L, 3L, 3L));
+
+        assertThat(result.requested()).isEqualTo(2);
+        assertThat(result.changed()).isEqualTo(2);
+        verify(changeLogService, never()).record(eq(ChangeScope.WORKSPACE), any(), any(), any(), any(), any(), any());
+        verify(changeLogService).record(eq(ChangeScope.CHANNEL), eq(CHANNEL), eq(ChangeEntityType.CHANNEL_MEMBER),
+                eq(CHANNEL), startsWith("CHANNEL_MEMBERS:" + CHANNEL + ":"), eq(ChangeOperation.MEMBER_ADD),
+                eq(Map.of("channelId", CHANNEL, "userIds", List.of(2L, 3L))));
+        verify(changeLogService).recordForUsers(List.of(2L, 3L), ChangeEntityType.CHANNEL_MEMBER, CHANNEL,
+                "CHANNEL_MEMBER:" + CHANNEL + ":", ChangeOperation.MEMBER_ADD,
+                Map.of("channelId", CHANNEL, "channel", summary));
+        verify(outboxService).append(eq(CHANNEL), anyString(), eq("MEMBERS_ADDED"), any());
+        verify(metadataCache).evictAfterCommit(CHANNEL);
+    }
+
+    @Test
+    void addingToChannelOutsideWorkspaceNeedsNoWorkspace() {
+        ChannelSummary summary = new ChannelSummary(CHANNEL, null, "direct", null, ChannelType.PRIVATE,
+                LocalDateTime.now());
+        when(channelRepository.findAccessById(CHANNEL)).thenReturn(Optional.of(
+                new ChannelAccess(CHANNEL, OWNER, null, false)));
+        when(channelRepository.addMembers(eq(CHANNEL), anyCollection())).thenReturn(List.of(2L));
+        when(channelRepository.findSummaryById(CHANNEL)).thenReturn(Optional.of(summary));
+
+        BulkMembershipResult result = membershipService.addChannelMembers(owner, CHANNEL, List.of(2L));
+
+        assertThat(result.changed()).isEqualTo(1);
+        verify(changeLogService, never()).record(eq(ChangeScope.WORKSPACE), any(), any(), any(), any(), any(), any());
+        verify(changeLogService).recordForUsers(eq(List.of(2L)), eq(ChangeEntityType.CHANNEL_MEMBER), eq(CHANNEL),
+                anyString(), eq(ChangeOperation.MEMBER_ADD), any());
+    }
+
+    @Test
+    void removingFromWorkspaceLogsRemovedUsersAndAffectedChannels() {
+        Long otherChannel = 200L;
+        when(workspaceRepository.findOwnerIdById(WORKSPACE)).thenReturn(Optional.of(OWNER));
+        when(workspaceRepository.removeMembers(eq(WORKSPACE), anyCollection())).thenReturn(List.of(2L, 3L));
+        when(channelRepository.removeFromWorkspaceChannels(eq(WORKSPACE), anyCollection())).thenReturn(List.of(
+                new Object[]{CHANNEL, 2L}, new Object[]{CHANNEL, 3L}, new Object[]{otherChannel, 3L}));
+
+        BulkMembershipResult result = membershipService.removeWorkspaceMembers(owner, WORKSPACE, List.of(2L, 3L));
+
+        assertThat(result.changed()).isEqualTo(2);
+        verify(changeLogService).recordForUsers(List.of(2L, 3L), ChangeEntityType.WORKSPACE_MEMBER, WORKSPACE,
+                "WORKSPACE_MEMBER:" + WORKSPACE + ":", ChangeOperation.MEMBER_REMOVE,
+                Map.of("workspaceId", WORKSPACE));
+        verify(changeLogService).record(eq(ChangeScope.CHANNEL), eq(CHANNEL), eq(ChangeEntityType.CHANNEL_MEMBER),
+                eq(CHANNEL), startsWith("CHANNEL_MEMBERS:" + CHANNEL + ":"), eq(ChangeOperation.MEMBER_REMOVE),
+                eq(Map.of("channelId", CHANNEL, "userIds", List.of(2L, 3L))));
+        verify(changeLogService).recordForUsers(List.of(3L), ChangeEntityType.CHANNEL_MEMBER, otherChannel,
+                "CHANNEL_MEMBER:" + otherChannel + ":", ChangeOperation.MEMBER_REMOVE,
+                Map.of("channelId", otherChannel));
+        verify(outboxService).append(CHANNEL, "/topic/channels/" + CHANNEL + "/updates", "MEMBERS_REMOVED",
+                Map.of("channelId", CHANNEL, "userIds", List.of(2L, 3L)));
+        verify(outboxService).append(otherChannel, "/topic/channels/" + otherChannel + "/updates",
+                "MEMBERS_REMOVED", Map.of("channelId", otherChannel, "userIds", List.of(3L)));
+        verify(channelRepository).touch(CHANNEL);
+        verify(channelRepository).touch(otherChannel);
+        verify(channelRepository, never()).findSummaryById(anyLong());
+    }
+
+    @Test
+    void removingNobodyFromWorkspaceLogsNothing() {
+        when(workspaceRepository.findOwnerIdById(WORKSPACE)).thenReturn(Optional.of(OWNER));
+        when(workspaceRepository.removeMembers(eq(WORKSPACE), anyCollection())).thenReturn(List.of());
+
+        BulkMembershipResult result = membershipService.removeWorkspaceMembers(owner, WORKSPACE, List.of(OWNER));
+
+        assertThat(result.changed()).isZero();
+        verify(channelRepository, never()).removeFromWorkspaceChannels(any(), anyCollection());
+        verify(changeLogService, never()).record(any(), any(), any(), any(), any(), any(), any());
+        verify(changeLogService, never()).recordForUsers(any(), any(), any(), any(), any(), any());
+    }
+}
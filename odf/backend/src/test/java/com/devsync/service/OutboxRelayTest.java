@@ -0,0 +1,90 @@
+package com.devsync.service;
+
+import com.devsync.model.OutboxEvent;
+import com.devsync.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(relay, "batchSize", 200);
+        ReflectionTestUtils.setField(relay, "gapTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(relay, "maxTrackedGaps", 100);
+        ReflectionTestUtils.setField(relay, "publishedCounter", Counter.builder("published").register(registry));
+        ReflectionTestUtils.setField(relay, "batchTimer", Timer.builder("batch").register(registry));
+    }
+
+    @Test
+    void lateRowIsPublishedBeforeNewerRowsOfItsChannel() {
+        // Row 1 (channel 1) is still uncommitted when row 2 (channel 2) is read
+        when(outboxRepository.findAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(event(2L, 2L, 1L)));
+        relayBatch();
+
+        // Row 1 commits, then row 3 of channel 1; both come back from one read
+        when(outboxRepository.findAfterOrIn(eq(2L), eq(List.of(1L)), any(Pageable.class)))
+                .thenReturn(List.of(event(1L, 1L, 1L), event(3L, 1L, 2L)));
+        relayBatch();
+
+        ArgumentCaptor<String> destinations = ArgumentCaptor.forClass(String.class);
+        verify(messagingTemplate, times(3)).send(destinations.capture(), any(Message.class));
+        assertThat(destinations.getAllValues()).containsExactly("/topic/e2", "/topic/e1", "/topic/e3");
+        assertThat(ReflectionTestUtils.getField(relay, "cursor")).isEqualTo(3L);
+    }
+
+    @Test
+    void failedSendStopsTheBatch() {
+        when(outboxRepository.findAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(event(1L, 1L, 1L), event(2L, 1L, 2L)));
+        doThrow(new IllegalStateException("broker down"))
+                .when(messagingTemplate).send(eq("/topic/e1"), any(Message.class));
+
+        assertThat(relayBatch()).isZero();
+        verify(messagingTemplate, times(1)).send(anyString(), any(Message.class));
+        assertThat(ReflectionTestUtils.getField(relay, "cursor")).isEqualTo(0L);
+    }
+
+    private int relayBatch() {
+        return ReflectionTestUtils.<Integer>invokeMethod(relay, "relayBatch");
+    }
+
+    private static OutboxEvent event(Long id, Long channelId, Long seq) {
+        OutboxEvent event = new OutboxEvent(channelId, seq, "/topic/e" + id, "MESSAGE_CREATED", "{}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
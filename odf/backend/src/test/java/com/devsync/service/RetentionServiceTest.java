@@ -0,0 +1,87 @@
+package com.devsync.service;
+
+import com.devsync.repository.AttachmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @InjectMocks
+    private RetentionService retentionService;
+
+    @TempDir
+    private Path uploads;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(retentionService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(retentionService, "orphanSweep", true);
+        ReflectionTestUtils.setField(retentionService, "orphanGraceHours", 1);
+        ReflectionTestUtils.setField(retentionService, "chunkSize", 100);
+        ReflectionTestUtils.setField(retentionService, "maxChunksPerRun", 10);
+        ReflectionTestUtils.setField(retentionService, "uploadDir", uploads.toString());
+        retentionService.initMetrics();
+    }
+
+    @Test
+    void sweepKeepsFilesReferencedThroughQueryStringsAndEscapes() throws IOException {
+        Path signed = upload("ab/c.png");
+        Path escaped = upload("my file.png");
+        Path orphan = upload("ab/orphan.png");
+        List<String> fileUrls = List.of(
+                "https://cdn.example.com/uploads/ab/c.png?sig=1#top",
+                "/uploads/my%20file.png");
+        // The database side of the lookup: the V13 index key of each file_url
+        when(attachmentRepository.findUrlsByFileNames(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            return fileUrls.stream().filter(url -> names.contains(UploadFiles.fileName(url))).toList();
+        });
+
+        ReflectionTestUtils.invokeMethod(retentionService, "deleteOrphanFiles");
+
+        assertThat(signed).exists();
+        assertThat(escaped).exists();
+        assertThat(orphan).doesNotExist();
+    }
+
+    @Test
+    void fileNameIgnoresQueryAndFragmentAndDecodes() {
+        assertThat(UploadFiles.fileName("https://cdn.example.com/uploads/ab/c.png?sig=1")).isEqualTo("c.png");
+        assertThat(UploadFiles.fileName("/uploads/%C3%A9t%C3%A9.png#preview")).isEqualTo("été.png");
+        assertThat(UploadFiles.fileName("/uploads/100%25.png")).isEqualTo("100%.png");
+        // Not an escape, or not UTF-8: kept as written, as attachment_file_name() does
+        assertThat(UploadFiles.fileName("/uploads/b%zz.png")).isEqualTo("b%zz.png");
+        assertThat(UploadFiles.fileName("/uploads/bad%FF.png")).isEqualTo("bad%FF.png");
+    }
+
+    private Path upload(String relativePath) throws IOException {
+        Path file = uploads.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "x");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        return file;
+    }
+}
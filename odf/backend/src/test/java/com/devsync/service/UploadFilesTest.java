@@ -0,0 +1,40 @@
+package com.devsync.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadFilesTest {
+    @TempDir
+    private Path root;
+
+    @Test
+    void refersToMatchesRelativePathAfterAnyPrefix() {
+        assertThat(UploadFiles.refersTo("ab/c.png", "ab/c.png")).isTrue();
+        assertThat(UploadFiles.refersTo("/uploads/ab/c.png", "ab/c.png")).isTrue();
+        assertThat(UploadFiles.refersTo("/srv/data/uploads/ab/c.png", "ab/c.png")).isTrue();
+        assertThat(UploadFiles.refersTo("https://cdn.example.com/files/ab/c.png?sig=1", "ab/c.png")).isTrue();
+
+        assertThat(UploadFiles.refersTo("/uploads/xab/c.png", "ab/c.png")).isFalse();
+        assertThat(UploadFiles.refersTo("/uploads/ab/c.png", "c.png")).isTrue();
+        assertThat(UploadFiles.refersTo("/uploads/other/c.png", "ab/c.png")).isFalse();
+    }
+
+    @Test
+    void resolveFindsLongestTrailingPathUnderRoot() throws IOException {
+        Path nested = Files.createDirectories(root.resolve("ab")).resolve("c.png");
+        Files.writeString(nested, "x");
+
+        assertThat(UploadFiles.resolve(root, "/uploads/ab/c.png")).isEqualTo(nested);
+        assertThat(UploadFiles.resolve(root, "https://cdn.example.com/uploads/ab/c.png?v=2")).isEqualTo(nested);
+        assertThat(UploadFiles.resolve(root, nested.toString())).isEqualTo(nested);
+        assertThat(UploadFiles.resolve(root, "/uploads/zz/missing.png")).isNull();
+        assertThat(UploadFiles.resolve(root, "../../etc/passwd")).isNull();
+        assertThat(UploadFiles.resolve(root, null)).isNull();
+    }
+}
@@ -0,0 +1,271 @@
+package com.devsync.service;
+
+import com.devsync.dto.ChannelSummary;
+import com.devsync.dto.ExportedAttachment;
+import com.devsync.dto.ExportedMessage;
+import com.devsync.dto.WorkspaceSummary;
+import com.devsync.model.ChannelType;
+import com.devsync.model.MessageType;
+import com.devsync.model.WorkspaceExport;
+import com.devsync.repository.ArchivedMessageRepository;
+import com.devsync.repository.AttachmentRepository;
+import com.devsync.repository.ChannelRepository;
+import com.devsync.repository.MessageRepository;
+import com.devsync.repository.WorkspaceExportRepository;
+import com.devsync.repository.WorkspaceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WorkspaceExportServiceTest {
+    private static final Long EXPORT = 7L;
+    private static final Long WORKSPACE = 10L;
+
+    @Mock
+    private WorkspaceExportRepository exportRepository;
+
+    @Mock
+    private WorkspaceRepository workspaceRepository;
+
+    @Mock
+    private ChannelRepository channelRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private ArchivedMessageRepository archivedMessageRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private final WorkspaceExportService exportService = new WorkspaceExportService();
+    private final Map<Long, List<ExportedMessage>> messages = Map.of(
+            1L, List.of(message(1), message(2)),
+            2L, List.of(message(3), message(4), message(5)),
+            3L, List.of(message(6), message(7)));
+    // Row as the repository would hold it
+    private final WorkspaceExport row = new WorkspaceExport(WORKSPACE, 1L);
+    private Long interruptChannel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path uploads = Files.createDirectories(tempDir.resolve("uploads"));
+        Files.write(uploads.resolve("spec.txt"), Collections.nCopies(20_000, "spec").toString()
+                .getBytes(StandardCharsets.UTF_8));
+
+        ReflectionTestUtils.setField(exportService, "exportRepository", exportRepository);
+        ReflectionTestUtils.setField(exportService, "workspaceRepository", workspaceRepository);
+        ReflectionTestUtils.setField(exportService, "channelRepository", channelRepository);
+        ReflectionTestUtils.setField(exportService, "messageRepository", messageRepository);
+        ReflectionTestUtils.setField(exportService, "archivedMessageRepository", archivedMessageRepository);
+        ReflectionTestUtils.setField(exportService, "attachmentRepository", attachmentRepository);
+        ReflectionTestUtils.setField(exportService, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(exportService, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(exportService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(exportService, "exportDir", tempDir.resolve("exports").toString());
+        ReflectionTestUtils.setField(exportService, "workerThreads", 1);
+        ReflectionTestUtils.setField(exportService, "staleAfterMs", 0L);
+        ReflectionTestUtils.setField(exportService, "uploadDir", uploads.toString());
+        exportService.start();
+
+        ReflectionTestUtils.setField(row, "id", EXPORT);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(exportRepository.claim(eq(EXPORT), any(), anyString())).thenReturn(1);
+        when(exportRepository.findById(EXPORT)).thenAnswer(invocation -> Optional.of(row));
+        when(exportRepository.restart(eq(EXPORT), anyString(), anyInt(), anyString())).thenAnswer(invocation -> {
+            set("lastChannelId", null);
+            set("messagesExported", 0L);
+            set("checkpointMessages", 0L);
+            return 1;
+        });
+        when(exportRepository.rewind(eq(EXPORT), anyString())).thenAnswer(invocation -> {
+            set("messagesExported", row.getCheckpointMessages());
+            set("attachmentsExported", row.getCheckpointAttachments());
+            return 1;
+        });
+        when(exportRepository.heartbeat(eq(EXPORT), anyLong(), anyLong(), anyString())).thenAnswer(invocation -> {
+            set("messagesExported", invocation.getArgument(1));
+            set("attachmentsExported", invocation.getArgument(2));
+            return 1;
+        });
+        when(exportRepository.checkpoint(eq(EXPORT), anyLong(), anyLong(), anyLong(), anyLong(), anyString()))
+                .thenAnswer(invocation -> {
+                    set("lastChannelId", invocation.getArgument(1));
+                    set("messagesExported", invocation.getArgument(2));
+                    set("attachmentsExported", invocation.getArgument(3));
+                    set("checkpointMessages", invocation.getArgument(2));
+                    set("checkpointAttachments", invocation.getArgument(3));
+                    return 1;
+                });
+        when(exportRepository.complete(eq(EXPORT), anyString(), anyLong(), anyString())).thenReturn(1);
+
+        when(workspaceRepository.findSummaryById(WORKSPACE)).thenReturn(Optional.of(
+                new WorkspaceSummary(WORKSPACE, "Acme", null, null, 1L, LocalDateTime.now())));
+        when(channelRepository.countInWorkspace(WORKSPACE)).thenReturn(3L);
+        when(channelRepository.findIdsInWorkspaceAfter(eq(WORKSPACE), anyLong())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(1);
+            return messages.keySet().stream().filter(id -> id > after).sorted().toList();
+        });
+        when(channelRepository.findSummaryById(anyLong())).thenAnswer(invocation -> Optional.of(
+                new ChannelSummary(invocation.getArgument(0), WORKSPACE, "c", null, ChannelType.PUBLIC, null)));
+        when(archivedMessageRepository.streamForExport(anyLong())).thenAnswer(invocation -> Stream.empty());
+        when(messageRepository.streamForExport(anyLong())).thenAnswer(invocation -> streamMessages(
+                invocation.getArgument(0)));
+        when(attachmentRepository.streamForExport(anyLong())).thenAnswer(invocation ->
+                invocation.<Long>getArgument(0) == 1L
+                        ? Stream.of(new ExportedAttachment(11L, 1L, "spec.txt", "https://files.example.com/uploads/spec.txt?v=1",
+                                "text/plain", 0L))
+                        : Stream.empty());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        Thread.interrupted();
+        exportService.stop();
+    }
+
+    @Test
+    void exportInterruptedTwiceResumesWithEveryChannelCountedOnce() throws IOException {
+        interruptChannel = 2L;
+        run();
+        assertThat(row.getLastChannelId()).isEqualTo(1L);
+        // The heartbeat saw one message of channel 2 that is written again on resume
+        assertThat(row.getMessagesExported()).isEqualTo(3);
+
+        interruptChannel = 3L;
+        run();
+        assertThat(row.getLastChannelId()).isEqualTo(2L);
+        assertThat(row.getCheckpointMessages()).isEqualTo(5);
+
+        interruptChannel = null;
+        run();
+
+        Path exports = tempDir.resolve("exports");
+        Path archive = exports.resolve("workspace-" + WORKSPACE + "-export-" + EXPORT + ".zip");
+        verify(exportRepository).complete(eq(EXPORT), eq(archive.toString()), anyLong(), anyString());
+        try (Stream<Path> files = Files.list(exports)) {
+            assertThat(files).containsExactly(archive);
+        }
+        assertThat(row.getCheckpointMessages()).isEqualTo(7);
+        assertThat(row.getCheckpointAttachments()).isEqualTo(1);
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            List<String> names = new ArrayList<>();
+            zip.stream().map(ZipEntry::getName).forEach(names::add);
+            assertThat(names).containsExactly("workspace.json",
+                    "channels/1/channel.json", "channels/1/messages.ndjson", "channels/1/files/11-spec.txt",
+                    "channels/1/attachments.ndjson",
+                    "channels/2/channel.json", "channels/2/messages.ndjson", "channels/2/attachments.ndjson",
+                    "channels/3/channel.json", "channels/3/messages.ndjson", "channels/3/attachments.ndjson");
+            assertThat(lines(zip, "channels/1/messages.ndjson")).isEqualTo(2);
+            assertThat(lines(zip, "channels/2/messages.ndjson")).isEqualTo(3);
+            assertThat(lines(zip, "channels/3/messages.ndjson")).isEqualTo(2);
+            assertThat(zip.getEntry("channels/1/files/11-spec.txt").getSize())
+                    .isEqualTo(Files.size(tempDir.resolve("uploads/spec.txt")));
+        }
+    }
+
+    @Test
+    void exportClaimedByAnotherInstanceStopsWithoutTouchingTheRow() {
+        when(exportRepository.heartbeat(eq(EXPORT), anyLong(), anyLong(), anyString())).thenReturn(0);
+
+        run();
+
+        verify(exportRepository, never()).checkpoint(any(), any(), anyLong(), anyLong(), anyLong(), any());
+        verify(exportRepository, never()).complete(any(), any(), anyLong(), any());
+        verify(exportRepository, never()).fail(any(), any(), any());
+    }
+
+    private void run() {
+        ReflectionTestUtils.invokeMethod(exportService, "run", EXPORT);
+        Thread.interrupted();
+    }
+
+    /**
+     * Messages of the channel; in the channel to interrupt, the first one is
+     * slow enough to be heartbeated and the second one stops the job.
+     */
+    private Stream<ExportedMessage> streamMessages(Long channelId) {
+        Stream<ExportedMessage> stream = messages.get(channelId).stream();
+        if (!channelId.equals(interruptChannel)) {
+            return stream;
+        }
+        AtomicInteger seen = new AtomicInteger();
+        return stream.peek(message -> {
+            if (seen.incrementAndGet() == 1) {
+                sleep();
+            } else {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private void set(String field, Object value) {
+        ReflectionTestUtils.setField(row, field, value);
+    }
+
+    private static long lines(ZipFile zip, String entry) throws IOException {
+        try (InputStream in = zip.getInputStream(zip.getEntry(entry))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().count();
+        }
+    }
+
+    private static ExportedMessage message(long id) {
+        return new ExportedMessage(id, 1L, "Ann", "message " + id, MessageType.TEXT, null, false, false,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
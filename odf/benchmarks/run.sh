@@ -0,0 +1,13 @@
+#!/usr/bin/env sh
+# Builds the backend and the benchmark jar, then runs JMH.
+# Extra arguments are passed to JMH, e.g. ./run.sh JwtBenchmark -prof gc
+set -e
+cd "$(dirname "$0")"
+
+mvn -B -q -f ../backend/pom.xml install -DskipTests
+mvn -B -q package
+
+mkdir -p results
+RESULT="results/$(git rev-parse --short HEAD 2>/dev/null || date +%Y%m%d%H%M%S).json"
+java -jar target/benchmarks.jar -rf json -rff "$RESULT" "$@"
+echo "Results written to $RESULT"
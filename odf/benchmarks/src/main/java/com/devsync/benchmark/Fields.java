@@ -0,0 +1,27 @@
+package com.devsync.benchmark;
+
+import java.lang.reflect.Field;
+
+/**
+ * Sets the @Value/@Autowired fields of backend components outside a Spring context.
+ */
+final class Fields {
+    private Fields() {}
+
+    static void set(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("No field " + name + " on " + target.getClass());
+    }
+}
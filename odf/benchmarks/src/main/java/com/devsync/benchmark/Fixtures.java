@@ -0,0 +1,41 @@
+package com.devsync.benchmark;
+
+import com.devsync.dto.ChatMessage;
+import com.devsync.model.Channel;
+import com.devsync.model.Message;
+import com.devsync.model.User;
+import com.devsync.security.JwtUtils;
+
+import java.time.LocalDateTime;
+
+final class Fixtures {
+    static final String JWT_SECRET =
+            "BSp198wEZsUZSse7d0lq3qLUKrCFcfvdvznxChttsWa6rMpwLrZcRhOFOb55jMT7xmSUK25wfmyRpKnVuSOUBg==";
+
+    private Fixtures() {}
+
+    static JwtUtils jwtUtils() {
+        JwtUtils jwtUtils = new JwtUtils();
+        Fields.set(jwtUtils, "jwtSecret", JWT_SECRET);
+        Fields.set(jwtUtils, "jwtExpirationMs", 86400000);
+        return jwtUtils;
+    }
+
+    static User user() {
+        User user = new User("Caleb Adams", "caleb@devsync.com",
+                "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        user.setId(42L);
+        return user;
+    }
+
+    static ChatMessage chatMessage() {
+        Channel channel = new Channel();
+        channel.setId(7L);
+
+        Message message = new Message("Pushed the fix for the reconnect loop, @michael can you take a look?",
+                user(), channel);
+        message.setId(123456L);
+        message.setCreatedAt(LocalDateTime.of(2025, 7, 30, 9, 10, 14));
+        return ChatMessage.from(message);
+    }
+}
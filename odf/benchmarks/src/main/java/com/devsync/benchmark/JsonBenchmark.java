@@ -0,0 +1,62 @@
+package com.devsync.benchmark;
+
+import com.devsync.dto.ChatMessage;
+import com.devsync.dto.JwtResponse;
+import com.devsync.dto.MessagePage;
+import com.devsync.security.UserPrincipal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+    private ObjectMapper objectMapper;
+    private ChatMessage message;
+    private List<ChatMessage> page;
+    private JwtResponse jwtResponse;
+
+    @Setup
+    public void setUp() {
+        // Same modules Spring Boot registers on its auto-configured mapper.
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        message = Fixtures.chatMessage();
+        page = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            page.add(Fixtures.chatMessage());
+        }
+        String token = Fixtures.jwtUtils().generateJwtToken(new UsernamePasswordAuthenticationToken(
+                UserPrincipal.create(Fixtures.user()), null, List.of()));
+        jwtResponse = new JwtResponse(token, 42L, "Caleb Adams", "caleb@devsync.com");
+    }
+
+    @Benchmark
+    public byte[] message() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] messagePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] compactMessagePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(MessagePage.of(7L, page));
+    }
+
+    @Benchmark
+    public byte[] jwtResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(jwtResponse);
+    }
+}
@@ -0,0 +1,46 @@
+package com.devsync.benchmark;
+
+import com.devsync.security.JwtUtils;
+import com.devsync.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = Fixtures.jwtUtils();
+        authentication = new UsernamePasswordAuthenticationToken(
+                UserPrincipal.create(Fixtures.user()), null, List.of());
+        token = jwtUtils.generateJwtToken(authentication, "3f2c7a1e-8a4b-4c1d-9e57-2b0f6d9a1c44");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateJwtToken(authentication, "3f2c7a1e-8a4b-4c1d-9e57-2b0f6d9a1c44");
+    }
+
+    @Benchmark
+    public Claims validate() {
+        return jwtUtils.parseValidClaims(token);
+    }
+
+    @Benchmark
+    public String parseSubject() {
+        return jwtUtils.getUserNameFromJwtToken(token);
+    }
+}
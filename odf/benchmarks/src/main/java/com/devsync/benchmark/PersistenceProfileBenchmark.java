@@ -0,0 +1,183 @@
+package com.devsync.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the persistence settings of {@code application-prod.yml} with the
+ * defaults the backend ran on before: Hikari's default pool, pgjdbc switching
+ * to server-side prepares only after five executions, autocommit toggled
+ * around every transaction, and every SQL string formatted for show-sql.
+ *
+ * <p>The queries are the SQL that MessageRepository and ChannelRepository
+ * generate for the hot read paths. They run against an embedded PostgreSQL
+ * migrated with the backend's Flyway scripts. Sixteen threads share one pool,
+ * so pool wait time is part of the score.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class PersistenceProfileBenchmark {
+    private static final int CHANNELS = 50;
+    private static final int USERS = 200;
+    private static final int MESSAGES = 100_000;
+
+    private static final String HISTORY_SQL =
+            "select m.id, m.channel_id, m.content, m.created_at, m.edited, m.parent_message_id, m.pinned, " +
+            "m.sender_id, m.type, m.updated_at, u.id, u.name, u.email, u.status " +
+            "from messages m join users u on u.id = m.sender_id " +
+            "where m.channel_id = ? and m.created_at >= ? and (m.created_at < ? or (m.created_at = ? and m.id < ?)) " +
+            "order by m.created_at desc, m.id desc offset ? rows fetch first ? rows only";
+
+    private static final String IS_MEMBER_SQL =
+            "select count(c.id) > 0 from channels c join channel_members cm on c.id = cm.channel_id " +
+            "join users m on m.id = cm.user_id where c.id = ? and m.id = ?";
+
+    private static final String PINNED_SQL =
+            "select m.id, m.channel_id, m.content, m.created_at, m.edited, m.parent_message_id, m.pinned, " +
+            "m.sender_id, m.type, m.updated_at from messages m where m.channel_id = ? and m.pinned = true";
+
+    @Param({"defaults", "prod"})
+    public String profile;
+
+    private EmbeddedPostgres postgres;
+    private HikariDataSource dataSource;
+    private boolean legacy;
+    private LocalDateTime windowStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        String url = postgres.getJdbcUrl("postgres", "postgres");
+        Flyway.configure().dataSource(url, "postgres", "postgres").locations("classpath:db/migration").load().migrate();
+        seed(url);
+
+        legacy = profile.equals("defaults");
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername("postgres");
+        config.setPassword("postgres");
+        if (!legacy) {
+            config.setMaximumPoolSize(20);
+            config.setMinimumIdle(20);
+            config.setConnectionTimeout(3000);
+            config.setAutoCommit(false);
+            config.addDataSourceProperty("prepareThreshold", "1");
+            config.addDataSourceProperty("preparedStatementCacheQueries", "512");
+            config.addDataSourceProperty("preparedStatementCacheSizeMiB", "8");
+        }
+        dataSource = new HikariDataSource(config);
+        windowStart = LocalDateTime.now().minusMonths(6);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dataSource.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public void channelHistory(Blackhole blackhole) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().plusDays(1));
+        inTransaction(blackhole, HISTORY_SQL, statement -> {
+            statement.setLong(1, 1 + random.nextInt(CHANNELS));
+            statement.setTimestamp(2, Timestamp.valueOf(windowStart));
+            statement.setTimestamp(3, before);
+            statement.setTimestamp(4, before);
+            statement.setLong(5, Long.MAX_VALUE);
+            statement.setInt(6, 0);
+            statement.setInt(7, 50);
+        });
+    }
+
+    @Benchmark
+    public void isMember(Blackhole blackhole) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        inTransaction(blackhole, IS_MEMBER_SQL, statement -> {
+            statement.setLong(1, 1 + random.nextInt(CHANNELS));
+            statement.setLong(2, 1 + random.nextInt(USERS));
+        });
+    }
+
+    @Benchmark
+    public void pinnedMessages(Blackhole blackhole) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        inTransaction(blackhole, PINNED_SQL, statement -> statement.setLong(1, 1 + random.nextInt(CHANNELS)));
+    }
+
+    /**
+     * One Spring-style read transaction. Under the old defaults the transaction
+     * manager flips autocommit off and back on around each one, and Hibernate
+     * formats the statement for show-sql.
+     */
+    private void inTransaction(Blackhole blackhole, String sql, Binder binder) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (legacy) {
+                connection.setAutoCommit(false);
+                blackhole.consume(FormatStyle.BASIC.getFormatter().format(sql));
+            }
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                binder.bind(statement);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        blackhole.consume(rs.getObject(1));
+                    }
+                }
+            }
+            connection.commit();
+            if (legacy) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static void seed(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "postgres", "postgres")) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO users (name, email, password, status) " +
+                        "SELECT 'user' || i, 'user' || i || '@bench.local', 'x', 'OFFLINE' " +
+                        "FROM generate_series(1, " + USERS + ") i");
+                statement.execute("INSERT INTO channels (name, type, archived, created_by) " +
+                        "SELECT 'channel-' || i, 'PUBLIC', false, 1 FROM generate_series(1, " + CHANNELS + ") i");
+                // Every user is in five channels
+                statement.execute("INSERT INTO channel_members (channel_id, user_id) " +
+                        "SELECT DISTINCT 1 + ((u + k * 7) % " + CHANNELS + "), u " +
+                        "FROM generate_series(1, " + USERS + ") u, generate_series(0, 4) k");
+                // Spread over the last three months; one message in two hundred is pinned
+                statement.execute("INSERT INTO messages (content, type, sender_id, channel_id, pinned, created_at, updated_at) " +
+                        "SELECT 'benchmark message ' || i, 'TEXT', 1 + (i % " + USERS + "), 1 + (i % " + CHANNELS + "), " +
+                        "i % 200 = 0, now() - ((" + MESSAGES + " - i) * interval '80 seconds'), now() " +
+                        "FROM generate_series(1, " + MESSAGES + ") i");
+                statement.execute("ANALYZE");
+            }
+            connection.commit();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+}
@@ -0,0 +1,65 @@
+package com.devsync.benchmark;
+
+import com.devsync.ratelimit.RateLimitKey;
+import com.devsync.ratelimit.RateLimitProperties;
+import com.devsync.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of admitting one request through the limiter with the default rule
+ * shapes: a message post that matches the per-channel and per-user write
+ * rules. Buckets never run dry, so this is the admitted path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+    private RateLimiter rateLimiter;
+    private String[] channelPaths;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setHttp(List.of(
+                rule("auth", "/api/auth/**", null, RateLimitKey.ADDRESS),
+                rule("channel-posts", "/api/channels/*/messages", "POST", RateLimitKey.CHANNEL),
+                rule("writes", "/api/**", "POST", RateLimitKey.USER)));
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+        channelPaths = new String[50];
+        for (int i = 0; i < channelPaths.length; i++) {
+            channelPaths[i] = "/api/channels/" + i + "/messages";
+        }
+    }
+
+    @Benchmark
+    public long singleUser() {
+        return rateLimiter.admitHttp("POST", "/api/channels/42/messages", 7L, "10.0.0.7");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long manyUsers() {
+        long userId = ThreadLocalRandom.current().nextLong(10_000);
+        return rateLimiter.admitHttp("POST", channelPaths[(int) (userId % channelPaths.length)], userId, "10.0.0.7");
+    }
+
+    private static RateLimitProperties.Rule rule(String name, String pattern, String method, RateLimitKey key) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setPatterns(List.of(pattern));
+        rule.setMethods(method != null ? List.of(method) : List.of());
+        rule.setKey(key);
+        rule.setCapacity(Integer.MAX_VALUE / 2);
+        rule.setRefillPerSecond(1_000_000_000);
+        return rule;
+    }
+}
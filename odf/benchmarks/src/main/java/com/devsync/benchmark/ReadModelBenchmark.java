@@ -0,0 +1,175 @@
+package com.devsync.benchmark;
+
+import com.devsync.dto.UserListItem;
+import com.devsync.model.Attachment;
+import com.devsync.model.Channel;
+import com.devsync.model.Message;
+import com.devsync.model.MessageMention;
+import com.devsync.model.MessageReaction;
+import com.devsync.model.Notification;
+import com.devsync.model.User;
+import com.devsync.model.UserSession;
+import com.devsync.model.Workspace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Heap cost of one list request, entity-based versus record projections.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the bytes allocated
+ * per request, including the persistence context and the JSON body.
+ *
+ * <p>The entity variants do what the list endpoints would do with managed
+ * entities: load {@code User} rows into the session (snapshots for dirty
+ * checking included) or initialize {@code Channel.members}, then serialize.
+ * The record variants run the projection queries the endpoints use. User
+ * search is the endpoint's query in both: names only, among the users who
+ * share a workspace with the caller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadModelBenchmark {
+    private static final int USERS = 5_000;
+    private static final int CHANNELS = 20;
+    private static final int WORKSPACES = 4;
+    private static final int PAGE = 100;
+
+    // As UserRepository.searchListItems
+    private static final String SHARES_WORKSPACE =
+            "SELECT 1 FROM Workspace w JOIN w.members mine JOIN w.members theirs WHERE mine.id = ?2 AND theirs.id = u.id";
+
+    private EmbeddedPostgres postgres;
+    private SessionFactory sessionFactory;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        String url = postgres.getJdbcUrl("postgres", "postgres");
+        Flyway.configure().dataSource(url, "postgres", "postgres").locations("classpath:db/migration").load().migrate();
+        seed();
+
+        Configuration configuration = new Configuration();
+        configuration.getProperties().put(AvailableSettings.DATASOURCE, postgres.getPostgresDatabase());
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "none");
+        // Spring Boot's default; the columns are snake_case
+        configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        for (Class<?> entity : List.of(User.class, Workspace.class, Channel.class, Message.class,
+                MessageReaction.class, MessageMention.class, Attachment.class, Notification.class, UserSession.class)) {
+            configuration.addAnnotatedClass(entity);
+        }
+        sessionFactory = configuration.buildSessionFactory();
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sessionFactory.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public byte[] userSearchEntities() throws Exception {
+        String pattern = prefix();
+        long userId = searcher();
+        return inSession(session -> session.createQuery(
+                        "SELECT u FROM User u WHERE LOWER(u.name) LIKE ?1 AND EXISTS (" + SHARES_WORKSPACE + ") " +
+                        "ORDER BY u.name, u.id", User.class)
+                .setParameter(1, pattern).setParameter(2, userId).setMaxResults(PAGE).getResultList());
+    }
+
+    @Benchmark
+    public byte[] userSearchRecords() throws Exception {
+        String pattern = prefix();
+        long userId = searcher();
+        return inSession(session -> session.createQuery(
+                        "SELECT new com.devsync.dto.UserListItem(u.id, u.name, u.profilePhoto, u.status, u.lastSeen) " +
+                        "FROM User u WHERE LOWER(u.name) LIKE ?1 AND EXISTS (" + SHARES_WORKSPACE + ") " +
+                        "ORDER BY u.name, u.id", UserListItem.class)
+                .setParameter(1, pattern).setParameter(2, userId).setMaxResults(PAGE).getResultList());
+    }
+
+    @Benchmark
+    public byte[] channelMembersEntities() throws Exception {
+        long channelId = 1 + ThreadLocalRandom.current().nextInt(CHANNELS);
+        return inSession(session -> {
+            List<User> members = new ArrayList<>();
+            // The creator is already in the session as a lazy proxy
+            session.find(Channel.class, channelId).getMembers()
+                    .forEach(member -> members.add((User) Hibernate.unproxy(member)));
+            members.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+            return members.subList(0, Math.min(PAGE, members.size()));
+        });
+    }
+
+    @Benchmark
+    public byte[] channelMembersRecords() throws Exception {
+        long channelId = 1 + ThreadLocalRandom.current().nextInt(CHANNELS);
+        return inSession(session -> session.createQuery(
+                        "SELECT new com.devsync.dto.UserListItem(u.id, u.name, u.profilePhoto, u.status, u.lastSeen) " +
+                        "FROM Channel c JOIN c.members u WHERE c.id = ?1 AND u.id > ?2 ORDER BY u.id",
+                        UserListItem.class)
+                .setParameter(1, channelId).setParameter(2, 0L).setMaxResults(PAGE).getResultList());
+    }
+
+    private byte[] inSession(Function<Session, Object> query) throws Exception {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            try {
+                // Serialized with the session open, as a controller returning entities would be
+                return objectMapper.writeValueAsBytes(query.apply(session));
+            } finally {
+                session.getTransaction().commit();
+            }
+        }
+    }
+
+    private static String prefix() {
+        return "user" + (1 + ThreadLocalRandom.current().nextInt(9)) + "%";
+    }
+
+    private static long searcher() {
+        return 1 + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    private void seed() throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (name, email, password, status, profile_photo) " +
+                    "SELECT 'user' || i, 'user' || i || '@bench.local', 'x', 'OFFLINE', " +
+                    "'https://cdn.bench.local/avatars/' || i || '.png' FROM generate_series(1, " + USERS + ") i");
+            // Each user belongs to one workspace, so a search sees a quarter of all users
+            statement.execute("INSERT INTO workspaces (name, owner_id) " +
+                    "SELECT 'workspace-' || i, 1 FROM generate_series(1, " + WORKSPACES + ") i");
+            statement.execute("INSERT INTO workspace_members (workspace_id, user_id) " +
+                    "SELECT 1 + u % " + WORKSPACES + ", u FROM generate_series(1, " + USERS + ") u");
+            statement.execute("INSERT INTO channels (name, type, archived, created_by) " +
+                    "SELECT 'channel-' || i, 'PUBLIC', false, 1 FROM generate_series(1, " + CHANNELS + ") i");
+            // Every channel has a quarter of all users
+            statement.execute("INSERT INTO channel_members (channel_id, user_id) " +
+                    "SELECT c, u FROM generate_series(1, " + CHANNELS + ") c, generate_series(1, " + USERS + ") u " +
+                    "WHERE (u + c) % 4 = 0");
+            statement.execute("ANALYZE");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.devsync.benchmark;
+
+import com.devsync.dto.ChatMessage;
+import com.devsync.dto.SendMessageRequest;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The conversion work the broker does per frame: decoding an inbound SEND into
+ * a request object, and turning an outbound payload into an encoded MESSAGE frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StompConversionBenchmark {
+    private MappingJackson2MessageConverter converter;
+    private StompEncoder encoder;
+    private StompDecoder decoder;
+    private ChatMessage payload;
+    private MessageHeaders outboundHeaders;
+    private byte[] sendFrame;
+
+    @Setup
+    public void setUp() {
+        converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(JsonMapper.builder().findAndAddModules().build());
+        encoder = new StompEncoder();
+        decoder = new StompDecoder();
+        payload = Fixtures.chatMessage();
+
+        StompHeaderAccessor outbound = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        outbound.setDestination("/topic/channels/7");
+        outbound.setSubscriptionId("sub-0");
+        outbound.setMessageId("42-1");
+        outbound.setLeaveMutable(true);
+        outboundHeaders = outbound.getMessageHeaders();
+
+        sendFrame = ("SEND\n"
+                + "destination:/app/channels/7/send\n"
+                + "content-type:application/json\n"
+                + "\n"
+                + "{\"content\":\"Pushed the fix for the reconnect loop, @michael can you take a look?\"}"
+                + "\0").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] outboundMessage() {
+        Message<?> converted = converter.toMessage(payload, outboundHeaders);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(converted);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return encoder.encode(MessageBuilder.createMessage((byte[]) converted.getPayload(), accessor.getMessageHeaders()));
+    }
+
+    @Benchmark
+    public Object inboundSend() {
+        List<Message<byte[]>> frames = decoder.decode(ByteBuffer.wrap(sendFrame));
+        return converter.fromMessage(frames.get(0), SendMessageRequest.class);
+    }
+}
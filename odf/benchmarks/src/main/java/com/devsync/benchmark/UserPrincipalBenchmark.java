@@ -0,0 +1,27 @@
+package com.devsync.benchmark;
+
+import com.devsync.model.User;
+import com.devsync.security.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UserPrincipalBenchmark {
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user();
+    }
+
+    @Benchmark
+    public UserPrincipal create() {
+        return UserPrincipal.create(user);
+    }
+}
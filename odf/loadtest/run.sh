@@ -0,0 +1,8 @@
+#!/usr/bin/env sh
+# Builds the backend and runs the STOMP load harness against an embedded Postgres.
+# Options are passed through, e.g. ./run.sh --clients=2000 --channels=50 --duration=120
+set -e
+cd "$(dirname "$0")"
+
+mvn -B -q -f ../backend/pom.xml install -DskipTests
+mvn -B -q compile exec:java -Dexec.args="$*"
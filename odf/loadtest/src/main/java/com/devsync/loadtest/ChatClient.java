@@ -0,0 +1,89 @@
+package com.devsync.loadtest;
+
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One simulated user: a STOMP session subscribed to its channel's message and reaction topics.
+ */
+class ChatClient {
+    static final String MARKER = "lt|";
+
+    final long userId;
+    final long channelId;
+    final String token;
+    private volatile StompSession session;
+
+    ChatClient(long userId, long channelId, String token) {
+        this.userId = userId;
+        this.channelId = channelId;
+        this.token = token;
+    }
+
+    CompletableFuture<ChatClient> connect(WebSocketStompClient stompClient, String wsUrl, boolean deflate,
+                                          LoadStats stats) {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        if (deflate) {
+            // Offer per-message compression the way mobile clients do
+            handshakeHeaders.setSecWebSocketExtensions(List.of(new WebSocketExtension("permessage-deflate")));
+        }
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        return stompClient.connectAsync(wsUrl, handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() {})
+                .thenApply(s -> {
+                    session = s;
+                    s.subscribe("/topic/channels/" + channelId, new Handler(stats, false));
+                    s.subscribe("/topic/channels/" + channelId + "/reactions", new Handler(stats, true));
+                    return this;
+                });
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    private class Handler implements StompFrameHandler {
+        private final LoadStats stats;
+        private final boolean reactions;
+
+        Handler(LoadStats stats, boolean reactions) {
+            this.stats = stats;
+            this.reactions = reactions;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            if (reactions) {
+                stats.reactionsDelivered.increment();
+                return;
+            }
+            Map<?, ?> message = (Map<?, ?>) payload;
+            Object content = message.get("content");
+            if (content instanceof String text && text.startsWith(MARKER)) {
+                int end = text.indexOf('|', MARKER.length());
+                stats.recordDelivery(Long.parseLong(text.substring(MARKER.length(), end)));
+            }
+            if (message.get("id") instanceof Number id) {
+                stats.lastMessageIdByChannel.merge(channelId, id.longValue(), Math::max);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.devsync.loadtest;
+
+import com.devsync.DevSyncApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the backend in a child JVM against an embedded PostgreSQL binary, so a
+ * load run needs neither a database server nor containers, and the server CPU
+ * and heap in the report are the backend's alone, not the clients'. The
+ * backend's output goes to {@code target/backend.log}.
+ */
+class EmbeddedBackend implements AutoCloseable {
+    static final int SERVER_PORT = 18080;
+    static final int MANAGEMENT_PORT = 18081;
+    static final Path LOG = Paths.get("target", "backend.log");
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final EmbeddedPostgres postgres;
+    private final Process process;
+
+    EmbeddedBackend() throws IOException, InterruptedException {
+        postgres = EmbeddedPostgres.builder().start();
+        Files.createDirectories(LOG.toAbsolutePath().getParent());
+        List<String> command = List.of(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", classpath(),
+                DevSyncApplication.class.getName(),
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=" + jdbcUrl(),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--server.port=" + SERVER_PORT,
+                "--management.server.port=" + MANAGEMENT_PORT,
+                // Overall health is DOWN without a mail server; readiness only tracks startup
+                "--management.endpoint.health.probes.enabled=true",
+                // Every simulated client connects from loopback
+                "--ratelimit.exempt-addresses=127.0.0.1,0:0:0:0:0:0:0:1");
+        process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(LOG.toFile()).start();
+        // Ctrl-C on the harness must not leave the backend running
+        Runtime.getRuntime().addShutdownHook(new Thread(process::destroy));
+        awaitReady();
+    }
+
+    String jdbcUrl() {
+        return postgres.getJdbcUrl("postgres", "postgres");
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + SERVER_PORT;
+    }
+
+    String managementUrl() {
+        return "http://localhost:" + MANAGEMENT_PORT;
+    }
+
+    private void awaitReady() throws IOException, InterruptedException {
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(managementUrl() + "/actuator/health/readiness")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with " + process.exitValue() + "; see " + LOG);
+            }
+            try {
+                if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        close();
+        throw new IllegalStateException("Backend did not start within " + STARTUP_TIMEOUT + "; see " + LOG);
+    }
+
+    /**
+     * The harness's own classpath. Under {@code exec:java} the project's
+     * classes sit in a URL class loader and {@code java.class.path} is Maven's.
+     */
+    private static String classpath() {
+        Set<String> entries = new LinkedHashSet<>();
+        for (ClassLoader loader = EmbeddedBackend.class.getClassLoader(); loader != null;
+             loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader urls) {
+                for (URL url : urls.getURLs()) {
+                    try {
+                        entries.add(Paths.get(url.toURI()).toString());
+                    } catch (URISyntaxException | IllegalArgumentException e) {
+                        // Not a local file; the backend cannot use it either
+                    }
+                }
+            }
+        }
+        return entries.isEmpty() ? System.getProperty("java.class.path")
+                                 : String.join(File.pathSeparator, new ArrayList<>(entries));
+    }
+
+    /**
+     * Stops the backend gracefully, as a deployment would, then the database.
+     */
+    @Override
+    public void close() throws IOException {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        postgres.close();
+    }
+}
@@ -0,0 +1,50 @@
+package com.devsync.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class HarnessOptions {
+    final int clients;
+    final int channels;
+    final int durationSeconds;
+    final int rampUpSeconds;
+    final double messagesPerSecond;
+    final double reactRatio;
+    final boolean deflate;
+    final String target;
+    final String managementUrl;
+    final String jdbcUrl;
+    final String jdbcUser;
+    final String jdbcPassword;
+
+    private HarnessOptions(Map<String, String> args) {
+        clients = Integer.parseInt(args.getOrDefault("clients", "500"));
+        channels = Integer.parseInt(args.getOrDefault("channels", "20"));
+        durationSeconds = Integer.parseInt(args.getOrDefault("duration", "60"));
+        rampUpSeconds = Integer.parseInt(args.getOrDefault("ramp-up", "10"));
+        messagesPerSecond = Double.parseDouble(args.getOrDefault("rate", "0.2"));
+        reactRatio = Double.parseDouble(args.getOrDefault("react-ratio", "0.2"));
+        deflate = Boolean.parseBoolean(args.getOrDefault("deflate", "true"));
+        target = args.get("target");
+        managementUrl = args.get("management-url");
+        jdbcUrl = args.get("jdbc-url");
+        jdbcUser = args.getOrDefault("jdbc-user", "devsync_user");
+        jdbcPassword = args.getOrDefault("jdbc-password", "password");
+    }
+
+    boolean embedded() {
+        return target == null;
+    }
+
+    static HarnessOptions parse(String[] argv) {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : argv) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            args.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        return new HarnessOptions(args);
+    }
+}
@@ -0,0 +1,216 @@
+package com.devsync.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Simulates many STOMP clients joining channels, posting messages and reacting,
+ * then reports delivery latency percentiles, throughput and server CPU/heap.
+ *
+ * <p>Without {@code --target} the backend is started in a separate JVM against
+ * an embedded PostgreSQL. With {@code --target=http://host:8080} an already
+ * running backend is used; {@code --jdbc-url} is then required for seeding
+ * and {@code --management-url} enables server metrics.
+ */
+public class LoadHarness {
+    private static final String[] EMOJIS = {"👍", "🎉", "🚀", "👀", "✅"};
+
+    public static void main(String[] args) throws Exception {
+        HarnessOptions options = HarnessOptions.parse(args);
+        EmbeddedBackend backend = options.embedded() ? new EmbeddedBackend() : null;
+        try {
+            String baseUrl = backend != null ? backend.baseUrl() : options.target;
+            String managementUrl = backend != null ? backend.managementUrl() : options.managementUrl;
+            if (backend == null && options.jdbcUrl == null) {
+                throw new IllegalArgumentException("--jdbc-url is required when --target is set");
+            }
+
+            Seeder.Seed seed = backend != null
+                    ? Seeder.seed(backend.jdbcUrl(), "postgres", "postgres", options.clients, options.channels)
+                    : Seeder.seed(options.jdbcUrl, options.jdbcUser, options.jdbcPassword, options.clients, options.channels);
+            new LoadHarness(options, baseUrl, managementUrl, seed).run();
+        } finally {
+            if (backend != null) {
+                backend.close();
+            }
+        }
+    }
+
+    private final HarnessOptions options;
+    private final String baseUrl;
+    private final String managementUrl;
+    private final Seeder.Seed seed;
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadStats stats = new LoadStats();
+
+    private LoadHarness(HarnessOptions options, String baseUrl, String managementUrl, Seeder.Seed seed) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.managementUrl = managementUrl;
+        this.seed = seed;
+    }
+
+    private void run() throws Exception {
+        List<ChatClient> clients = signIn();
+        log("Signed in %d users", clients.size());
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(4);
+        heartbeatScheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setTaskScheduler(heartbeatScheduler);
+
+        AtomicIntegerArray membersOnline = new AtomicIntegerArray(options.channels);
+        List<CompletableFuture<ChatClient>> connections = new ArrayList<>();
+        for (int i = 0; i < clients.size(); i++) {
+            int channelIndex = i % options.channels;
+            connections.add(clients.get(i).connect(stompClient, baseUrl + "/ws", options.deflate, stats)
+                    .whenComplete((client, error) -> {
+                        if (error == null) {
+                            stats.connected.increment();
+                            membersOnline.incrementAndGet(channelIndex);
+                        } else {
+                            stats.connectErrors.increment();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null).get(2, TimeUnit.MINUTES);
+        log("Connected %d clients (%d failed)", stats.connected.sum(), stats.connectErrors.sum());
+
+        ServerMetricsSampler sampler = managementUrl != null ? new ServerMetricsSampler(managementUrl) : null;
+        if (sampler != null) {
+            sampler.start();
+        }
+
+        ScheduledExecutorService load = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()));
+        long periodMicros = (long) (1_000_000 / options.messagesPerSecond);
+        long start = System.nanoTime();
+        for (int i = 0; i < clients.size(); i++) {
+            ChatClient client = clients.get(i);
+            int channelIndex = i % options.channels;
+            long initialDelay = ThreadLocalRandom.current().nextLong(options.rampUpSeconds * 1_000_000L + 1);
+            load.scheduleAtFixedRate(() -> act(client, channelIndex, membersOnline),
+                    initialDelay, periodMicros, TimeUnit.MICROSECONDS);
+        }
+
+        TimeUnit.SECONDS.sleep(options.durationSeconds);
+        load.shutdownNow();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        log("Load finished, draining deliveries");
+        TimeUnit.SECONDS.sleep(5);
+
+        stats.print(System.out, elapsedSeconds, sampler);
+
+        if (sampler != null) {
+            sampler.close();
+        }
+        // The backend must see every DISCONNECT before it is stopped, or its shutdown rejects them
+        clients.forEach(ChatClient::disconnect);
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+        heartbeatScheduler.getScheduledExecutor().awaitTermination(5, TimeUnit.SECONDS);
+        TimeUnit.SECONDS.sleep(2);
+    }
+
+    private void act(ChatClient client, int channelIndex, AtomicIntegerArray membersOnline) {
+        Long lastMessageId = stats.lastMessageIdByChannel.get(client.channelId);
+        if (lastMessageId != null && ThreadLocalRandom.current().nextDouble() < options.reactRatio) {
+            String emoji = EMOJIS[ThreadLocalRandom.current().nextInt(EMOJIS.length)];
+            post(client, "/api/messages/" + lastMessageId + "/reactions", "{\"emoji\":\"" + emoji + "\"}")
+                    .thenAccept(ok -> {
+                        if (ok) {
+                            stats.reactionsSent.increment();
+                        }
+                    });
+            return;
+        }
+
+        long sentAt = System.nanoTime();
+        String content = ChatClient.MARKER + sentAt + "| load message from user " + client.userId;
+        post(client, "/api/channels/" + client.channelId + "/messages", "{\"content\":\"" + content + "\"}")
+                .thenAccept(ok -> {
+                    stats.recordSend(sentAt, ok);
+                    if (ok) {
+                        stats.expectedDeliveries.add(membersOnline.get(channelIndex));
+                    }
+                });
+    }
+
+    private CompletableFuture<Boolean> post(ChatClient client, String path, String json) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + client.token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> response.statusCode() / 100 == 2)
+                .exceptionally(e -> false);
+    }
+
+    private List<ChatClient> signIn() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<CompletableFuture<ChatClient>> futures = new ArrayList<>();
+            for (int i = 0; i < seed.emails.size(); i++) {
+                long userId = seed.userIds.get(i);
+                long channelId = seed.channelIds.get(i % options.channels);
+                String email = seed.emails.get(i);
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> new ChatClient(userId, channelId, token(email)), pool));
+            }
+            List<ChatClient> clients = new ArrayList<>();
+            for (CompletableFuture<ChatClient> future : futures) {
+                clients.add(future.get());
+            }
+            return clients;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private String token(String email) {
+        try {
+            String body = objectMapper.writeValueAsString(
+                    Map.of("email", email, "password", Seeder.PASSWORD));
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/signin"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            JsonNode json = objectMapper.readTree(response.body());
+            return json.get("accessToken").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException("Sign-in failed for " + email, e);
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,66 @@
+package com.devsync.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LoadStats {
+    final Histogram deliveryLatencyMicros = new ConcurrentHistogram(3);
+    final Histogram sendLatencyMicros = new ConcurrentHistogram(3);
+    final LongAdder connected = new LongAdder();
+    final LongAdder connectErrors = new LongAdder();
+    final LongAdder sent = new LongAdder();
+    final LongAdder sendErrors = new LongAdder();
+    final LongAdder expectedDeliveries = new LongAdder();
+    final LongAdder delivered = new LongAdder();
+    final LongAdder reactionsSent = new LongAdder();
+    final LongAdder reactionsDelivered = new LongAdder();
+    final ConcurrentHashMap<Long, Long> lastMessageIdByChannel = new ConcurrentHashMap<>();
+
+    void recordDelivery(long sentNanos) {
+        delivered.increment();
+        deliveryLatencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentNanos)));
+    }
+
+    void recordSend(long startNanos, boolean success) {
+        sendLatencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos)));
+        if (success) {
+            sent.increment();
+        } else {
+            sendErrors.increment();
+        }
+    }
+
+    void print(PrintStream out, double elapsedSeconds, ServerMetricsSampler server) {
+        out.println();
+        out.println("=== DevSync STOMP load report ===");
+        out.printf("clients connected      %d (%d failed)%n", connected.sum(), connectErrors.sum());
+        out.printf("duration               %.1f s%n", elapsedSeconds);
+        out.printf("messages sent          %d (%d errors), %.1f msg/s%n",
+                sent.sum(), sendErrors.sum(), sent.sum() / elapsedSeconds);
+        out.printf("deliveries             %d of %d expected (%.2f%%), %.1f deliveries/s%n",
+                delivered.sum(), expectedDeliveries.sum(),
+                expectedDeliveries.sum() == 0 ? 0 : 100.0 * delivered.sum() / expectedDeliveries.sum(),
+                delivered.sum() / elapsedSeconds);
+        out.printf("reactions              %d sent, %d delivered%n", reactionsSent.sum(), reactionsDelivered.sum());
+        printLatency(out, "delivery latency", deliveryLatencyMicros);
+        printLatency(out, "send (REST) latency", sendLatencyMicros);
+        if (server != null) {
+            out.printf("server cpu             avg %.1f%%, max %.1f%%%n", server.averageCpu() * 100, server.maxCpu() * 100);
+            out.printf("server heap            max %.1f MiB%n", server.maxHeapBytes() / (1024.0 * 1024.0));
+        }
+    }
+
+    private static void printLatency(PrintStream out, String label, Histogram histogram) {
+        out.printf("%-22s p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms%n", label,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.devsync.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the load-test users, channels and memberships directly over JDBC.
+ * Every user gets the password "password".
+ */
+class Seeder {
+    static final String PASSWORD = "password";
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+
+    static class Seed {
+        final List<Long> userIds = new ArrayList<>();
+        final List<String> emails = new ArrayList<>();
+        final List<Long> channelIds = new ArrayList<>();
+    }
+
+    static Seed seed(String jdbcUrl, String user, String password, int clients, int channels) throws SQLException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        Seed seed = new Seed();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, user, password)) {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO users (name, email, password, status, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, 'OFFLINE', now(), now())", Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < clients; i++) {
+                    String email = "lt-" + runId + "-" + i + "@devsync.test";
+                    insert.setString(1, "Load " + i);
+                    insert.setString(2, email);
+                    insert.setString(3, PASSWORD_HASH);
+                    insert.addBatch();
+                    seed.emails.add(email);
+                }
+                insert.executeBatch();
+                collectKeys(insert, seed.userIds);
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO channels (name, type, archived, created_by, created_at, updated_at) " +
+                    "VALUES (?, 'PUBLIC', false, ?, now(), now())", Statement.RETURN_GENERATED_KEYS)) {
+                for (int c = 0; c < channels; c++) {
+                    insert.setString(1, "lt-" + runId + "-" + c);
+                    insert.setLong(2, seed.userIds.get(0));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                collectKeys(insert, seed.channelIds);
+            }
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO channel_members (channel_id, user_id) VALUES (?, ?)")) {
+                for (int i = 0; i < clients; i++) {
+                    insert.setLong(1, seed.channelIds.get(i % channels));
+                    insert.setLong(2, seed.userIds.get(i));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+
+            connection.commit();
+        }
+        return seed;
+    }
+
+    private static void collectKeys(Statement statement, List<Long> ids) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+}
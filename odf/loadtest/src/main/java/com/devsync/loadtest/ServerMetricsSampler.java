@@ -0,0 +1,75 @@
+package com.devsync.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the target's Prometheus endpoint once a second for process CPU and heap usage.
+ */
+class ServerMetricsSampler implements AutoCloseable {
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final URI endpoint;
+
+    private volatile double cpuSum;
+    private volatile double cpuMax;
+    private volatile long heapMax;
+    private volatile int samples;
+
+    ServerMetricsSampler(String managementUrl) {
+        this.endpoint = URI.create(managementUrl + "/actuator/prometheus");
+    }
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+    }
+
+    private void sample() {
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(endpoint).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            double cpu = 0;
+            long heap = 0;
+            for (String line : response.body().split("\n")) {
+                if (line.startsWith("process_cpu_usage")) {
+                    cpu = value(line);
+                } else if (line.startsWith("jvm_memory_used_bytes") && line.contains("area=\"heap\"")) {
+                    heap += (long) value(line);
+                }
+            }
+            cpuSum += cpu;
+            cpuMax = Math.max(cpuMax, cpu);
+            heapMax = Math.max(heapMax, heap);
+            samples++;
+        } catch (Exception e) {
+            // The endpoint may not be up yet; the next sample will retry.
+        }
+    }
+
+    private static double value(String line) {
+        return Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+    }
+
+    double averageCpu() {
+        return samples == 0 ? 0 : cpuSum / samples;
+    }
+
+    double maxCpu() {
+        return cpuMax;
+    }
+
+    long maxHeapBytes() {
+        return heapMax;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}